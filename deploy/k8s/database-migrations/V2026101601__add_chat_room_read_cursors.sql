@@ -0,0 +1,59 @@
+-- Expand-phase migration for read cursors. The backend stops writing
+-- message_read_by but the table and its rows stay in place, so a rolled-back
+-- backend still reads the receipts recorded before this release. A later
+-- contract migration drops the table.
+--
+-- Every statement is idempotent: a retry after a failure before the ledger
+-- write recreates nothing and only raises cursors to the same high-watermark.
+
+CREATE TABLE IF NOT EXISTS `chat_room_read_cursors` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,
+    `room_id` VARCHAR(255) NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `last_read_at` DATETIME(6) NOT NULL,
+    `last_read_message_id` VARCHAR(255) NULL,
+    `updated_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_chat_room_read_cursor_room_user` (`room_id`, `user_id`)
+) ENGINE=InnoDB;
+
+-- Unread counts and cursor moves are range scans over one room's timeline.
+SET @messages_room_created_index_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'messages'
+      AND index_name = 'idx_messages_room_created_at'
+);
+
+SET @messages_room_created_index = IF(
+    @messages_room_created_index_exists > 0,
+    'SELECT 1',
+    'CREATE INDEX `idx_messages_room_created_at` ON `messages` (`chat_room_id`, `created_at`)'
+);
+
+PREPARE messages_room_created_index_statement FROM @messages_room_created_index;
+EXECUTE messages_room_created_index_statement;
+DEALLOCATE PREPARE messages_room_created_index_statement;
+
+-- A member's cursor starts at the newest message from someone else that they
+-- had read. The legacy rows always listed the sender and the schedule-card
+-- creator as readers, so those rows say nothing about what the member saw.
+-- Older messages the member skipped become read as well, which is how a
+-- high-watermark behaves.
+INSERT INTO `chat_room_read_cursors` (
+    `room_id`, `user_id`, `last_read_at`, `last_read_message_id`, `updated_at`
+)
+SELECT message.chat_room_id,
+       read_by.user_id,
+       MAX(message.created_at),
+       NULL,
+       UTC_TIMESTAMP(6)
+FROM message_read_by read_by
+JOIN messages message ON message.id = read_by.message_id
+WHERE message.sender_id <> read_by.user_id
+  AND message.type <> 'SCHEDULE'
+  AND message.created_at IS NOT NULL
+GROUP BY message.chat_room_id, read_by.user_id
+ON DUPLICATE KEY UPDATE
+    `last_read_at` = GREATEST(`last_read_at`, VALUES(`last_read_at`));
@@ -0,0 +1,42 @@
+-- LATEST and public feed slices read the keyset (created_at, id) in
+-- descending order. Without these indexes every slice sorts the whole table.
+-- The public feed filters on public_preview first, so it gets its own index.
+--
+-- Both statements are guarded by information_schema checks, so a retry after a
+-- failure before the ledger write changes nothing that is already in place.
+
+SET @feed_posts_created_id_index_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'feed_posts'
+      AND index_name = 'idx_feed_posts_created_id'
+);
+
+SET @feed_posts_created_id_index = IF(
+    @feed_posts_created_id_index_exists > 0,
+    'SELECT 1',
+    'CREATE INDEX `idx_feed_posts_created_id` ON `feed_posts` (`created_at`, `id`)'
+);
+
+PREPARE feed_posts_created_id_index_statement FROM @feed_posts_created_id_index;
+EXECUTE feed_posts_created_id_index_statement;
+DEALLOCATE PREPARE feed_posts_created_id_index_statement;
+
+SET @feed_posts_public_created_id_index_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'feed_posts'
+      AND index_name = 'idx_feed_posts_public_created_id'
+);
+
+SET @feed_posts_public_created_id_index = IF(
+    @feed_posts_public_created_id_index_exists > 0,
+    'SELECT 1',
+    'CREATE INDEX `idx_feed_posts_public_created_id` ON `feed_posts` (`public_preview`, `created_at`, `id`)'
+);
+
+PREPARE feed_posts_public_created_id_index_statement FROM @feed_posts_public_created_id_index;
+EXECUTE feed_posts_public_created_id_index_statement;
+DEALLOCATE PREPARE feed_posts_public_created_id_index_statement;
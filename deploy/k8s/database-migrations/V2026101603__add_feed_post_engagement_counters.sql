@@ -0,0 +1,61 @@
+-- Expand-phase migration for denormalized feed engagement counters. Feed
+-- reads select like_count and comment_count from every post row, so the
+-- columns must exist before the new backend rolls out. A rolled-back backend
+-- ignores them.
+--
+-- Each ADD COLUMN is guarded by an information_schema check, and the backfill
+-- recomputes the totals from their source tables, so a retry after a failure
+-- before the ledger write only writes the same counts again.
+
+SET @feed_posts_like_count_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE()
+      AND table_name = 'feed_posts'
+      AND column_name = 'like_count'
+);
+
+SET @feed_posts_like_count = IF(
+    @feed_posts_like_count_exists > 0,
+    'SELECT 1',
+    'ALTER TABLE `feed_posts` ADD COLUMN `like_count` BIGINT NOT NULL DEFAULT 0'
+);
+
+PREPARE feed_posts_like_count_statement FROM @feed_posts_like_count;
+EXECUTE feed_posts_like_count_statement;
+DEALLOCATE PREPARE feed_posts_like_count_statement;
+
+SET @feed_posts_comment_count_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE()
+      AND table_name = 'feed_posts'
+      AND column_name = 'comment_count'
+);
+
+SET @feed_posts_comment_count = IF(
+    @feed_posts_comment_count_exists > 0,
+    'SELECT 1',
+    'ALTER TABLE `feed_posts` ADD COLUMN `comment_count` BIGINT NOT NULL DEFAULT 0'
+);
+
+PREPARE feed_posts_comment_count_statement FROM @feed_posts_comment_count;
+EXECUTE feed_posts_comment_count_statement;
+DEALLOCATE PREPARE feed_posts_comment_count_statement;
+
+-- Existing posts start with their real totals instead of zero. Likes and
+-- comments that a previous backend writes between this migration and the
+-- rollout are repaired by the hourly reconciliation job.
+UPDATE `feed_posts` post
+LEFT JOIN (
+    SELECT pl.post_id, COUNT(*) AS total
+    FROM post_likes pl
+    GROUP BY pl.post_id
+) likes ON likes.post_id = post.id
+LEFT JOIN (
+    SELECT pc.post_id, COUNT(*) AS total
+    FROM post_comments pc
+    GROUP BY pc.post_id
+) comments ON comments.post_id = post.id
+SET post.like_count = COALESCE(likes.total, 0),
+    post.comment_count = COALESCE(comments.total, 0);
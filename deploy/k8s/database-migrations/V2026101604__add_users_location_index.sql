@@ -0,0 +1,25 @@
+-- Nearby matching narrows users to a latitude bounding box before the
+-- distance check. Without this index every match request scans the whole
+-- users table. The index was declared only on the entity, and production never
+-- creates schema from entity metadata.
+--
+-- The statement is guarded by an information_schema check, so a retry after a
+-- failure before the ledger write changes nothing that is already in place.
+
+SET @users_lat_lng_index_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'users'
+      AND index_name = 'idx_users_lat_lng'
+);
+
+SET @users_lat_lng_index = IF(
+    @users_lat_lng_index_exists > 0,
+    'SELECT 1',
+    'CREATE INDEX `idx_users_lat_lng` ON `users` (`latitude`, `longitude`)'
+);
+
+PREPARE users_lat_lng_index_statement FROM @users_lat_lng_index;
+EXECUTE users_lat_lng_index_statement;
+DEALLOCATE PREPARE users_lat_lng_index_statement;
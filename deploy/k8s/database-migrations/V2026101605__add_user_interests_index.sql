@@ -0,0 +1,25 @@
+-- Locationless matching draws candidates from user_interests by tag. The index
+-- was declared only on the entity, so every lookup scanned the whole table.
+-- Stored tags keep the casing users entered; the column collation ignores
+-- case, so one lower-case lookup value per tag still uses this index.
+--
+-- The statement is guarded by an information_schema check, so a retry after a
+-- failure before the ledger write changes nothing that is already in place.
+
+SET @user_interests_interest_index_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'user_interests'
+      AND index_name = 'idx_user_interests_interest'
+);
+
+SET @user_interests_interest_index = IF(
+    @user_interests_interest_index_exists > 0,
+    'SELECT 1',
+    'CREATE INDEX `idx_user_interests_interest` ON `user_interests` (`interest`)'
+);
+
+PREPARE user_interests_interest_index_statement FROM @user_interests_interest_index;
+EXECUTE user_interests_interest_index_statement;
+DEALLOCATE PREPARE user_interests_interest_index_statement;
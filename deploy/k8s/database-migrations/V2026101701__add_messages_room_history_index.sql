@@ -0,0 +1,44 @@
+-- Message history pages by the keyset (created_at, id) inside one room, so the
+-- index carries the id tie-breaker explicitly. The older
+-- (chat_room_id, created_at) index is a prefix of the new one and is dropped
+-- once the new index exists; unread counts and cursor moves, including those
+-- of a rolled-back backend, are served by the same prefix.
+--
+-- Both statements are guarded by information_schema checks, so a retry after a
+-- failure before the ledger write changes nothing that is already in place.
+
+SET @messages_room_created_id_index_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'messages'
+      AND index_name = 'idx_messages_room_created_id'
+);
+
+SET @messages_room_created_id_index = IF(
+    @messages_room_created_id_index_exists > 0,
+    'SELECT 1',
+    'CREATE INDEX `idx_messages_room_created_id` ON `messages` (`chat_room_id`, `created_at`, `id`)'
+);
+
+PREPARE messages_room_created_id_index_statement FROM @messages_room_created_id_index;
+EXECUTE messages_room_created_id_index_statement;
+DEALLOCATE PREPARE messages_room_created_id_index_statement;
+
+SET @messages_room_created_index_exists = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'messages'
+      AND index_name = 'idx_messages_room_created_at'
+);
+
+SET @drop_messages_room_created_index = IF(
+    @messages_room_created_index_exists > 0,
+    'DROP INDEX `idx_messages_room_created_at` ON `messages`',
+    'SELECT 1'
+);
+
+PREPARE drop_messages_room_created_index_statement FROM @drop_messages_room_created_index;
+EXECUTE drop_messages_room_created_index_statement;
+DEALLOCATE PREPARE drop_messages_room_created_index_statement;
@@ -9,11 +9,17 @@ readonly DEPLOY_DIR="$SCRIPT_DIR/.."
 readonly RUNNER="$DEPLOY_DIR/run-database-migrations.sh"
 readonly MIGRATION="$DEPLOY_DIR/database-migrations/V2026071501__migrate_message_type_to_varchar.sql"
 readonly CALENDAR_MIGRATION="$DEPLOY_DIR/database-migrations/V2026071601__backfill_chat_schedule_calendar.sql"
+readonly READ_CURSOR_MIGRATION="$DEPLOY_DIR/database-migrations/V2026101601__add_chat_room_read_cursors.sql"
+readonly FEED_KEYSET_INDEX_MIGRATION="$DEPLOY_DIR/database-migrations/V2026101602__add_feed_post_keyset_indexes.sql"
+readonly ENGAGEMENT_COUNTER_MIGRATION="$DEPLOY_DIR/database-migrations/V2026101603__add_feed_post_engagement_counters.sql"
+readonly USER_LOCATION_INDEX_MIGRATION="$DEPLOY_DIR/database-migrations/V2026101604__add_users_location_index.sql"
+readonly USER_INTEREST_INDEX_MIGRATION="$DEPLOY_DIR/database-migrations/V2026101605__add_user_interests_index.sql"
+readonly HISTORY_INDEX_MIGRATION="$DEPLOY_DIR/database-migrations/V2026101701__add_messages_room_history_index.sql"
 readonly DEPLOY_ON_NODE="$DEPLOY_DIR/deploy-on-node.sh"
 readonly BUILD_BUNDLE="$DEPLOY_DIR/build-bundle.sh"
 readonly BACKEND_MANIFEST="$DEPLOY_DIR/base/backend.yaml"
 
-for required in "$RUNNER" "$MIGRATION" "$CALENDAR_MIGRATION" "$DEPLOY_ON_NODE" "$BUILD_BUNDLE" "$BACKEND_MANIFEST"; do
+for required in "$RUNNER" "$MIGRATION" "$CALENDAR_MIGRATION" "$READ_CURSOR_MIGRATION" "$FEED_KEYSET_INDEX_MIGRATION" "$ENGAGEMENT_COUNTER_MIGRATION" "$USER_LOCATION_INDEX_MIGRATION" "$USER_INTEREST_INDEX_MIGRATION" "$HISTORY_INDEX_MIGRATION" "$DEPLOY_ON_NODE" "$BUILD_BUNDLE" "$BACKEND_MANIFEST"; do
   [[ -s "$required" ]] || { echo "Missing database migration contract file: $required" >&2; exit 1; }
 done
 
@@ -59,6 +65,46 @@ commit_line="$(grep -nF -m1 'COMMIT;' "$CALENDAR_MIGRATION" | cut -d: -f1)"
   echo "Calendar backfill must lock its room snapshot inside one transaction" >&2
   exit 1
 }
+grep -Fq 'CREATE TABLE IF NOT EXISTS `chat_room_read_cursors`' "$READ_CURSOR_MIGRATION"
+grep -Fq 'UNIQUE KEY `uk_chat_room_read_cursor_room_user` (`room_id`, `user_id`)' "$READ_CURSOR_MIGRATION"
+grep -Fq "index_name = 'idx_messages_room_created_at'" "$READ_CURSOR_MIGRATION"
+grep -Fq 'WHERE message.sender_id <> read_by.user_id' "$READ_CURSOR_MIGRATION"
+grep -Fq 'GREATEST(`last_read_at`, VALUES(`last_read_at`))' "$READ_CURSOR_MIGRATION"
+if grep -Eiq '^[[:space:]]*(DROP|DELETE|TRUNCATE)[[:space:]].*message_read_by' "$READ_CURSOR_MIGRATION"; then
+  echo "Read cursor expand migration must keep message_read_by for rollback" >&2
+  exit 1
+fi
+grep -Fq "index_name = 'idx_feed_posts_created_id'" "$FEED_KEYSET_INDEX_MIGRATION"
+grep -Fq 'CREATE INDEX `idx_feed_posts_created_id` ON `feed_posts` (`created_at`, `id`)' "$FEED_KEYSET_INDEX_MIGRATION"
+grep -Fq "index_name = 'idx_feed_posts_public_created_id'" "$FEED_KEYSET_INDEX_MIGRATION"
+grep -Fq 'CREATE INDEX `idx_feed_posts_public_created_id` ON `feed_posts` (`public_preview`, `created_at`, `id`)' "$FEED_KEYSET_INDEX_MIGRATION"
+grep -Fq "column_name = 'like_count'" "$ENGAGEMENT_COUNTER_MIGRATION"
+grep -Fq 'ADD COLUMN `like_count` BIGINT NOT NULL DEFAULT 0' "$ENGAGEMENT_COUNTER_MIGRATION"
+grep -Fq "column_name = 'comment_count'" "$ENGAGEMENT_COUNTER_MIGRATION"
+grep -Fq 'ADD COLUMN `comment_count` BIGINT NOT NULL DEFAULT 0' "$ENGAGEMENT_COUNTER_MIGRATION"
+grep -Fq 'FROM post_likes pl' "$ENGAGEMENT_COUNTER_MIGRATION"
+grep -Fq 'FROM post_comments pc' "$ENGAGEMENT_COUNTER_MIGRATION"
+add_counter_line="$(grep -nF -m1 'ADD COLUMN `comment_count`' "$ENGAGEMENT_COUNTER_MIGRATION" | cut -d: -f1)"
+backfill_counter_line="$(grep -nF -m1 'UPDATE `feed_posts` post' "$ENGAGEMENT_COUNTER_MIGRATION" | cut -d: -f1)"
+[[ -n "$add_counter_line" && -n "$backfill_counter_line" && "$add_counter_line" -lt "$backfill_counter_line" ]] || {
+  echo "Engagement counter migration must add both columns before backfilling them" >&2
+  exit 1
+}
+grep -Fq "index_name = 'idx_users_lat_lng'" "$USER_LOCATION_INDEX_MIGRATION"
+grep -Fq 'CREATE INDEX `idx_users_lat_lng` ON `users` (`latitude`, `longitude`)' "$USER_LOCATION_INDEX_MIGRATION"
+if grep -Eiq '^[[:space:]]*UPDATE[[:space:]].*user_interests' "$USER_INTEREST_INDEX_MIGRATION"; then
+  echo "Interest index migration must keep stored interests as users entered them" >&2
+  exit 1
+fi
+grep -Fq "index_name = 'idx_user_interests_interest'" "$USER_INTEREST_INDEX_MIGRATION"
+grep -Fq 'CREATE INDEX `idx_user_interests_interest` ON `user_interests` (`interest`)' "$USER_INTEREST_INDEX_MIGRATION"
+grep -Fq 'CREATE INDEX `idx_messages_room_created_id` ON `messages` (`chat_room_id`, `created_at`, `id`)' "$HISTORY_INDEX_MIGRATION"
+create_index_line="$(grep -nF -m1 'CREATE INDEX `idx_messages_room_created_id`' "$HISTORY_INDEX_MIGRATION" | cut -d: -f1)"
+drop_index_line="$(grep -nF -m1 'DROP INDEX `idx_messages_room_created_at`' "$HISTORY_INDEX_MIGRATION" | cut -d: -f1)"
+[[ -n "$create_index_line" && -n "$drop_index_line" && "$create_index_line" -lt "$drop_index_line" ]] || {
+  echo "History index migration must create the keyset index before dropping its prefix index" >&2
+  exit 1
+}
 grep -Fq 'bash "$RELEASE_DIR/run-database-migrations.sh"' "$DEPLOY_ON_NODE"
 grep -Fq 'RUN_DATABASE_MIGRATIONS' "$DEPLOY_ON_NODE"
 grep -Fq 'Database migrations skipped for guarded application rollback; the database is never downgraded' "$DEPLOY_ON_NODE"
@@ -84,6 +84,31 @@ if [[ "$interactive" == "true" ]]; then
     grep -Fq "MD5(CONCAT('legacy-chat-schedule-message:', pending.schedule_id))" <<<"$migration_sql"
     grep -Fq 'message.schedule_id = pending.schedule_id' <<<"$migration_sql"
     printf 'calendar-backfill\n' >> "$apply_log"
+  elif grep -Fq 'CREATE TABLE IF NOT EXISTS `chat_room_read_cursors`' <<<"$migration_sql"; then
+    grep -Fq 'uk_chat_room_read_cursor_room_user' <<<"$migration_sql"
+    grep -Fq 'FROM message_read_by read_by' <<<"$migration_sql"
+    grep -Fq 'ON DUPLICATE KEY UPDATE' <<<"$migration_sql"
+    printf 'read-cursor-backfill\n' >> "$apply_log"
+  elif grep -Fq 'CREATE INDEX `idx_feed_posts_created_id`' <<<"$migration_sql"; then
+    grep -Fq "index_name = 'idx_feed_posts_created_id'" <<<"$migration_sql"
+    grep -Fq "index_name = 'idx_feed_posts_public_created_id'" <<<"$migration_sql"
+    grep -Fq 'CREATE INDEX `idx_feed_posts_public_created_id`' <<<"$migration_sql"
+    printf 'feed-keyset-index\n' >> "$apply_log"
+  elif grep -Fq 'ADD COLUMN `like_count` BIGINT NOT NULL DEFAULT 0' <<<"$migration_sql"; then
+    grep -Fq "column_name = 'like_count'" <<<"$migration_sql"
+    grep -Fq 'ADD COLUMN `comment_count` BIGINT NOT NULL DEFAULT 0' <<<"$migration_sql"
+    grep -Fq 'UPDATE `feed_posts` post' <<<"$migration_sql"
+    printf 'engagement-counter-backfill\n' >> "$apply_log"
+  elif grep -Fq 'CREATE INDEX `idx_users_lat_lng`' <<<"$migration_sql"; then
+    grep -Fq "index_name = 'idx_users_lat_lng'" <<<"$migration_sql"
+    printf 'user-location-index\n' >> "$apply_log"
+  elif grep -Fq 'CREATE INDEX `idx_user_interests_interest`' <<<"$migration_sql"; then
+    grep -Fq "index_name = 'idx_user_interests_interest'" <<<"$migration_sql"
+    printf 'user-interest-index\n' >> "$apply_log"
+  elif grep -Fq 'CREATE INDEX `idx_messages_room_created_id`' <<<"$migration_sql"; then
+    grep -Fq "index_name = 'idx_messages_room_created_id'" <<<"$migration_sql"
+    grep -Fq 'DROP INDEX `idx_messages_room_created_at`' <<<"$migration_sql"
+    printf 'message-history-index\n' >> "$apply_log"
   else
     echo 'unexpected migration SQL' >&2
     exit 2
@@ -135,6 +160,18 @@ migration="$fixture/database-migrations/V2026071501__migrate_message_type_to_var
 expected_checksum="$(sha256sum -- "$migration" | awk '{print $1}')"
 calendar_migration="$fixture/database-migrations/V2026071601__backfill_chat_schedule_calendar.sql"
 calendar_checksum="$(sha256sum -- "$calendar_migration" | awk '{print $1}')"
+read_cursor_migration="$fixture/database-migrations/V2026101601__add_chat_room_read_cursors.sql"
+read_cursor_checksum="$(sha256sum -- "$read_cursor_migration" | awk '{print $1}')"
+feed_keyset_index_migration="$fixture/database-migrations/V2026101602__add_feed_post_keyset_indexes.sql"
+feed_keyset_index_checksum="$(sha256sum -- "$feed_keyset_index_migration" | awk '{print $1}')"
+engagement_counter_migration="$fixture/database-migrations/V2026101603__add_feed_post_engagement_counters.sql"
+engagement_counter_checksum="$(sha256sum -- "$engagement_counter_migration" | awk '{print $1}')"
+user_location_index_migration="$fixture/database-migrations/V2026101604__add_users_location_index.sql"
+user_location_index_checksum="$(sha256sum -- "$user_location_index_migration" | awk '{print $1}')"
+user_interest_index_migration="$fixture/database-migrations/V2026101605__add_user_interests_index.sql"
+user_interest_index_checksum="$(sha256sum -- "$user_interest_index_migration" | awk '{print $1}')"
+history_index_migration="$fixture/database-migrations/V2026101701__add_messages_room_history_index.sql"
+history_index_checksum="$(sha256sum -- "$history_index_migration" | awk '{print $1}')"
 
 missing_schema_state="$test_root/missing-schema-state"
 mkdir -p -- "$missing_schema_state"
@@ -162,17 +199,35 @@ export FAKE_CALENDAR_SCHEMA_FINGERPRINT='14:18:4:9:2'
 first_output="$(bash "$fixture/run-database-migrations.sh")"
 grep -Fq 'Database migration applied: V2026071501__migrate_message_type_to_varchar.sql' <<<"$first_output"
 grep -Fq 'Database migration applied: V2026071601__backfill_chat_schedule_calendar.sql' <<<"$first_output"
+grep -Fq 'Database migration applied: V2026101601__add_chat_room_read_cursors.sql' <<<"$first_output"
+grep -Fq 'Database migration applied: V2026101602__add_feed_post_keyset_indexes.sql' <<<"$first_output"
+grep -Fq 'Database migration applied: V2026101603__add_feed_post_engagement_counters.sql' <<<"$first_output"
+grep -Fq 'Database migration applied: V2026101604__add_users_location_index.sql' <<<"$first_output"
+grep -Fq 'Database migration applied: V2026101605__add_user_interests_index.sql' <<<"$first_output"
+grep -Fq 'Database migration applied: V2026101701__add_messages_room_history_index.sql' <<<"$first_output"
 grep -Fxq "V2026071501"$'\t'"migrate_message_type_to_varchar"$'\t'"$expected_checksum" "$state/ledger.tsv"
 grep -Fxq "V2026071601"$'\t'"backfill_chat_schedule_calendar"$'\t'"$calendar_checksum" "$state/ledger.tsv"
-[[ "$(wc -l < "$state/ledger.tsv")" -eq 2 ]]
-[[ "$(wc -l < "$state/apply.log")" -eq 2 ]]
+grep -Fxq "V2026101601"$'\t'"add_chat_room_read_cursors"$'\t'"$read_cursor_checksum" "$state/ledger.tsv"
+grep -Fxq "V2026101602"$'\t'"add_feed_post_keyset_indexes"$'\t'"$feed_keyset_index_checksum" "$state/ledger.tsv"
+grep -Fxq "V2026101603"$'\t'"add_feed_post_engagement_counters"$'\t'"$engagement_counter_checksum" "$state/ledger.tsv"
+grep -Fxq "V2026101604"$'\t'"add_users_location_index"$'\t'"$user_location_index_checksum" "$state/ledger.tsv"
+grep -Fxq "V2026101605"$'\t'"add_user_interests_index"$'\t'"$user_interest_index_checksum" "$state/ledger.tsv"
+grep -Fxq "V2026101701"$'\t'"add_messages_room_history_index"$'\t'"$history_index_checksum" "$state/ledger.tsv"
+[[ "$(wc -l < "$state/ledger.tsv")" -eq 8 ]]
+[[ "$(wc -l < "$state/apply.log")" -eq 8 ]]
 grep -Fxq 'messages-absent-noop' "$state/apply.log"
 grep -Fxq 'calendar-backfill' "$state/apply.log"
+grep -Fxq 'read-cursor-backfill' "$state/apply.log"
+grep -Fxq 'feed-keyset-index' "$state/apply.log"
+grep -Fxq 'engagement-counter-backfill' "$state/apply.log"
+grep -Fxq 'user-location-index' "$state/apply.log"
+grep -Fxq 'user-interest-index' "$state/apply.log"
+grep -Fxq 'message-history-index' "$state/apply.log"
 
 second_output="$(bash "$fixture/run-database-migrations.sh")"
 grep -Fq 'Database migration already applied: V2026071501__migrate_message_type_to_varchar.sql' <<<"$second_output"
-[[ "$(wc -l < "$state/ledger.tsv")" -eq 2 ]]
-[[ "$(wc -l < "$state/apply.log")" -eq 2 ]]
+[[ "$(wc -l < "$state/ledger.tsv")" -eq 8 ]]
+[[ "$(wc -l < "$state/apply.log")" -eq 8 ]]
 
 renamed_migration="$fixture/database-migrations/V2026071501__renamed_description.sql"
 mv -- "$migration" "$renamed_migration"
@@ -182,8 +237,8 @@ description_drift_status=$?
 set -e
 [[ "$description_drift_status" -ne 0 ]] || { echo "description drift unexpectedly succeeded" >&2; exit 1; }
 grep -Fq 'Database migration description drift: V2026071501__renamed_description.sql' <<<"$description_drift_output"
-[[ "$(wc -l < "$state/ledger.tsv")" -eq 2 ]]
-[[ "$(wc -l < "$state/apply.log")" -eq 2 ]]
+[[ "$(wc -l < "$state/ledger.tsv")" -eq 8 ]]
+[[ "$(wc -l < "$state/apply.log")" -eq 8 ]]
 mv -- "$renamed_migration" "$migration"
 
 printf '\n-- deliberate checksum drift for the test fixture\n' >> "$migration"
@@ -193,7 +248,7 @@ drift_status=$?
 set -e
 [[ "$drift_status" -ne 0 ]] || { echo "checksum drift unexpectedly succeeded" >&2; exit 1; }
 grep -Fq 'Database migration checksum drift: V2026071501__migrate_message_type_to_varchar.sql' <<<"$drift_output"
-[[ "$(wc -l < "$state/ledger.tsv")" -eq 2 ]]
-[[ "$(wc -l < "$state/apply.log")" -eq 2 ]]
+[[ "$(wc -l < "$state/ledger.tsv")" -eq 8 ]]
+[[ "$(wc -l < "$state/apply.log")" -eq 8 ]]
 
 echo "Database migration runner handles first apply, messages-table-absent no-op, schema preflight, repeat, and metadata drift"
@@ -1,27 +1,36 @@
 package com.talkwithneighbors.config;
 
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * Chat notification work runs on {@code ChatNotificationDispatcher} lanes, not
+ * on an {@code @Async} executor. With virtual threads enabled the remaining
+ * {@code @Async} methods run on one virtual thread per call; otherwise Spring's
+ * default executor is kept.
+ */
 @Configuration
 @EnableAsync
-public class AsyncConfig {
-    @Bean(name = "chatNotificationExecutor")
-    public Executor chatNotificationExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("chat-notification-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(15);
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-        executor.initialize();
+public class AsyncConfig implements AsyncConfigurer {
+    private final Environment environment;
+
+    public AsyncConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return null;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+        executor.setVirtualThreads(true);
         return executor;
     }
 }
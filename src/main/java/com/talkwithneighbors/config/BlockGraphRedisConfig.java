@@ -0,0 +1,27 @@
+package com.talkwithneighbors.config;
+
+import com.talkwithneighbors.service.BlockGraphRedisRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@Profile("!local")
+@ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class BlockGraphRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer blockGraphListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            BlockGraphRedisRelay blockGraphRedisRelay
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(blockGraphRedisRelay, new ChannelTopic(BlockGraphRedisRelay.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,30 @@
+package com.talkwithneighbors.config;
+
+import com.talkwithneighbors.websocket.SessionRevocationRedisRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@Profile("!local")
+@ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionRevocationRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer sessionRevocationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SessionRevocationRedisRelay sessionRevocationRedisRelay
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                sessionRevocationRedisRelay,
+                new ChannelTopic(SessionRevocationRedisRelay.CHANNEL)
+        );
+        return container;
+    }
+}
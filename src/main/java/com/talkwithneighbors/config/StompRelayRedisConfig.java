@@ -0,0 +1,32 @@
+package com.talkwithneighbors.config;
+
+import com.talkwithneighbors.websocket.StompUserDestinationRelay;
+import com.talkwithneighbors.websocket.UserNodeRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@Profile("!local")
+@ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class StompRelayRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer stompRelayListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            UserNodeRegistry userNodeRegistry,
+            StompUserDestinationRelay stompUserDestinationRelay
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                stompUserDestinationRelay,
+                new ChannelTopic(userNodeRegistry.nodeChannel())
+        );
+        return container;
+    }
+}
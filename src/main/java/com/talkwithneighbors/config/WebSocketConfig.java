@@ -5,13 +5,18 @@ import com.talkwithneighbors.handler.SessionCookieHandshakeInterceptor;
 import com.talkwithneighbors.interceptor.CustomAuthenticationChannelInterceptor;
 import com.talkwithneighbors.service.RedisSessionService;
 import com.talkwithneighbors.websocket.AuthenticatedWebSocketSessionRegistry;
+import com.talkwithneighbors.websocket.StompUserDestinationRelay;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.messaging.access.intercept.AuthorizationChannelInterceptor;
 import org.springframework.security.messaging.context.SecurityContextChannelInterceptor;
@@ -27,6 +32,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
 
+    // 가상 스레드 모드에서 채널당 동시에 처리할 STOMP 프레임 수. 넘치면 큐에서 기다린다.
+    @Value("${app.websocket.virtual-channel-concurrency:256}")
+    private int virtualChannelConcurrency;
+
+    @Autowired
+    private Environment environment;
+
     // WebSocketSecurityConfig에서 생성된 AuthorizationManager<Message<?>> 빈을 주입
     @Autowired
     private AuthorizationManager<Message<?>> messageAuthorizationManager;
@@ -40,6 +52,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Autowired
     private AuthenticatedWebSocketSessionRegistry authenticatedWebSocketSessionRegistry;
 
+    // Redis가 없는 local 프로필에서는 빈이 없고 단일 노드 전달만 한다.
+    @Autowired
+    private ObjectProvider<StompUserDestinationRelay> stompUserDestinationRelay;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 메시지 브로커 설정
@@ -53,6 +69,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setApplicationDestinationPrefixes("/app");
         // 특정 사용자에게 메시지를 보낼 때의 prefix
         config.setUserDestinationPrefix("/user");
+        // 다른 노드에 연결된 사용자에게도 /user 목적지를 Redis로 중계한다.
+        stompUserDestinationRelay.ifAvailable(relay -> config.configureBrokerChannel().interceptors(relay));
     }
 
     @Bean
@@ -96,5 +114,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         AuthorizationChannelInterceptor authorizationChannelInterceptor = 
             new AuthorizationChannelInterceptor(messageAuthorizationManager);
         registration.interceptors(authorizationChannelInterceptor);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadChannelExecutor("clientInboundChannel-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadChannelExecutor("clientOutboundChannel-"));
+        }
+    }
+
+    /**
+     * A bounded pool of virtual threads, so a burst of frames cannot open more
+     * blocking DB and Redis calls than the connection pools can serve.
+     */
+    private ThreadPoolTaskExecutor virtualThreadChannelExecutor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setCorePoolSize(virtualChannelConcurrency);
+        executor.setMaxPoolSize(virtualChannelConcurrency);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
     }
 }
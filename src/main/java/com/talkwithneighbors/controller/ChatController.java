@@ -4,14 +4,13 @@ import com.talkwithneighbors.dto.ChatMessageDto;
 import com.talkwithneighbors.dto.ChatRoomDto;
 import com.talkwithneighbors.dto.CreateRoomRequest;
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.MessageHistoryPage;
 import com.talkwithneighbors.dto.UpdateChatRoomRequest;
 import com.talkwithneighbors.dto.UpdateChatMessageRequest;
 import com.talkwithneighbors.entity.ChatRoom;
 import com.talkwithneighbors.entity.ChatRoomType;
-import com.talkwithneighbors.entity.Message;
 import com.talkwithneighbors.entity.MessageAttachment;
 import com.talkwithneighbors.entity.User;
-import com.talkwithneighbors.repository.MessageRepository;
 import com.talkwithneighbors.service.ChatService;
 import com.talkwithneighbors.service.MediaStorageService;
 import com.talkwithneighbors.service.RedisSessionService;
@@ -48,7 +47,6 @@ public class ChatController extends BaseController {
     private final RedisSessionService redisSessionService;
     private final UserService userService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final MessageRepository messageRepository;
     private final MediaStorageService mediaStorageService;
 
     @Autowired
@@ -56,13 +54,11 @@ public class ChatController extends BaseController {
                          RedisSessionService redisSessionService, 
                          UserService userService, 
                          SimpMessagingTemplate messagingTemplate,
-                         MessageRepository messageRepository,
                          MediaStorageService mediaStorageService) {
         this.chatService = chatService;
         this.redisSessionService = redisSessionService;
         this.userService = userService;
         this.messagingTemplate = messagingTemplate;
-        this.messageRepository = messageRepository;
         this.mediaStorageService = mediaStorageService;
     }
 
@@ -212,16 +208,14 @@ public class ChatController extends BaseController {
     }
 
     @GetMapping("/rooms/{roomId}/messages")
-    public ResponseEntity<Page<MessageDto>> getMessages(
+    public ResponseEntity<MessageHistoryPage> getMessages(
             @PathVariable(name = "roomId") String roomId,
-            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "before", required = false) String before,
             @RequestParam(name = "size", defaultValue = "20") int size,
             HttpServletRequest request) {
         User user = getCurrentUser(request);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<MessageDto> messagesPage = chatService.getMessagesByRoomId(
-            roomId, user.getId().toString(), pageable);
-        return ResponseEntity.ok(messagesPage);
+        return ResponseEntity.ok(chatService.getMessageHistory(
+            roomId, user.getId().toString(), before, Math.min(Math.max(size, 1), 100)));
     }
 
     @PostMapping(value = "/rooms/{roomId}/messages", consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -380,15 +374,8 @@ public class ChatController extends BaseController {
         try {
             User user = getCurrentUser(request);
             
-            // 사용자가 참여한 모든 채팅방의 읽지 않은 메시지 수 조회
-            Page<ChatRoomDto> chatRooms = chatService.getChatRoomsForUser(user.getId().toString(), Pageable.unpaged());
-            
-            Map<String, Long> unreadCounts = new HashMap<>();
-            for (ChatRoomDto room : chatRooms.getContent()) {
-                long unreadCount = messageRepository.countVisibleUnreadMessages(
-                        room.getId(), user.getId(), Message.MessageType.SCHEDULE);
-                unreadCounts.put(room.getId(), unreadCount);
-            }
+            // 사용자가 참여한 모든 채팅방의 읽지 않은 메시지 수를 카운터에서 한 번에 조회
+            Map<String, Long> unreadCounts = chatService.getAllUnreadCounts(user.getId().toString());
             
             Map<String, Object> response = new HashMap<>();
             response.put("unreadCounts", unreadCounts);
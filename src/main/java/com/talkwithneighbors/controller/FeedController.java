@@ -2,6 +2,7 @@ package com.talkwithneighbors.controller;
 
 import com.talkwithneighbors.dto.feed.CreateCommentRequest;
 import com.talkwithneighbors.dto.feed.CreateFeedPostRequest;
+import com.talkwithneighbors.dto.feed.FeedCursorPage;
 import com.talkwithneighbors.dto.feed.FeedPostDto;
 import com.talkwithneighbors.dto.feed.FeedMode;
 import com.talkwithneighbors.dto.feed.PostCommentDto;
@@ -45,10 +46,21 @@ public class FeedController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "RECOMMENDED") FeedMode mode,
+            @RequestParam(required = false) String snapshot,
             UserSession userSession
     ) {
         Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 50));
-        return ResponseEntity.ok(feedService.getFeed(userSession.getUserId(), mode, pageable));
+        return ResponseEntity.ok(feedService.getFeed(userSession.getUserId(), mode, pageable, snapshot));
+    }
+
+    @GetMapping("/latest")
+    public ResponseEntity<FeedCursorPage<FeedPostDto>> getLatestFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            UserSession userSession
+    ) {
+        return ResponseEntity.ok(feedService.getLatestFeed(
+                userSession.getUserId(), cursor, Math.min(Math.max(size, 1), 50)));
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -2,6 +2,7 @@ package com.talkwithneighbors.controller;
 
 import com.talkwithneighbors.dto.publiccontent.PublicFeedPostDto;
 import com.talkwithneighbors.dto.publiccontent.PublicMeetupDto;
+import com.talkwithneighbors.dto.feed.FeedCursorPage;
 import com.talkwithneighbors.dto.feed.FeedMode;
 import com.talkwithneighbors.service.PublicContentService;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,15 @@ public class PublicContentController {
         return ResponseEntity.ok(publicContentService.getFeed(mode, region, pageable(page, size)));
     }
 
+    @GetMapping("/feed/latest")
+    public ResponseEntity<FeedCursorPage<PublicFeedPostDto>> getLatestFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(publicContentService.getLatestFeed(
+                cursor, Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+    }
+
     @GetMapping("/meetups")
     public ResponseEntity<Page<PublicMeetupDto>> getMeetups(
             @RequestParam(required = false) String keyword,
@@ -1,24 +1,35 @@
 package com.talkwithneighbors.domain.event;
 
+import com.talkwithneighbors.service.UnreadCountStore;
+import com.talkwithneighbors.websocket.UserDestinationMulticaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ChatMessageChangedEventListener {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UserDestinationMulticaster multicaster;
+    private final UnreadCountStore unreadCountStore;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onMessageChanged(ChatMessageChangedEvent event) {
         try {
+            if (event.message().isDeleted()) {
+                // A deleted message leaves the unread count of every member who had not read it.
+                Set<Long> readers = event.message().getReadByUsers() == null
+                        ? Set.of() : event.message().getReadByUsers();
+                unreadCountStore.recordDeletedUnread(event.roomId(), event.participantIds().stream()
+                        .filter(participantId -> !readers.contains(participantId))
+                        .toList());
+            }
             String destination = "/queue/chat/room/" + event.roomId();
             Map<String, Object> summary = new HashMap<>();
             summary.put("chatRoomId", event.roomId());
@@ -29,12 +40,8 @@ public class ChatMessageChangedEventListener {
                     "type", "CHAT_MESSAGE_CHANGED",
                     "data", summary
             );
-            event.participantIds().forEach(participantId -> {
-                messagingTemplate.convertAndSendToUser(
-                        participantId.toString(), destination, event.message());
-                messagingTemplate.convertAndSendToUser(
-                        participantId.toString(), "/queue/chat-updates", roomUpdate);
-            });
+            multicaster.convertAndSendToUsers(event.participantIds(), destination, event.message());
+            multicaster.convertAndSendToUsers(event.participantIds(), "/queue/chat-updates", roomUpdate);
         } catch (Exception exception) {
             log.error("Failed to dispatch changed chat message. messageId={}, roomId={}",
                     event.message().getId(), event.roomId(), exception);
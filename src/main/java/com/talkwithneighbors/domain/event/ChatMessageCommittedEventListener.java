@@ -1,33 +1,60 @@
 package com.talkwithneighbors.domain.event;
 
+import com.talkwithneighbors.entity.Message;
+import com.talkwithneighbors.service.ChatNotificationDispatcher;
+import com.talkwithneighbors.service.UnreadCountStore;
 import com.talkwithneighbors.service.impl.ChatMessageDispatchService;
+import com.talkwithneighbors.websocket.UserDestinationMulticaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ChatMessageCommittedEventListener {
     private final ChatMessageDispatchService dispatchService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatNotificationDispatcher notificationDispatcher;
+    private final UserDestinationMulticaster multicaster;
+    private final UnreadCountStore unreadCountStore;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onMessageCommitted(ChatMessageCommittedEvent event) {
         try {
             String destination = "/queue/chat/room/" + event.roomId();
-            event.participantIds().stream()
+            List<Long> recipientIds = event.participantIds().stream()
                     .filter(participantId -> !participantId.equals(event.senderId()))
-                    .forEach(participantId -> messagingTemplate.convertAndSendToUser(
-                            participantId.toString(), destination, event.message()));
+                    .toList();
+            // One serialization for the whole room, however many members it has.
+            multicaster.convertAndSendToUsers(recipientIds, destination, event.message());
+
+            // Counters move before the notification fan-out reads them for the badge push.
+            if (event.message().getType() != Message.MessageType.SCHEDULE) {
+                unreadCountStore.recordMessage(event.roomId(), recipientIds);
+            }
 
             // Notification fan-out is bounded and asynchronous. It must not consume a
-            // database connection per HTTP sender while realtime delivery is occurring.
-            dispatchService.dispatchNotifications(
-                    event.message().getId(), event.roomId(), event.senderId());
+            // database connection per HTTP sender while realtime delivery is occurring,
+            // so a full lane sheds the work instead of running it on this thread.
+            String messageId = event.message().getId();
+            AtomicBoolean sendStarted = new AtomicBoolean();
+            notificationDispatcher.submitMessage(() -> {
+                try {
+                    dispatchService.dispatchNotifications(messageId, event.roomId(), event.senderId(), sendStarted);
+                } catch (RuntimeException exception) {
+                    // Nothing was written or pushed yet, so the dispatcher may run the task again.
+                    if (!sendStarted.get()) {
+                        throw exception;
+                    }
+                    log.error("Chat notifications failed after sending started and are not retried. messageId={}",
+                            messageId, exception);
+                }
+            });
         } catch (Exception exception) {
             // The message is already committed. Do not return a misleading 500 that may
             // cause clients to retry and create a duplicate message.
@@ -0,0 +1,18 @@
+package com.talkwithneighbors.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Internal event raised when a member's read cursor moves past other members'
+ * messages. {@code readCount} is the number of messages that became read, and
+ * {@code caughtUp} is true when the cursor reached the room's newest message.
+ */
+public record ChatMessagesReadEvent(
+        String roomId,
+        Long readerId,
+        String lastReadMessageId,
+        LocalDateTime lastReadAt,
+        long readCount,
+        boolean caughtUp
+) {
+}
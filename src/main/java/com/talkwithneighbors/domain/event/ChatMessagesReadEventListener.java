@@ -0,0 +1,38 @@
+package com.talkwithneighbors.domain.event;
+
+import com.talkwithneighbors.service.ChatNotificationDispatcher;
+import com.talkwithneighbors.service.NotificationService;
+import com.talkwithneighbors.service.ReadStatusBroadcaster;
+import com.talkwithneighbors.service.UnreadCountStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessagesReadEventListener {
+    private final UnreadCountStore unreadCountStore;
+    private final NotificationService notificationService;
+    private final ReadStatusBroadcaster readStatusBroadcaster;
+    private final ChatNotificationDispatcher notificationDispatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessagesRead(ChatMessagesReadEvent event) {
+        try {
+            readStatusBroadcaster.record(
+                    event.roomId(), event.readerId(), event.lastReadMessageId(), event.lastReadAt());
+            // A read that catches up recounts instead of subtracting, which clears any drift in the counter.
+            long unreadCount = unreadCountStore.recordRead(
+                    event.readerId(), event.roomId(), event.readCount(), event.caughtUp());
+            // Rapid reads in one room collapse into one push of the latest count.
+            notificationDispatcher.submitUnread(event.roomId(), event.readerId(), () ->
+                    notificationService.sendUnreadCountUpdate(event.roomId(), event.readerId(), unreadCount));
+        } catch (Exception exception) {
+            log.error("Failed to update unread count after read. roomId={}, readerId={}",
+                    event.roomId(), event.readerId(), exception);
+        }
+    }
+}
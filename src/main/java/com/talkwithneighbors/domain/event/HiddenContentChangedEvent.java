@@ -0,0 +1,5 @@
+package com.talkwithneighbors.domain.event;
+
+/** Internal event raised when a user hides or unhides a post, comment, or message. */
+public record HiddenContentChangedEvent(Long userId) {
+}
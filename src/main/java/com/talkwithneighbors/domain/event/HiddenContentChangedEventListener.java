@@ -0,0 +1,19 @@
+package com.talkwithneighbors.domain.event;
+
+import com.talkwithneighbors.service.FeedCandidateIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class HiddenContentChangedEventListener {
+    private final FeedCandidateIndex feedCandidateIndex;
+
+    /** Evicts after commit, so the next ranking reads the committed hide. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHiddenContentChanged(HiddenContentChangedEvent event) {
+        feedCandidateIndex.evictViewer(event.userId());
+    }
+}
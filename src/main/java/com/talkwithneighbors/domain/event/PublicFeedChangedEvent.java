@@ -0,0 +1,5 @@
+package com.talkwithneighbors.domain.event;
+
+/** Internal event raised when a post enters, changes in, or leaves the public feed. */
+public record PublicFeedChangedEvent(String postId) {
+}
@@ -0,0 +1,19 @@
+package com.talkwithneighbors.domain.event;
+
+import com.talkwithneighbors.service.PublicFeedRankingCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class PublicFeedChangedEventListener {
+    private final PublicFeedRankingCache publicFeedRankingCache;
+
+    /** Drops shared rankings only after commit so a rebuild cannot read the old row. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPublicFeedChanged(PublicFeedChangedEvent event) {
+        publicFeedRankingCache.invalidateAll();
+    }
+}
@@ -0,0 +1,5 @@
+package com.talkwithneighbors.domain.event;
+
+/** Internal event raised when a login session is deleted or found expired. */
+public record SessionRevokedEvent(String sessionId) {
+}
@@ -0,0 +1,22 @@
+package com.talkwithneighbors.domain.event;
+
+import com.talkwithneighbors.websocket.AuthenticatedWebSocketSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class SessionRevokedEventListener {
+    private final AuthenticatedWebSocketSessionRegistry webSocketSessionRegistry;
+
+    /**
+     * Revokes after commit. Before it, a validation on any node still sees the
+     * session row and could cache it again; after a rollback the session stays valid.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionRevoked(SessionRevokedEvent event) {
+        webSocketSessionRegistry.closeSessionsForCredential(event.sessionId());
+    }
+}
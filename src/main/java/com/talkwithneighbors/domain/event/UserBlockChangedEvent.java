@@ -0,0 +1,5 @@
+package com.talkwithneighbors.domain.event;
+
+/** Internal event raised when a block between two users is created or removed. */
+public record UserBlockChangedEvent(Long firstUserId, Long secondUserId) {
+}
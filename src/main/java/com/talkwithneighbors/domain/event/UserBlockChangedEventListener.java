@@ -0,0 +1,32 @@
+package com.talkwithneighbors.domain.event;
+
+import com.talkwithneighbors.service.BlockGraph;
+import com.talkwithneighbors.service.BlockGraphRedisRelay;
+import com.talkwithneighbors.service.FeedCandidateIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class UserBlockChangedEventListener {
+    private final BlockGraph blockGraph;
+    private final ObjectProvider<BlockGraphRedisRelay> blockGraphRedisRelay;
+    private final FeedCandidateIndex feedCandidateIndex;
+
+    /**
+     * Invalidates after commit so a concurrent reload cannot cache the
+     * pre-change rows. Both users' feed snapshots are dropped for the same
+     * reason; a snapshot ranked from rows read just before the commit is
+     * filtered again when its later pages are loaded.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserBlockChanged(UserBlockChangedEvent event) {
+        blockGraph.invalidate(event.firstUserId(), event.secondUserId());
+        blockGraphRedisRelay.ifAvailable(relay -> relay.broadcast(event.firstUserId(), event.secondUserId()));
+        feedCandidateIndex.evictViewer(event.firstUserId());
+        feedCandidateIndex.evictViewer(event.secondUserId());
+    }
+}
@@ -1,16 +1,15 @@
 package com.talkwithneighbors.dto;
 
 import com.talkwithneighbors.entity.ChatRoom;
-import com.talkwithneighbors.entity.Message;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.ChatRoomStatus;
 import com.talkwithneighbors.entity.User;
-import com.talkwithneighbors.repository.MessageRepository;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -41,7 +40,7 @@ public class ChatRoomDto {
     private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
 
     // participantCount 파라미터를 제거했습니다.
-    public static ChatRoomDto fromEntity(ChatRoom chatRoom, User currentUser, MessageRepository messageRepository) {
+    public static ChatRoomDto fromEntity(ChatRoom chatRoom, Map<String, Long> unreadCounts) {
         ChatRoomDto dto = new ChatRoomDto();
         // ChatRoom의 ID는 이미 String이므로 .toString()이 필요 없을 수 있습니다.
         // 만약 Long 등 다른 타입이라면 .toString()을 사용해야 합니다.
@@ -87,25 +86,9 @@ public class ChatRoomDto {
             dto.setLastMessageTime(chatRoom.getLastMessageTime().format(formatter));
         }
 
-        // 안 읽은 메시지 수 계산
-        if (currentUser != null && messageRepository != null && chatRoom.getId() != null && currentUser.getId() != null) {
-            try {
-                // MessageRepository의 countUnreadMessages 메서드가 (String, Long)을 받는지 확인 필요
-                long count = messageRepository.countVisibleUnreadMessages(
-                        chatRoom.getId(), currentUser.getId(), Message.MessageType.SCHEDULE);
-                dto.setUnreadCount((int) count);
-            } catch (Exception e) {
-                log.error("[ChatRoomDto] Error calculating unreadCount for room: {}, user: {}. Error: {}", chatRoom.getId(), currentUser.getId(), e.getMessage(), e);
-                dto.setUnreadCount(0);
-            }
-        } else {
-             log.warn("[ChatRoomDto] Skipped unreadCount calculation due to missing data. RoomId: {}, CurrentUserIsNull: {}, CurrentUserIdIsNull: {}, MessageRepositoryIsNull: {}",
-                    chatRoom.getId(), 
-                    currentUser == null, 
-                    (currentUser != null ? currentUser.getId() == null : "N/A (currentUser is null)"),
-                    messageRepository == null);
-            dto.setUnreadCount(0); 
-        }
+        // 안 읽은 메시지 수는 호출자가 UnreadCountStore에서 한 번에 읽어 넘긴다.
+        Long unreadCount = chatRoom.getId() != null ? unreadCounts.get(chatRoom.getId()) : null;
+        dto.setUnreadCount(unreadCount != null ? unreadCount.intValue() : 0);
         
         log.info("[ChatRoomDto] Created DTO for room: {} - participantIds: {}, unread: {}, participantCount: {}", dto.getId(), dto.getParticipantIds(), dto.getUnreadCount(), dto.getParticipantCount());
 
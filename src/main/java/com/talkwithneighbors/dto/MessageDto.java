@@ -8,8 +8,11 @@ import com.talkwithneighbors.dto.schedule.ChatScheduleDto;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.IntStream;
 
@@ -37,6 +40,16 @@ public class MessageDto {
     private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
 
     public static MessageDto fromEntity(Message message, Long currentUserId) {
+        return fromEntity(message, currentUserId, Map.of());
+    }
+
+    /**
+     * @param readCursors each room member's read high-watermark; a member has
+     *                    read every message created at or before it. The
+     *                    sender always counts as a reader.
+     */
+    public static MessageDto fromEntity(
+            Message message, Long currentUserId, Map<Long, LocalDateTime> readCursors) {
         MessageDto dto = new MessageDto();
         dto.setId(message.getId());
         dto.setRoomId(message.getChatRoom().getId());
@@ -72,15 +85,18 @@ public class MessageDto {
                     .toList());
         }
         
-        Set<Long> readByUserIds = message.getReadByUsers();
-        dto.setReadByUsers(readByUserIds);
-        
-        if (currentUserId != null && readByUserIds != null) {
-            dto.setReadByCurrentUser(readByUserIds.contains(currentUserId));
-        } else {
-            dto.setReadByCurrentUser(false);
+        Set<Long> readByUserIds = new HashSet<>();
+        readByUserIds.add(message.getSender().getId());
+        if (message.getCreatedAt() != null) {
+            readCursors.forEach((userId, lastReadAt) -> {
+                if (!lastReadAt.isBefore(message.getCreatedAt())) {
+                    readByUserIds.add(userId);
+                }
+            });
         }
-        
+        dto.setReadByUsers(readByUserIds);
+        dto.setReadByCurrentUser(currentUserId != null && readByUserIds.contains(currentUserId));
+
         return dto;
     }
 
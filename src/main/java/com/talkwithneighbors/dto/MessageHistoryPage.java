@@ -0,0 +1,11 @@
+package com.talkwithneighbors.dto;
+
+import java.util.List;
+
+/**
+ * One keyset slice of a room's message history, newest first. There is no
+ * total count: the client passes {@code nextBefore} as {@code before} until
+ * {@code hasNext} is false.
+ */
+public record MessageHistoryPage(List<MessageDto> content, String nextBefore, boolean hasNext) {
+}
@@ -0,0 +1,66 @@
+package com.talkwithneighbors.dto.feed;
+
+import com.talkwithneighbors.entity.FeedPost;
+import com.talkwithneighbors.exception.MatchingException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the {@code createdAt desc, id desc} feed order.
+ *
+ * <p>The wire form is opaque URL-safe Base64 so clients never build or parse
+ * it; the next slice starts strictly after this post.</p>
+ */
+public record FeedCursor(LocalDateTime createdAt, String postId) {
+    private static final char SEPARATOR = '|';
+
+    public FeedCursor {
+        if (createdAt == null || postId == null || postId.isBlank()) {
+            throw new IllegalArgumentException("A feed cursor needs a creation time and a post id.");
+        }
+    }
+
+    public static FeedCursor after(FeedPost post) {
+        return new FeedCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the optional {@code cursor} request parameter. A blank value starts
+     * at the newest post; a malformed one is rejected as a bad request.
+     */
+    public static FeedCursor fromRequest(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return decode(cursor.trim());
+        } catch (IllegalArgumentException exception) {
+            throw new MatchingException("피드 위치 정보가 올바르지 않아요. 처음부터 다시 불러와 주세요.",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public static FeedCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed feed cursor.");
+            }
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    raw.substring(separator + 1));
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Malformed feed cursor.", exception);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.talkwithneighbors.dto.feed;
+
+import java.util.List;
+
+/**
+ * One keyset slice of a feed. There is deliberately no total count: the
+ * client keeps requesting {@code nextCursor} until {@code hasNext} is false.
+ */
+public record FeedCursorPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+}
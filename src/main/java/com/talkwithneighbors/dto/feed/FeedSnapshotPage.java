@@ -0,0 +1,25 @@
+package com.talkwithneighbors.dto.feed;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A ranked feed page that also names the snapshot it was cut from.
+ *
+ * <p>Clients send {@code snapshotId} back as the {@code snapshot} cursor when
+ * requesting later pages so the whole scroll reads one stable ordering.</p>
+ */
+public class FeedSnapshotPage<T> extends PageImpl<T> {
+    private final String snapshotId;
+
+    public FeedSnapshotPage(List<T> content, Pageable pageable, long total, String snapshotId) {
+        super(content, pageable, total);
+        this.snapshotId = snapshotId;
+    }
+
+    public String getSnapshotId() {
+        return snapshotId;
+    }
+}
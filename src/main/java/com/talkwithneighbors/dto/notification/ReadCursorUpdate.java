@@ -0,0 +1,19 @@
+package com.talkwithneighbors.dto.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * One member's read high-watermark in a {@code MESSAGES_READ_UP_TO} frame.
+ * Every message from another sender created at or before
+ * {@code lastReadAt} is read by {@code readByUserId}.
+ */
+public record ReadCursorUpdate(
+        Long readByUserId,
+        String lastReadMessageId,
+        LocalDateTime lastReadAt
+) {
+    /** The later of two marks; cursors only move forward. */
+    public ReadCursorUpdate later(ReadCursorUpdate other) {
+        return other.lastReadAt().isAfter(lastReadAt) ? other : this;
+    }
+}
@@ -25,10 +25,17 @@ public record PublicFeedPostDto(
     private static final String ANONYMOUS_AUTHOR = "이웃";
     private static final String OFFICIAL_AUTHOR = "이웃톡 운영팀";
 
-    public static PublicFeedPostDto fromEntity(FeedPost post, long likeCount, long commentCount) {
+    /**
+     * Fails closed before a private post can be ranked or mapped for anonymous readers.
+     */
+    public static void requirePublicPreview(FeedPost post) {
         if (!post.isPublicPreview()) {
             throw new IllegalArgumentException("Private feed posts cannot be mapped to a public DTO.");
         }
+    }
+
+    public static PublicFeedPostDto fromEntity(FeedPost post, long likeCount, long commentCount) {
+        requirePublicPreview(post);
         List<PublicFeedMediaDto> media = new ArrayList<>();
         if (post.getMedia() != null) {
             for (int index = 0; index < post.getMedia().size(); index++) {
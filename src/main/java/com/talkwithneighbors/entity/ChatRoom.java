@@ -13,13 +13,17 @@ import java.util.ArrayList;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 채팅방을 관리하는 엔티티 클래스
  * 사용자 간의 대화 공간을 생성하고 관리합니다.
+ * 변경된 열만 UPDATE하므로, 방 수정이 메시지 전송이 조건부로 갱신한
+ * 최근 메시지 미리보기를 예전 값으로 덮어쓰지 않습니다.
  */
 @Entity
 @Table(name = "chat_rooms")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
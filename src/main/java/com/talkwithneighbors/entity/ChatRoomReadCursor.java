@@ -0,0 +1,56 @@
+package com.talkwithneighbors.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A member's read high-watermark in one chat room.
+ *
+ * <p>Every message created at or before {@link #lastReadAt} counts as read by
+ * the member, so read state costs one row per membership instead of one row
+ * per message and reader. The cursor only moves forward, under a row lock;
+ * see {@code ChatRoomReadCursorRepository#findForUpdate}.</p>
+ */
+@Entity
+@Table(
+        name = "chat_room_read_cursors",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_chat_room_read_cursor_room_user",
+                columnNames = {"room_id", "user_id"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChatRoomReadCursor {
+    /** Position of a cursor created before the member has read any message. */
+    public static final LocalDateTime NEVER_READ = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private String roomId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_read_at", nullable = false)
+    private LocalDateTime lastReadAt;
+
+    @Column(name = "last_read_message_id")
+    private String lastReadMessageId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
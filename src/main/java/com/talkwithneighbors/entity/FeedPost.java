@@ -6,6 +6,7 @@ import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OrderColumn;
@@ -22,7 +23,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "feed_posts")
+@Table(name = "feed_posts", indexes = {
+        @Index(name = "idx_feed_posts_created_id", columnList = "created_at,id"),
+        @Index(name = "idx_feed_posts_public_created_id", columnList = "public_preview,created_at,id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -59,6 +63,19 @@ public class FeedPost {
     @Column(name = "interest_tag")
     private List<String> interestTags = new ArrayList<>();
 
+    /**
+     * Denormalized engagement counters for feed reads.
+     *
+     * <p>Only atomic repository increments and the reconciliation job write
+     * these columns, so an ordinary entity flush can never overwrite a
+     * concurrent like or comment.</p>
+     */
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long likeCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long commentCount = 0L;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -17,7 +17,10 @@ import java.util.UUID;
  * 사용자 간의 대화 내용을 저장합니다.
  */
 @Entity
-@Table(name = "messages")
+@Table(
+    name = "messages",
+    indexes = @Index(name = "idx_messages_room_created_id", columnList = "chat_room_id,created_at,id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -101,9 +104,12 @@ public class Message {
     private LocalDateTime deletedAt;
     
     /**
-     * 메시지 읽음 상태
-     * 메시지가 삭제되면 관련 읽음 상태도 자동으로 삭제됩니다.
+     * Legacy per-message read rows. Read state now lives in
+     * {@link ChatRoomReadCursor}; the application no longer writes this
+     * collection and keeps the mapping only so the table stays in place for
+     * rollback until a contract migration drops it.
      */
+    @Deprecated
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
         name = "message_read_by",
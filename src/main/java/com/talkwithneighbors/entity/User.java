@@ -18,7 +18,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  */
 @JsonIgnoreProperties({"interests", "createdRooms", "joinedRooms", "sentMessages"})
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_lat_lng", columnList = "latitude,longitude"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -102,7 +102,8 @@ public class User {
      * 별도의 테이블에 저장됩니다.
      */
     @ElementCollection
-    @CollectionTable(name = "user_interests", joinColumns = @JoinColumn(name = "user_id"))
+    @CollectionTable(name = "user_interests", joinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_user_interests_interest", columnList = "interest"))
     @Column(name = "interest")
     @JsonIgnore
     @Builder.Default
@@ -13,7 +13,8 @@ import java.util.List;
  * Deletes the complete database graph owned by a chat room in foreign-key order.
  *
  * <p>The regular JPA entity delete is deliberately not used here. Chat messages own
- * two element-collection tables, while meetup rooms can also own wait-list rows.
+ * two element-collection tables, members own read cursors, and meetup rooms can
+ * also own wait-list rows.
  * Mixing managed entities with native and JPQL bulk deletes leaves the persistence
  * context stale and can defer a constraint failure until transaction commit.</p>
  */
@@ -55,7 +56,9 @@ public class ChatRoomDeletionRepository {
                 """, roomId);
         int waitlistEntries = executeDelete(
                 "DELETE FROM meetup_waitlist WHERE room_id = :roomId", roomId);
-        int readStatuses = executeDelete("""
+        int readStatuses = executeDelete(
+                "DELETE FROM chat_room_read_cursors WHERE room_id = :roomId", roomId);
+        readStatuses += executeDelete("""
                 DELETE FROM message_read_by
                 WHERE message_id IN (
                     SELECT id FROM messages WHERE chat_room_id = :roomId
@@ -0,0 +1,52 @@
+package com.talkwithneighbors.repository;
+
+import com.talkwithneighbors.entity.ChatRoomReadCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChatRoomReadCursorRepository extends JpaRepository<ChatRoomReadCursor, Long> {
+
+    /**
+     * Locks the member's cursor row until the surrounding transaction ends, so
+     * concurrent reads by the same member move the cursor one after another.
+     * Call {@link #createIfAbsent} first; locking a missing row only takes a gap
+     * lock, and two of those let both readers insert.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT readCursor FROM ChatRoomReadCursor readCursor
+            WHERE readCursor.roomId = :roomId AND readCursor.userId = :userId
+            """)
+    Optional<ChatRoomReadCursor> findForUpdate(@Param("roomId") String roomId, @Param("userId") Long userId);
+
+    List<ChatRoomReadCursor> findByRoomId(String roomId);
+
+    /**
+     * Creates the member's cursor at {@link ChatRoomReadCursor#NEVER_READ} on
+     * first read and leaves an existing cursor unchanged. A concurrent first
+     * read waits on the uncommitted row and then finds it, so exactly one row
+     * exists for {@link #findForUpdate} to lock.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_room_read_cursors
+                (room_id, user_id, last_read_at, last_read_message_id, updated_at)
+            VALUES (:roomId, :userId, :neverRead, NULL, :now)
+            ON DUPLICATE KEY UPDATE room_id = room_id
+            """, nativeQuery = true)
+    int createIfAbsent(
+            @Param("roomId") String roomId,
+            @Param("userId") Long userId,
+            @Param("neverRead") LocalDateTime neverRead,
+            @Param("now") LocalDateTime now);
+}
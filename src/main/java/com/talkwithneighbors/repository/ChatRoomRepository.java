@@ -14,6 +14,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.time.Instant;
@@ -31,27 +32,58 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
     Optional<ChatRoom> findByIdForUpdate(@Param("id") String id);
 
     /**
-     * 특정 사용자가 참여한 모든 채팅방 목록을 조회합니다. (페이징 처리)
-     * 
+     * 특정 사용자가 참여한 채팅방 ID를 최근 활동 순으로 페이징 조회합니다.
+     * 컬렉션 fetch join 없이 ID만 SQL에서 잘라 내므로, 방이 많은 사용자도 요청한 페이지만큼만 읽습니다.
+     * 방 엔티티와 참여자는 {@link #findAllWithParticipantsByIdIn}으로 이 ID들만 다시 읽습니다.
+     *
      * @param userId 사용자 ID
      * @param pageable 페이징 정보
-     * @return 채팅방 페이지
+     * @return 최근 활동 순으로 정렬된 채팅방 ID 페이지
      */
-    // List<ChatRoom> findByParticipantsId(Long userId); // 이 메서드는 Page<ChatRoom> findByParticipants_Id(Long userId, Pageable pageable); 와 같이 변경 가능
+    @Query(
+            value = """
+                    SELECT room.id FROM ChatRoom room JOIN room.participants participant
+                    WHERE participant.id = :userId
+                    ORDER BY room.lastMessageTime DESC, room.id ASC
+                    """,
+            countQuery = """
+                    SELECT COUNT(room) FROM ChatRoom room JOIN room.participants participant
+                    WHERE participant.id = :userId
+                    """
+    )
+    Page<String> findParticipantRoomIdsByRecentActivity(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT DISTINCT cr FROM ChatRoom cr JOIN FETCH cr.participants WHERE :user MEMBER OF cr.participants")
-    Page<ChatRoom> findByParticipantsContaining(@Param("user") User user, Pageable pageable);
-    
-    /**
-     * 특정 사용자가 참여한 모든 채팅방 목록을 최근 활동 순으로 조회합니다.
-     * 카카오톡처럼 가장 최근에 메시지가 있었던 채팅방부터 표시됩니다.
-     * 
-     * @param user 사용자
-     * @param pageable 페이징 정보
-     * @return 최근 활동 순으로 정렬된 채팅방 페이지
-     */
-    @Query("SELECT DISTINCT cr FROM ChatRoom cr JOIN FETCH cr.participants WHERE :user MEMBER OF cr.participants ORDER BY cr.lastMessageTime DESC")
-    Page<ChatRoom> findByParticipantsContainingOrderByLastMessageTimeDesc(@Param("user") User user, Pageable pageable);
+    @Query("SELECT DISTINCT room FROM ChatRoom room LEFT JOIN FETCH room.participants WHERE room.id IN :ids")
+    List<ChatRoom> findAllWithParticipantsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * 사용자가 참여한 채팅방 ID만 조회합니다. 방 엔티티와 참여자 목록을 읽지 않으므로
+     * 전체 안 읽은 메시지 수 배지처럼 ID만 필요한 경로에서 사용합니다.
+     */
+    @Query("SELECT room.id FROM ChatRoom room JOIN room.participants participant WHERE participant.id = :userId")
+    List<String> findParticipantRoomIds(@Param("userId") Long userId);
+
+    @Query("SELECT participant.id FROM ChatRoom room JOIN room.participants participant WHERE room.id = :roomId")
+    List<Long> findParticipantIds(@Param("roomId") String roomId);
+
+    /**
+     * 새 메시지로 방의 최근 메시지 미리보기를 앞으로만 갱신합니다.
+     * 이미 더 최근 메시지가 반영된 방은 건드리지 않으므로, 방 행을 미리 잠그지 않은
+     * 동시 전송도 미리보기를 과거 메시지로 되돌리지 않습니다.
+     *
+     * @return 갱신된 행 수 (더 최근 메시지가 이미 반영됐으면 0)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatRoom room
+            SET room.lastMessage = :preview, room.lastMessageTime = :sentAt
+            WHERE room.id = :roomId
+              AND (room.lastMessageTime IS NULL OR room.lastMessageTime < :sentAt)
+            """)
+    int advanceLastMessage(
+            @Param("roomId") String roomId,
+            @Param("preview") String preview,
+            @Param("sentAt") LocalDateTime sentAt);
 
     @Query(
             value = """
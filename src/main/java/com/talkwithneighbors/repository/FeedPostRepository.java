@@ -6,10 +6,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -58,5 +61,100 @@ public interface FeedPostRepository extends JpaRepository<FeedPost, String> {
             Pageable pageable
     );
 
+    /**
+     * First keyset slice of the safe feed. Returning a list keeps Spring Data
+     * from issuing a count query.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+                    select post
+                    from FeedPost post
+                    where not exists (
+                        select hidden.id
+                        from HiddenContent hidden
+                        where hidden.user.id = :viewerId
+                          and hidden.targetType = :targetType
+                          and hidden.targetId = post.id
+                    )
+                      and not exists (
+                        select block.id
+                        from UserBlock block
+                        where (block.blocker.id = :viewerId and block.blocked.id = post.author.id)
+                           or (block.blocked.id = :viewerId and block.blocker.id = post.author.id)
+                    )
+                    order by post.createdAt desc, post.id desc
+                    """)
+    List<FeedPost> findVisibleFeedSlice(
+            @Param("viewerId") Long viewerId,
+            @Param("targetType") SafetyTargetType targetType,
+            Pageable pageable
+    );
+
+    /**
+     * Keyset slice strictly after {@code (createdAt, id)} in feed order, served
+     * by {@code idx_feed_posts_created_id} at any scroll depth.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+                    select post
+                    from FeedPost post
+                    where not exists (
+                        select hidden.id
+                        from HiddenContent hidden
+                        where hidden.user.id = :viewerId
+                          and hidden.targetType = :targetType
+                          and hidden.targetId = post.id
+                    )
+                      and not exists (
+                        select block.id
+                        from UserBlock block
+                        where (block.blocker.id = :viewerId and block.blocked.id = post.author.id)
+                           or (block.blocked.id = :viewerId and block.blocker.id = post.author.id)
+                    )
+                      and (post.createdAt < :createdAt
+                           or (post.createdAt = :createdAt and post.id < :postId))
+                    order by post.createdAt desc, post.id desc
+                    """)
+    List<FeedPost> findVisibleFeedSliceBefore(
+            @Param("viewerId") Long viewerId,
+            @Param("targetType") SafetyTargetType targetType,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("postId") String postId,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "author")
+    List<FeedPost> findWithAuthorByIdIn(Collection<String> ids);
+
     List<FeedPost> findByAuthor_IdOrderByCreatedAtDesc(Long authorId);
+
+    @Modifying
+    @Query("update FeedPost post set post.likeCount = case when post.likeCount + :delta < 0 then 0 "
+            + "else post.likeCount + :delta end where post.id = :postId")
+    int adjustLikeCount(@Param("postId") String postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update FeedPost post set post.commentCount = case when post.commentCount + :delta < 0 then 0 "
+            + "else post.commentCount + :delta end where post.id = :postId")
+    int adjustCommentCount(@Param("postId") String postId, @Param("delta") long delta);
+
+    /**
+     * Repairs counters that drifted from {@code post_likes}; only rows that
+     * disagree are rewritten.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE feed_posts
+            SET like_count = (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = feed_posts.id)
+            WHERE like_count <> (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = feed_posts.id)
+            """, nativeQuery = true)
+    int reconcileLikeCounts();
+
+    @Modifying
+    @Query(value = """
+            UPDATE feed_posts
+            SET comment_count = (SELECT COUNT(*) FROM post_comments pc WHERE pc.post_id = feed_posts.id)
+            WHERE comment_count <> (SELECT COUNT(*) FROM post_comments pc WHERE pc.post_id = feed_posts.id)
+            """, nativeQuery = true)
+    int reconcileCommentCounts();
 }
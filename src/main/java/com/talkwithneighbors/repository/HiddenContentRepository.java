@@ -15,5 +15,13 @@ public interface HiddenContentRepository extends JpaRepository<HiddenContent, Lo
     @Query("select h.targetId from HiddenContent h where h.user.id = :userId and h.targetType = :targetType")
     List<String> findTargetIds(@Param("userId") Long userId, @Param("targetType") SafetyTargetType targetType);
 
+    @Query("select h.targetId from HiddenContent h where h.user.id = :userId and h.targetType = :targetType"
+            + " and h.targetId in :targetIds")
+    List<String> findTargetIdsIn(
+            @Param("userId") Long userId,
+            @Param("targetType") SafetyTargetType targetType,
+            @Param("targetIds") List<String> targetIds
+    );
+
     List<HiddenContent> findByUser_IdOrderByCreatedAtDesc(Long userId);
 }
@@ -70,6 +70,13 @@ public interface MatchRepository extends JpaRepository<Match, String> {
             @Param("statuses") Collection<MatchStatus> statuses
     );
 
+    @Query("SELECT CASE WHEN m.user1.id = :userId THEN m.user2.id ELSE m.user1.id END FROM Match m " +
+           "WHERE (m.user1.id = :userId OR m.user2.id = :userId) AND m.status IN :statuses")
+    List<Long> findCounterpartIds(
+            @Param("userId") Long userId,
+            @Param("statuses") Collection<MatchStatus> statuses
+    );
+
     @Modifying
     @Query("update Match m set m.status = :expiredStatus, m.respondedAt = :now " +
            "where ((m.user1.id = :firstId and m.user2.id = :secondId) or " +
@@ -1,7 +1,6 @@
 package com.talkwithneighbors.repository;
 
 import com.talkwithneighbors.entity.Message;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -9,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import com.talkwithneighbors.entity.User;
@@ -20,24 +20,44 @@ import com.talkwithneighbors.entity.User;
 @Repository
 public interface MessageRepository extends JpaRepository<Message, String> {
     /**
-     * 특정 채팅방의 메시지들을 생성 시간 내림차순으로 조회합니다.
-     * 
-     * @param chatRoomId 채팅방 ID
-     * @return 메시지 목록
+     * Newest visible messages of the room in {@code createdAt desc, id desc}
+     * order, read from {@code idx_messages_room_created_id} without a count.
      */
-    @Query("SELECT m FROM Message m WHERE m.chatRoom.id = :roomId ORDER BY m.createdAt DESC")
-    Page<Message> findByChatRoomIdOrderByCreatedAtDesc(@Param("roomId") String roomId, Pageable pageable);
-
     @Query("""
             SELECT m FROM Message m
             WHERE m.chatRoom.id = :roomId AND m.type <> :excludedType
-            ORDER BY m.createdAt DESC
+            ORDER BY m.createdAt DESC, m.id DESC
             """)
-    Page<Message> findVisibleByChatRoomIdOrderByCreatedAtDesc(
+    List<Message> findVisibleHistory(
             @Param("roomId") String roomId,
             @Param("excludedType") Message.MessageType excludedType,
             Pageable pageable);
 
+    /**
+     * Keyset slice strictly older than {@code (createdAt, messageId)} in
+     * history order, so every older page is one index range scan regardless
+     * of how far back it is.
+     */
+    @Query("""
+            SELECT m FROM Message m
+            WHERE m.chatRoom.id = :roomId
+              AND m.type <> :excludedType
+              AND (m.createdAt < :createdAt
+                   OR (m.createdAt = :createdAt AND m.id < :messageId))
+            ORDER BY m.createdAt DESC, m.id DESC
+            """)
+    List<Message> findVisibleHistoryBefore(
+            @Param("roomId") String roomId,
+            @Param("excludedType") Message.MessageType excludedType,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("messageId") String messageId,
+            Pageable pageable);
+
+    /** Creation time of a message, if it belongs to the room; the history cursor's key. */
+    @Query("SELECT m.createdAt FROM Message m WHERE m.id = :messageId AND m.chatRoom.id = :roomId")
+    Optional<LocalDateTime> findCreatedAtInRoom(
+            @Param("messageId") String messageId, @Param("roomId") String roomId);
+
     @Query("SELECT m FROM Message m WHERE m.chatRoom.id = :roomId AND m.isDeleted = false ORDER BY m.createdAt DESC")
     List<Message> findActiveByChatRoomIdOrderByCreatedAtDesc(
             @Param("roomId") String roomId, Pageable pageable);
@@ -57,40 +77,73 @@ public interface MessageRepository extends JpaRepository<Message, String> {
     @Query("SELECT DISTINCT m FROM Message m LEFT JOIN FETCH m.attachments WHERE m.chatRoom.id = :roomId")
     List<Message> findAllWithAttachmentsByChatRoomId(@Param("roomId") String roomId);
 
-    @Query("SELECT m FROM Message m WHERE m.chatRoom.id = :roomId AND :userId NOT IN (SELECT u FROM m.readByUsers u)")
-    List<Message> findUnreadMessages(@Param("roomId") String roomId, @Param("userId") Long userId);
-
+    /**
+     * Visible messages from other senders that were created after the user's
+     * read cursor. Without a cursor every such message is unread.
+     */
     @Query("""
             SELECT m FROM Message m
             WHERE m.chatRoom.id = :roomId
               AND m.isDeleted = false
               AND m.type <> :excludedType
-              AND :userId NOT IN (SELECT u FROM m.readByUsers u)
+              AND m.sender.id <> :userId
+              AND NOT EXISTS (
+                  SELECT 1 FROM ChatRoomReadCursor readCursor
+                  WHERE readCursor.roomId = :roomId
+                    AND readCursor.userId = :userId
+                    AND readCursor.lastReadAt >= m.createdAt)
+            ORDER BY m.createdAt ASC
             """)
     List<Message> findVisibleUnreadMessages(
             @Param("roomId") String roomId,
             @Param("userId") Long userId,
             @Param("excludedType") Message.MessageType excludedType);
-    
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.chatRoom.id = :roomId AND :userId NOT IN (SELECT u FROM m.readByUsers u)")
-    long countUnreadMessages(@Param("roomId") String roomId, @Param("userId") Long userId);
 
     @Query("""
             SELECT COUNT(m) FROM Message m
             WHERE m.chatRoom.id = :roomId
               AND m.isDeleted = false
               AND m.type <> :excludedType
-              AND :userId NOT IN (SELECT u FROM m.readByUsers u)
+              AND m.sender.id <> :userId
+              AND NOT EXISTS (
+                  SELECT 1 FROM ChatRoomReadCursor readCursor
+                  WHERE readCursor.roomId = :roomId
+                    AND readCursor.userId = :userId
+                    AND readCursor.lastReadAt >= m.createdAt)
             """)
     long countVisibleUnreadMessages(
             @Param("roomId") String roomId,
             @Param("userId") Long userId,
             @Param("excludedType") Message.MessageType excludedType);
 
+    /** The newest message of the room, which a full read moves the cursor to. */
+    Optional<Message> findFirstByChatRoom_IdOrderByCreatedAtDesc(String roomId);
+
+    /**
+     * Number of visible messages from other senders that a cursor move from
+     * {@code after} (exclusive, {@code null} for no cursor) to {@code upTo}
+     * (inclusive) newly marks as read.
+     */
+    @Query("""
+            SELECT COUNT(m) FROM Message m
+            WHERE m.chatRoom.id = :roomId
+              AND m.isDeleted = false
+              AND m.type <> :excludedType
+              AND m.sender.id <> :readerId
+              AND (:after IS NULL OR m.createdAt > :after)
+              AND m.createdAt <= :upTo
+            """)
+    long countVisibleReadBetween(
+            @Param("roomId") String roomId,
+            @Param("readerId") Long readerId,
+            @Param("after") LocalDateTime after,
+            @Param("upTo") LocalDateTime upTo,
+            @Param("excludedType") Message.MessageType excludedType);
+
     boolean existsByChatRoom_IdAndTypeAndCreatedAt(
             String roomId,
             Message.MessageType type,
-            java.time.LocalDateTime createdAt);
+            LocalDateTime createdAt);
 
     @Query("""
             SELECT DISTINCT message.chatRoom.id
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -83,6 +84,38 @@ public interface OfflineNotificationRepository extends JpaRepository<OfflineNoti
                                                           @Param("type") OfflineNotification.NotificationType type, 
                                                           @Param("data") String data);
 
+    /**
+     * 같은 알림을 여러 사용자에게 INSERT ... SELECT 한 문장으로 저장한다.
+     * 같은 타입·데이터의 미전송 알림이 이미 있는 사용자는 건너뛴다(중복 방지).
+     * @param userIds 알림을 받을 사용자 ID (알림 설정 확인 후)
+     * @return 저장된 알림 수
+     */
+    @Modifying
+    @Query("INSERT INTO OfflineNotification (userId, type, data, message, actionUrl, createdAt, expiresAt, priority, isSent, retryCount) " +
+           "SELECT u.id, :type, :data, :message, :actionUrl, :createdAt, :expiresAt, :priority, false, 0 FROM User u " +
+           "WHERE u.id IN :userIds AND NOT EXISTS (SELECT 1 FROM OfflineNotification d " +
+           "WHERE d.userId = u.id AND d.type = :type AND d.data = :data AND d.isSent = false)")
+    int insertForUsers(@Param("userIds") Collection<Long> userIds,
+                       @Param("type") OfflineNotification.NotificationType type,
+                       @Param("data") String data,
+                       @Param("message") String message,
+                       @Param("actionUrl") String actionUrl,
+                       @Param("createdAt") LocalDateTime createdAt,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("priority") Integer priority);
+
+    /**
+     * 여러 사용자의 같은 타입·데이터 미전송 알림을 한 번에 전송 완료로 표시
+     * @return 갱신된 레코드 수
+     */
+    @Modifying
+    @Query("UPDATE OfflineNotification on SET on.isSent = true, on.deliveredAt = :deliveredAt " +
+           "WHERE on.userId IN :userIds AND on.type = :type AND on.data = :data AND on.isSent = false")
+    int markAsSentForUsers(@Param("userIds") Collection<Long> userIds,
+                           @Param("type") OfflineNotification.NotificationType type,
+                           @Param("data") String data,
+                           @Param("deliveredAt") LocalDateTime deliveredAt);
+
     Page<OfflineNotification> findByUserIdAndExpiresAtAfterOrderByCreatedAtDesc(
             Long userId, LocalDateTime now, Pageable pageable);
 
@@ -1,7 +1,6 @@
 package com.talkwithneighbors.repository;
 
 import com.talkwithneighbors.entity.PostLike;
-import com.talkwithneighbors.repository.projection.PostEngagementCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,14 +15,6 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     long countByPost_Id(String postId);
 
-    @Query("""
-            select new com.talkwithneighbors.repository.projection.PostEngagementCount(pl.post.id, count(pl.id))
-            from PostLike pl
-            where pl.post.id in :postIds
-            group by pl.post.id
-            """)
-    List<PostEngagementCount> countByPostIds(@Param("postIds") List<String> postIds);
-
     @Query("""
             select pl.post.id
             from PostLike pl
@@ -35,7 +26,7 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     );
 
     @Transactional
-    void deleteByPost_IdAndUser_Id(String postId, Long userId);
+    long deleteByPost_IdAndUser_Id(String postId, Long userId);
 
     List<PostLike> findByUser_IdOrderByCreatedAtDesc(Long userId);
 
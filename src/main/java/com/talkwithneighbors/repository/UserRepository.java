@@ -1,11 +1,15 @@
 package com.talkwithneighbors.repository;
 
 import com.talkwithneighbors.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +19,8 @@ import java.util.Optional;
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    double EARTH_RADIUS_KM = 6371.0;
+
     /**
      * 이메일로 사용자를 조회합니다.
      * 
@@ -43,28 +49,130 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
      * 특정 위치 주변의 사용자들을 조회합니다.
-     * Haversine 공식을 사용하여 지구 표면의 거리를 계산합니다.
+     * 반경을 감싸는 위경도 사각형으로 {@code idx_users_lat_lng} 범위 검색을 먼저 수행하고,
+     * 남은 후보에만 Haversine 공식을 적용하여 지구 표면의 거리를 계산합니다.
      * 
      * @param latitude 위도
      * @param longitude 경도
      * @param radius 검색 반경 (킬로미터)
      * @return 주변 사용자 목록
      */
+    default List<User> findNearbyUsers(double latitude, double longitude, double radius) {
+        double latitudeDelta = Math.toDegrees(radius / EARTH_RADIUS_KM);
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+        double minLongitude = -180.0;
+        double maxLongitude = 180.0;
+        if (minLatitude > -90.0 && maxLatitude < 90.0) {
+            double longitudeDelta = Math.toDegrees(
+                    Math.asin(Math.min(1.0, Math.sin(radius / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude)))));
+            if (longitude - longitudeDelta >= -180.0 && longitude + longitudeDelta <= 180.0) {
+                minLongitude = longitude - longitudeDelta;
+                maxLongitude = longitude + longitudeDelta;
+            }
+        }
+        return findNearbyUsersWithin(latitude, longitude, radius,
+                minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    /**
+     * {@link #findNearbyUsers}의 경계 상자 사전 필터 쿼리입니다.
+     * 경계 상자는 반경 원을 항상 포함해야 하며, 정확한 거리 판정은 Haversine 조건이 담당합니다.
+     */
     @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.interests WHERE " +
+           "u.latitude BETWEEN :minLatitude AND :maxLatitude AND " +
+           "u.longitude BETWEEN :minLongitude AND :maxLongitude AND " +
            "6371 * acos(cos(radians(:latitude)) * cos(radians(u.latitude)) * " +
            "cos(radians(u.longitude) - radians(:longitude)) + " +
            "sin(radians(:latitude)) * sin(radians(u.latitude))) <= :radius")
-    List<User> findNearbyUsers(@Param("latitude") double latitude, 
-                              @Param("longitude") double longitude, 
-                              @Param("radius") double radius);
+    List<User> findNearbyUsersWithin(@Param("latitude") double latitude,
+                                     @Param("longitude") double longitude,
+                                     @Param("radius") double radius,
+                                     @Param("minLatitude") double minLatitude,
+                                     @Param("maxLatitude") double maxLatitude,
+                                     @Param("minLongitude") double minLongitude,
+                                     @Param("maxLongitude") double maxLongitude);
 
     /**
-     * 특정 시간 이전에 온라인 상태였던 사용자들을 조회합니다.
-     * 
-     * @param dateTime 기준 시간
-     * @return 온라인 사용자 목록
+     * 위치가 없는 요청자를 위한 매칭 후보를 관심사 태그로 조회합니다.
+     * {@code user_interests.interest} 인덱스로 일치하는 사용자만 읽고, 최신 가입자 순으로 상한을 둡니다.
+     *
+     * @param interests 비교할 관심사 값 (대소문자 변형 포함)
+     * @param userId 제외할 요청자 ID
+     * @param pageable 후보 상한
+     * @return 관심사가 하나 이상 겹치는 후보 목록
+     */
+    @Query("SELECT DISTINCT u FROM User u JOIN u.interests i WHERE i IN :interests " +
+           "AND u.id <> :userId " +
+           "AND u.accountType = com.talkwithneighbors.entity.UserAccountType.MEMBER " +
+           "AND (u.profileDiscoverable IS NULL OR u.profileDiscoverable = true) " +
+           "ORDER BY u.id DESC")
+    List<User> findMatchCandidatesByInterests(@Param("interests") Collection<String> interests,
+                                              @Param("userId") Long userId,
+                                              Pageable pageable);
+
+    /**
+     * 위치와 관심사가 모두 없는 요청자를 위한 매칭 후보를 최신 가입자 순으로 상한만큼 조회합니다.
+     */
+    @Query("SELECT u FROM User u WHERE u.id <> :userId " +
+           "AND u.accountType = com.talkwithneighbors.entity.UserAccountType.MEMBER " +
+           "AND (u.profileDiscoverable IS NULL OR u.profileDiscoverable = true) " +
+           "ORDER BY u.id DESC")
+    List<User> findRecentMatchCandidates(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 기준 시각 이후 활동이 없는데 온라인으로 남은 사용자 ID를 ID 순으로 조회합니다.
+     *
+     * @param cutoff 기준 시각
+     * @param afterId 이전 배치의 마지막 ID
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isOnline = true AND u.lastOnlineAt < :cutoff " +
+           "AND u.id > :afterId ORDER BY u.id")
+    List<Long> findStaleOnlineUserIds(@Param("cutoff") LocalDateTime cutoff,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    /**
+     * 조회 이후 다시 활동하지 않은 사용자만 오프라인으로 일괄 변경합니다.
+     * 호출마다 별도 트랜잭션으로 커밋되어 배치의 행 잠금을 바로 놓습니다.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.isOnline = false " +
+           "WHERE u.id IN :userIds AND u.isOnline = true AND u.lastOnlineAt < :cutoff")
+    int markOfflineIfInactive(@Param("userIds") Collection<Long> userIds, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Redis 접속 상태를 RDB에 일괄 반영합니다.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.isOnline = true, u.lastOnlineAt = :seenAt WHERE u.id IN :userIds")
+    int markOnline(@Param("userIds") Collection<Long> userIds, @Param("seenAt") LocalDateTime seenAt);
+
+    @Modifying
+    @Query("UPDATE User u SET u.isOnline = false WHERE u.id IN :userIds")
+    int markOffline(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주어진 사용자 중 해당 종류의 알림을 끄지 않은 사용자의 ID만 조회합니다.
+     * 엔티티 대신 ID만 읽으므로 단체방 알림도 수신자 수만큼 사용자 행을 적재하지 않습니다.
+     * 검사할 수신 설정만 {@code true}로 넘기며, 설정 값이 비어 있으면 켜진 것으로 봅니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @param match 매칭 알림 설정을 검사할지 여부
+     * @param chat 채팅 알림 설정을 검사할지 여부
+     * @param meetup 모임 알림 설정을 검사할지 여부
+     * @return 알림을 받을 사용자 ID 목록
      */
-    List<User> findByIsOnlineTrueAndLastOnlineAtBefore(LocalDateTime dateTime);
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds " +
+           "AND (:match = false OR u.matchNotificationsEnabled IS NULL OR u.matchNotificationsEnabled = true) " +
+           "AND (:chat = false OR u.chatNotificationsEnabled IS NULL OR u.chatNotificationsEnabled = true) " +
+           "AND (:meetup = false OR u.meetupNotificationsEnabled IS NULL OR u.meetupNotificationsEnabled = true)")
+    List<Long> findIdsAcceptingNotifications(@Param("userIds") Collection<Long> userIds,
+                                             @Param("match") boolean match,
+                                             @Param("chat") boolean chat,
+                                             @Param("meetup") boolean meetup);
 
     /**
      * 특정 위경도 범위 내의 사용자들을 조회합니다.
@@ -6,6 +6,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PublicFeedPostRepository extends Repository<FeedPost, String> {
 
@@ -20,4 +24,28 @@ public interface PublicFeedPostRepository extends Repository<FeedPost, String> {
             countQuery = "SELECT COUNT(post) FROM FeedPost post WHERE post.publicPreview = true"
     )
     Page<FeedPost> findPublicFeed(Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            SELECT post
+            FROM FeedPost post
+            WHERE post.publicPreview = true
+            ORDER BY post.createdAt DESC, post.id DESC
+            """)
+    List<FeedPost> findPublicFeedSlice(Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            SELECT post
+            FROM FeedPost post
+            WHERE post.publicPreview = true
+              AND (post.createdAt < :createdAt
+                   OR (post.createdAt = :createdAt AND post.id < :postId))
+            ORDER BY post.createdAt DESC, post.id DESC
+            """)
+    List<FeedPost> findPublicFeedSliceBefore(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("postId") String postId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,36 @@
+package com.talkwithneighbors.scheduler;
+
+import com.talkwithneighbors.repository.FeedPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repairs denormalized feed like/comment counters from their source tables.
+ *
+ * <p>Writes keep the counters exact inside their own transactions, and the
+ * {@code V2026101603} migration fills them for existing posts. This job only
+ * covers rows written outside {@code FeedService}, such as likes a previous
+ * backend wrote during a rollout, and manual data fixes. It is idempotent, so
+ * running on several nodes is harmless.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedEngagementReconciliationScheduler {
+    private final FeedPostRepository feedPostRepository;
+
+    @Scheduled(
+            initialDelayString = "${app.feed.engagement-reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${app.feed.engagement-reconcile-interval-ms:3600000}")
+    @Transactional
+    public void reconcileEngagementCounters() {
+        int likes = feedPostRepository.reconcileLikeCounts();
+        int comments = feedPostRepository.reconcileCommentCounts();
+        if (likes > 0 || comments > 0) {
+            log.info("Reconciled feed engagement counters. likeRows={}, commentRows={}", likes, comments);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.talkwithneighbors.scheduler;
+
+import com.talkwithneighbors.repository.UserRepository;
+import com.talkwithneighbors.service.PresenceWriteBehind;
+import com.talkwithneighbors.service.RedisSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clears the RDB online flag of users whose Redis presence has expired.
+ *
+ * <p>Redis {@code online:{userId}} keys are the presence source and expire on
+ * their own, so a sweep only reconciles the RDB projection. Stale ids are read
+ * in keyset batches, checked against Redis with one MGET per batch and
+ * cleared with one guarded bulk UPDATE. The sweep runs outside a transaction,
+ * so each batch's UPDATE commits on its own and releases its row locks before
+ * the next batch is read. Users whose key is still live were
+ * active since the last write-behind flush and are re-queued as online
+ * instead. Their keys are already gone, so no Redis writes or offline events
+ * are needed. A short Redis lease keeps concurrent nodes from repeating the
+ * sweep; without Redis every node sweeps, which is idempotent.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OfflinePresenceSweeper {
+    static final String LEASE_KEY = "presence:offline-sweep:lease";
+    static final long LEASE_SECONDS = 50;
+    static final long INACTIVE_SECONDS = 5 * 60;
+    static final int BATCH_SIZE = 1_000;
+    private static final DefaultRedisScript<Long> RELEASE_IF_OWNER =
+            new DefaultRedisScript<>("""
+                    if redis.call('get', KEYS[1]) == ARGV[1] then
+                        return redis.call('del', KEYS[1])
+                    end
+                    return 0
+                    """, Long.class);
+
+    private final UserRepository userRepository;
+    private final RedisSessionService redisSessionService;
+    private final PresenceWriteBehind presenceWriteBehind;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Scheduled(initialDelay = 10_000, fixedDelay = 60_000)
+    public void sweep() {
+        String token = UUID.randomUUID().toString();
+        Boolean leased = acquireLease(token);
+        if (Boolean.FALSE.equals(leased)) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusSeconds(INACTIVE_SECONDS);
+            int swept = 0;
+            int refreshed = 0;
+            Long afterId = 0L;
+            while (true) {
+                List<Long> staleIds = userRepository.findStaleOnlineUserIds(
+                        cutoff, afterId, PageRequest.of(0, BATCH_SIZE));
+                if (staleIds.isEmpty()) {
+                    break;
+                }
+                Set<Long> stillOnline = redisSessionService.onlineUserIds(staleIds);
+                List<Long> offline = staleIds.stream()
+                        .filter(userId -> !stillOnline.contains(userId))
+                        .toList();
+                if (!offline.isEmpty()) {
+                    swept += userRepository.markOfflineIfInactive(offline, cutoff);
+                }
+                stillOnline.forEach(presenceWriteBehind::markOnline);
+                refreshed += stillOnline.size();
+                if (staleIds.size() < BATCH_SIZE) {
+                    break;
+                }
+                afterId = staleIds.get(staleIds.size() - 1);
+            }
+            if (swept > 0 || refreshed > 0) {
+                log.info("Swept inactive presence. offline={}, stillOnline={}", swept, refreshed);
+            }
+        } finally {
+            if (leased != null) {
+                releaseLease(token);
+            }
+        }
+    }
+
+    /** True when this node holds the lease, false when another does, null when Redis is unavailable. */
+    private Boolean acquireLease(String token) {
+        try {
+            return redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, LEASE_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception exception) {
+            log.debug("Redis is unavailable. Sweeping presence without a lease.");
+            return null;
+        }
+    }
+
+    private void releaseLease(String token) {
+        try {
+            redisTemplate.execute(RELEASE_IF_OWNER, List.of(LEASE_KEY), token);
+        } catch (Exception exception) {
+            log.debug("Could not release the presence sweep lease; it expires on its own.");
+        }
+    }
+}
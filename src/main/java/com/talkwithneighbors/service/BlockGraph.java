@@ -0,0 +1,129 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.repository.UserBlockRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local cache of each user's bidirectional block exclusions.
+ *
+ * <p>A user's exclusions are loaded once with {@code findExcludedUserIds} and
+ * kept as a sorted primitive array, so block checks on hot paths become a
+ * binary search instead of a query. Entries are dropped after a block change
+ * commits, on other nodes through {@link BlockGraphRedisRelay}, and after a
+ * TTL that bounds staleness if an invalidation message is lost.</p>
+ */
+@Component
+public class BlockGraph {
+    static final int MAX_USERS = 100_000;
+    private static final long[] NONE = new long[0];
+
+    private final UserBlockRepository userBlockRepository;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ConcurrentMap<Long, Exclusions> exclusions = new ConcurrentHashMap<>();
+    /** Bumped on every invalidation so a load that raced with one is not cached. */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public BlockGraph(
+            UserBlockRepository userBlockRepository,
+            @Value("${app.safety.block-graph-ttl-seconds:600}") long ttlSeconds
+    ) {
+        this(userBlockRepository, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    BlockGraph(UserBlockRepository userBlockRepository, Duration ttl, Clock clock) {
+        this.userBlockRepository = userBlockRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /** True when either user has blocked the other. */
+    public boolean existsBetween(Long firstId, Long secondId) {
+        if (firstId == null || secondId == null) {
+            return false;
+        }
+        return Arrays.binarySearch(exclusionsOf(firstId), secondId) >= 0;
+    }
+
+    /** Users hidden from {@code userId} in either direction, in ascending id order. */
+    public List<Long> excludedUserIds(Long userId) {
+        if (userId == null) {
+            return List.of();
+        }
+        return Arrays.stream(exclusionsOf(userId)).boxed().toList();
+    }
+
+    public void invalidate(Long... userIds) {
+        generation.incrementAndGet();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                exclusions.remove(userId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    void removeExpiredEntries() {
+        Instant now = clock.instant();
+        exclusions.values().removeIf(entry -> isExpired(entry, now));
+    }
+
+    int size() {
+        return exclusions.size();
+    }
+
+    private long[] exclusionsOf(Long userId) {
+        Exclusions cached = exclusions.get(userId);
+        Instant now = clock.instant();
+        if (cached != null && !isExpired(cached, now)) {
+            return cached.userIds();
+        }
+        long loadGeneration = generation.get();
+        long[] loaded = load(userId);
+        if (exclusions.size() >= MAX_USERS) {
+            removeExpiredEntries();
+            if (exclusions.size() >= MAX_USERS) {
+                return loaded;
+            }
+        }
+        exclusions.put(userId, new Exclusions(loaded, now));
+        if (generation.get() != loadGeneration) {
+            exclusions.remove(userId);
+        }
+        return loaded;
+    }
+
+    private long[] load(Long userId) {
+        List<Long> userIds = userBlockRepository.findExcludedUserIds(userId);
+        if (userIds == null || userIds.isEmpty()) {
+            return NONE;
+        }
+        return userIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private boolean isExpired(Exclusions entry, Instant now) {
+        return !now.isBefore(entry.loadedAt().plus(ttl));
+    }
+
+    private record Exclusions(long[] userIds, Instant loadedAt) {
+    }
+}
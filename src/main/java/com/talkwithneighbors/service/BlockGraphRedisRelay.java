@@ -0,0 +1,57 @@
+package com.talkwithneighbors.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Carries {@link BlockGraph} invalidations between nodes over Redis pub/sub.
+ *
+ * <p>Delivery is best effort: a node that misses a message corrects itself
+ * when the entry's TTL passes. Each node also receives its own broadcasts,
+ * which only repeats an invalidation it already applied.</p>
+ */
+@Component
+@Profile("!local")
+@ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BlockGraphRedisRelay implements MessageListener {
+    public static final String CHANNEL = "block-graph:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+    private final BlockGraph blockGraph;
+
+    public BlockGraphRedisRelay(StringRedisTemplate redisTemplate, BlockGraph blockGraph) {
+        this.redisTemplate = redisTemplate;
+        this.blockGraph = blockGraph;
+    }
+
+    public void broadcast(Long firstUserId, Long secondUserId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, firstUserId + "," + secondUserId);
+        } catch (Exception exception) {
+            log.warn("Failed to broadcast block graph invalidation. firstUserId={}, secondUserId={}",
+                    firstUserId, secondUserId, exception);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            for (String userId : body.split(",")) {
+                if (!userId.isBlank() && !"null".equals(userId.trim())) {
+                    blockGraph.invalidate(Long.valueOf(userId.trim()));
+                }
+            }
+        } catch (NumberFormatException exception) {
+            log.warn("Ignoring malformed block graph invalidation. body={}", body);
+        }
+    }
+}
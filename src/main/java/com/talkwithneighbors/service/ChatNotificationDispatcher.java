@@ -0,0 +1,225 @@
+package com.talkwithneighbors.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs chat notification work off the committing request thread.
+ *
+ * <p>Work is split into three lanes that workers drain in priority order:
+ * new-message notifications, then unread count pushes, then read receipts.
+ * The message lane retries a failed task up to
+ * {@code app.chat.notification-dispatcher.message-max-attempts} times, so a
+ * message task throws only while nothing has been written or pushed yet. The
+ * unread lane keeps only the latest push per room and member. Every lane is
+ * bounded, and a full lane sheds the new task instead of running it on the
+ * caller. A shed message notification loses only its inbox row and push:
+ * the message itself is committed, already delivered to the room, and
+ * counted as unread. Pending work is lost if the node dies.</p>
+ *
+ * <p>Lane depth, queueing lag, and shed, coalesced, and failed task counts
+ * are published as {@code chat.notification.*} meters tagged by lane.</p>
+ */
+@Component
+@Slf4j
+public class ChatNotificationDispatcher {
+    public enum Lane { MESSAGE, UNREAD, READ_STATUS }
+
+    private final BlockingQueue<Pending> messages;
+    private final ConcurrentMap<String, Pending> unread = new ConcurrentHashMap<>();
+    private final BlockingQueue<Pending> readStatus;
+    private final int unreadCapacity;
+    private final int messageMaxAttempts;
+    /** One permit per queued task across all lanes. */
+    private final Semaphore ready = new Semaphore(0);
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    private final Map<Lane, Timer> lag = new EnumMap<>(Lane.class);
+    private final Map<Lane, Counter> rejected = new EnumMap<>(Lane.class);
+    private final Map<Lane, Counter> failed = new EnumMap<>(Lane.class);
+    private final Counter coalesced;
+
+    public ChatNotificationDispatcher(
+            MeterRegistry meterRegistry,
+            @Value("${app.chat.notification-dispatcher.workers:4}") int workerCount,
+            @Value("${app.chat.notification-dispatcher.message-capacity:500}") int messageCapacity,
+            @Value("${app.chat.notification-dispatcher.unread-capacity:10000}") int unreadCapacity,
+            @Value("${app.chat.notification-dispatcher.read-status-capacity:1000}") int readStatusCapacity,
+            @Value("${app.chat.notification-dispatcher.message-max-attempts:2}") int messageMaxAttempts
+    ) {
+        this.messages = new LinkedBlockingQueue<>(messageCapacity);
+        this.readStatus = new LinkedBlockingQueue<>(readStatusCapacity);
+        this.unreadCapacity = unreadCapacity;
+        this.messageMaxAttempts = Math.max(1, messageMaxAttempts);
+
+        for (Lane lane : Lane.values()) {
+            Tags tags = Tags.of("lane", lane.name().toLowerCase());
+            lag.put(lane, Timer.builder("chat.notification.lag").tags(tags).register(meterRegistry));
+            rejected.put(lane, Counter.builder("chat.notification.rejected").tags(tags).register(meterRegistry));
+            failed.put(lane, Counter.builder("chat.notification.failed").tags(tags).register(meterRegistry));
+        }
+        coalesced = Counter.builder("chat.notification.coalesced")
+                .tags("lane", Lane.UNREAD.name().toLowerCase()).register(meterRegistry);
+        meterRegistry.gauge("chat.notification.queue.depth", Tags.of("lane", "message"), messages, Collection::size);
+        meterRegistry.gauge("chat.notification.queue.depth", Tags.of("lane", "unread"), unread, Map::size);
+        meterRegistry.gauge("chat.notification.queue.depth", Tags.of("lane", "read_status"), readStatus, Collection::size);
+
+        if (workerCount > 0) {
+            workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("chat-notification-"));
+            for (int worker = 0; worker < workerCount; worker++) {
+                workers.execute(this::work);
+            }
+        } else {
+            workers = null;
+        }
+    }
+
+    public boolean submitMessage(Runnable task) {
+        return enqueue(Lane.MESSAGE, messages, new Pending(task, System.nanoTime(), 1));
+    }
+
+    /** Replaces any queued unread push for the same member and room. */
+    public boolean submitUnread(String roomId, Long userId, Runnable task) {
+        boolean[] added = {false};
+        Pending queued = unread.compute(roomId + ":" + userId, (key, current) -> {
+            if (current != null) {
+                // The member waits since the first push, so lag keeps the older timestamp.
+                return new Pending(task, current.enqueuedAt(), 1);
+            }
+            if (unread.size() >= unreadCapacity) {
+                return null;
+            }
+            added[0] = true;
+            return new Pending(task, System.nanoTime(), 1);
+        });
+        if (queued == null) {
+            reject(Lane.UNREAD);
+            return false;
+        }
+        if (added[0]) {
+            ready.release();
+        } else {
+            coalesced.increment();
+        }
+        return true;
+    }
+
+    public boolean submitReadStatus(Runnable task) {
+        return enqueue(Lane.READ_STATUS, readStatus, new Pending(task, System.nanoTime(), 1));
+    }
+
+    /** Runs the highest-priority queued task on the calling thread, if any. */
+    boolean runNext() {
+        if (!ready.tryAcquire()) {
+            return false;
+        }
+        runTaken();
+        return true;
+    }
+
+    int queued(Lane lane) {
+        return switch (lane) {
+            case MESSAGE -> messages.size();
+            case UNREAD -> unread.size();
+            case READ_STATUS -> readStatus.size();
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(15, TimeUnit.SECONDS)) {
+            log.warn("Chat notification workers did not drain in time. {} tasks are dropped.",
+                    ready.availablePermits());
+            workers.shutdownNow();
+        }
+    }
+
+    private boolean enqueue(Lane lane, BlockingQueue<Pending> queue, Pending pending) {
+        if (!queue.offer(pending)) {
+            reject(lane);
+            return false;
+        }
+        ready.release();
+        return true;
+    }
+
+    private void reject(Lane lane) {
+        rejected.get(lane).increment();
+        log.warn("Chat notification lane {} is full. The new task is dropped.", lane);
+    }
+
+    private void work() {
+        // Queued work is drained before a shutdown completes.
+        while (running || ready.availablePermits() > 0) {
+            try {
+                if (ready.tryAcquire(1, TimeUnit.SECONDS)) {
+                    runTaken();
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void runTaken() {
+        Lane lane = Lane.MESSAGE;
+        Pending pending = messages.poll();
+        if (pending == null) {
+            lane = Lane.UNREAD;
+            for (String key : unread.keySet()) {
+                pending = unread.remove(key);
+                if (pending != null) {
+                    break;
+                }
+            }
+        }
+        if (pending == null) {
+            lane = Lane.READ_STATUS;
+            pending = readStatus.poll();
+        }
+        if (pending == null) {
+            return;
+        }
+        lag.get(lane).record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        try {
+            pending.task().run();
+        } catch (Exception exception) {
+            failed.get(lane).increment();
+            if (lane == Lane.MESSAGE && pending.attempt() < messageMaxAttempts
+                    && enqueue(lane, messages, new Pending(pending.task(), System.nanoTime(), pending.attempt() + 1))) {
+                log.warn("Chat notification task failed on attempt {}. It is queued again.", pending.attempt(), exception);
+            } else {
+                log.error("Chat notification task in lane {} failed and is dropped.", lane, exception);
+            }
+        }
+    }
+
+    private record Pending(Runnable task, long enqueuedAt, int attempt) {
+    }
+}
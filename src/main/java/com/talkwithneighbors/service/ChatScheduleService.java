@@ -22,7 +22,6 @@ import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.repository.ChatScheduleRepository;
 import com.talkwithneighbors.repository.ChatScheduleRsvpRepository;
 import com.talkwithneighbors.repository.MessageRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -48,7 +47,7 @@ public class ChatScheduleService {
     private final ChatScheduleRsvpRepository rsvpRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
-    private final UserBlockRepository userBlockRepository;
+    private final BlockGraph blockGraph;
     private final MessageRepository messageRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -95,7 +94,6 @@ public class ChatScheduleService {
         card.setType(Message.MessageType.SCHEDULE);
         card.setSchedule(schedule);
         card.setCreatedAt(LocalDateTime.now(ZoneOffset.UTC));
-        card.getReadByUsers().add(requesterId);
         messageRepository.saveAndFlush(card);
 
         chatRoomRepository.save(room);
@@ -250,7 +248,6 @@ public class ChatScheduleService {
                     created.setCreatedAt(room.getLastMessageTime() != null
                             ? room.getLastMessageTime().minusSeconds(1)
                             : LocalDateTime.now(ZoneOffset.UTC).minusSeconds(1));
-                    created.getReadByUsers().add(creator.getId());
                     return created;
                 });
         card.setContent(cardPreview(schedule));
@@ -464,7 +461,7 @@ public class ChatScheduleService {
                 .filter(participant -> !participant.getId().equals(requesterId))
                 .findFirst()
                 .ifPresent(participant -> {
-                    if (userBlockRepository.existsBetween(requesterId, participant.getId())) {
+                    if (blockGraph.existsBetween(requesterId, participant.getId())) {
                         throw new ChatException(
                                 "차단 관계인 사용자와는 1:1 채팅 일정을 변경할 수 없어.",
                                 HttpStatus.FORBIDDEN);
@@ -571,7 +568,6 @@ public class ChatScheduleService {
         card.setCreatedAt(room.getLastMessageTime() != null
                 ? room.getLastMessageTime().minusSeconds(1)
                 : LocalDateTime.now(ZoneOffset.UTC).minusSeconds(1));
-        card.getReadByUsers().add(creator.getId());
         messageRepository.saveAndFlush(card);
     }
 
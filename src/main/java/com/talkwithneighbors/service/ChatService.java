@@ -2,12 +2,14 @@ package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.dto.ChatRoomDto;
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.MessageHistoryPage;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.dto.UpdateChatRoomRequest;
 import com.talkwithneighbors.entity.MessageAttachment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List; // createRoom 메서드의 participantIds 때문에 유지
+import java.util.Map;
 
 public interface ChatService {
     // 채팅방 생성
@@ -31,8 +33,8 @@ public interface ChatService {
 
     MessageDto deleteMessage(String roomId, String messageId, Long requesterId);
 
-    // 특정 채팅방의 메시지 목록 조회 (페이징 처리)
-    Page<MessageDto> getMessagesByRoomId(String roomId, String userId, Pageable pageable);
+    // 특정 채팅방의 메시지 기록 조회 (before 메시지보다 오래된 메시지를 키셋으로 페이징)
+    MessageHistoryPage getMessageHistory(String roomId, String userId, String before, int size);
 
     // 사용자가 참여한 채팅방 목록 조회 (페이징 처리)
     Page<ChatRoomDto> getChatRoomsForUser(String userId, Pageable pageable);
@@ -51,6 +53,9 @@ public interface ChatService {
 
     long getUnreadCount(String roomId, String userId);
 
+    // 참여 중인 모든 채팅방의 안 읽은 메시지 수 (채팅방 ID별)
+    Map<String, Long> getAllUnreadCounts(String userId);
+
     // 채팅방에 사용자 추가
     void addUserToRoom(String roomId, String userId);
 
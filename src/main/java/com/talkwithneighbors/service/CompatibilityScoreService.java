@@ -7,11 +7,9 @@ import com.talkwithneighbors.entity.UserAccountType;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,13 +19,19 @@ public class CompatibilityScoreService {
     private static final double AGE_WEIGHT = 0.10;
     private static final double DEFAULT_MAX_DISTANCE_KM = 50.0;
 
+    private final InterestDictionary interestDictionary = new InterestDictionary();
+
     public int calculateScore(User currentUser, User candidate, MatchingPreferencesDto preferences) {
         Double distance = calculateDistance(currentUser, candidate);
         return calculateScore(currentUser, candidate, preferences, distance);
     }
 
     public int calculateScore(User currentUser, User candidate, MatchingPreferencesDto preferences, Double distanceKm) {
-        double interestScore = calculateInterestScore(preferredInterests(currentUser, preferences), candidate.getInterests());
+        InterestDictionary.Numbering numbering = interestDictionary.current();
+        double interestScore = calculateInterestScore(
+                preferredInterestIds(numbering, currentUser, preferences),
+                numbering.idsOf(candidate.getId(), candidate.getInterests())
+        );
         double distanceScore = calculateDistanceScore(distanceKm, maxDistance(preferences));
         double ageScore = calculateAgeScore(currentUser, candidate, preferences);
 
@@ -38,8 +42,10 @@ public class CompatibilityScoreService {
     }
 
     public List<String> sharedInterests(User currentUser, User candidate) {
-        Set<String> mine = normalize(currentUser.getInterests());
-        if (mine.isEmpty() || candidate.getInterests() == null) {
+        InterestDictionary.Numbering numbering = interestDictionary.current();
+        int[] mine = numbering.idsOf(currentUser.getId(), currentUser.getInterests());
+        int[] theirs = numbering.idsOf(candidate.getId(), candidate.getInterests());
+        if (InterestDictionary.intersectionSize(mine, theirs) == 0) {
             return List.of();
         }
 
@@ -47,7 +53,7 @@ public class CompatibilityScoreService {
                 .filter(Objects::nonNull)
                 .map(String::trim)
                 .filter(value -> !value.isEmpty())
-                .filter(value -> mine.contains(normalizeOne(value)))
+                .filter(value -> Arrays.binarySearch(mine, numbering.idOf(value)) >= 0)
                 .distinct()
                 .collect(Collectors.toList());
     }
@@ -116,19 +122,14 @@ public class CompatibilityScoreService {
         return earthRadiusKm * c;
     }
 
-    private double calculateInterestScore(List<String> preferredInterests, List<String> candidateInterests) {
-        Set<String> preferred = normalize(preferredInterests);
-        Set<String> candidate = normalize(candidateInterests);
-        if (preferred.isEmpty() || candidate.isEmpty()) {
-            return preferred.isEmpty() && candidate.isEmpty() ? 0.5 : 0.0;
+    private double calculateInterestScore(int[] preferred, int[] candidate) {
+        if (preferred.length == 0 || candidate.length == 0) {
+            return preferred.length == 0 && candidate.length == 0 ? 0.5 : 0.0;
         }
 
-        Set<String> intersection = new LinkedHashSet<>(preferred);
-        intersection.retainAll(candidate);
-
-        Set<String> union = new LinkedHashSet<>(preferred);
-        union.addAll(candidate);
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+        int intersection = InterestDictionary.intersectionSize(preferred, candidate);
+        int union = preferred.length + candidate.length - intersection;
+        return (double) intersection / union;
     }
 
     private double calculateDistanceScore(Double distanceKm, double maxDistanceKm) {
@@ -189,29 +190,22 @@ public class CompatibilityScoreService {
                 : DEFAULT_MAX_DISTANCE_KM;
     }
 
-    private List<String> preferredInterests(User currentUser, MatchingPreferencesDto preferences) {
+    private int[] preferredInterestIds(
+            InterestDictionary.Numbering numbering,
+            User currentUser,
+            MatchingPreferencesDto preferences
+    ) {
         if (preferences != null && preferences.getInterests() != null && !preferences.getInterests().isEmpty()) {
-            return preferences.getInterests();
+            return numbering.idsOf(preferences.getInterests());
         }
-        return safeList(currentUser != null ? currentUser.getInterests() : null);
+        return currentUser != null ? numbering.idsOf(currentUser.getId(), currentUser.getInterests()) : numbering.idsOf(null);
     }
 
     private List<String> safeList(List<String> values) {
         return values == null ? new ArrayList<>() : values;
     }
 
-    private Set<String> normalize(List<String> values) {
-        if (values == null) {
-            return Set.of();
-        }
-        return values.stream()
-                .filter(Objects::nonNull)
-                .map(this::normalizeOne)
-                .filter(value -> !value.isEmpty())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-    }
-
     private String normalizeOne(String value) {
-        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        return InterestDictionary.normalize(value);
     }
 }
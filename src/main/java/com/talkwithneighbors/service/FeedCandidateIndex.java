@@ -0,0 +1,148 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.dto.feed.FeedMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Short-lived ranked candidate snapshots per viewer and feed mode.
+ *
+ * <p>The first page scores the safe candidate universe once and stores only
+ * compact scored entries, sorted once into {@link #RANKED_ORDER}; later pages
+ * are plain slices of that order. Scrolling therefore neither repeats the
+ * 500-row safety scan and liked-state lookup nor re-ranks the snapshot, and
+ * a post is never shown twice when scores drift between requests. Snapshots
+ * are node-local, never persisted, and dropped when the viewer's safety
+ * filters change.</p>
+ */
+@Component
+public class FeedCandidateIndex {
+    static final int MAX_SNAPSHOTS = 10_000;
+
+    /** Highest score first; newer posts, then larger ids, break ties. */
+    public static final Comparator<Entry> RANKED_ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Entry::postId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final ConcurrentMap<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Autowired
+    public FeedCandidateIndex(@Value("${app.feed.snapshot-ttl-seconds:300}") long ttlSeconds) {
+        this(Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    FeedCandidateIndex(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the viewer's live snapshot. A non-blank cursor must name that
+     * snapshot; a stale cursor forces the caller to rank again.
+     */
+    public Optional<Snapshot> find(Long viewerId, FeedMode mode, String cursor) {
+        Key key = new Key(viewerId, mode);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        if (isExpired(snapshot, clock.instant())) {
+            snapshots.remove(key, snapshot);
+            return Optional.empty();
+        }
+        if (cursor != null && !cursor.isBlank() && !cursor.equals(snapshot.id())) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    public Snapshot store(Long viewerId, FeedMode mode, List<Entry> entries) {
+        if (snapshots.size() >= MAX_SNAPSHOTS) {
+            evictForCapacity();
+        }
+        List<Entry> ranked = new ArrayList<>(entries);
+        ranked.sort(RANKED_ORDER);
+        Snapshot snapshot = new Snapshot(
+                UUID.randomUUID().toString(), clock.instant(), Collections.unmodifiableList(ranked));
+        snapshots.put(new Key(viewerId, mode), snapshot);
+        return snapshot;
+    }
+
+    public void evictViewer(Long viewerId) {
+        if (viewerId == null) {
+            return;
+        }
+        snapshots.keySet().removeIf(key -> viewerId.equals(key.viewerId()));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    void removeExpiredSnapshots() {
+        Instant now = clock.instant();
+        snapshots.values().removeIf(snapshot -> isExpired(snapshot, now));
+    }
+
+    int size() {
+        return snapshots.size();
+    }
+
+    private void evictForCapacity() {
+        removeExpiredSnapshots();
+        if (snapshots.size() < MAX_SNAPSHOTS) {
+            return;
+        }
+        snapshots.entrySet().stream()
+                .min(Comparator.comparing(entry -> entry.getValue().createdAt()))
+                .ifPresent(oldest -> snapshots.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    private boolean isExpired(Snapshot snapshot, Instant now) {
+        return !now.isBefore(snapshot.createdAt().plus(ttl));
+    }
+
+    private record Key(Long viewerId, FeedMode mode) {
+    }
+
+    /** A ranked snapshot; {@code entries} are already in {@link #RANKED_ORDER}. */
+    public record Snapshot(String id, Instant createdAt, List<Entry> entries) {
+
+        /** The {@code pageSize} entries after {@code offset}, without re-ranking. */
+        public List<Entry> window(long offset, int pageSize) {
+            if (pageSize <= 0 || offset >= entries.size()) {
+                return List.of();
+            }
+            return entries.subList((int) offset, (int) Math.min(entries.size(), offset + pageSize));
+        }
+    }
+
+    /**
+     * One ranked candidate. Engagement is captured at ranking time so every
+     * page of a snapshot reports the numbers its order was computed from.
+     */
+    public record Entry(
+            String postId,
+            LocalDateTime createdAt,
+            double score,
+            long likeCount,
+            long commentCount,
+            boolean likedByViewer,
+            FeedRanking.Signals signals
+    ) {
+    }
+}
@@ -43,6 +43,8 @@ public final class FeedRanking {
 
     private static final double MAX_RELEVANT_DISTANCE_KM = 50.0;
     private static final double ENGAGEMENT_REFERENCE = Math.log1p(100.0);
+    /** Never a valid administrative prefix, so it re-parses as an invalid request. */
+    private static final String INVALID_REGION_KEY = "-";
 
     private FeedRanking() {
     }
@@ -53,19 +55,43 @@ public final class FeedRanking {
             long likeCount,
             long commentCount,
             LocalDateTime now
+    ) {
+        return memberSignals(memberViewer(viewer), post, likeCount, commentCount, now);
+    }
+
+    /**
+     * Normalizes the viewer's interests and address once so scoring a whole
+     * candidate list does not repeat that work per post.
+     */
+    public static MemberViewer memberViewer(User viewer) {
+        return new MemberViewer(
+                viewer,
+                normalize(viewer != null ? viewer.getInterests() : List.of()),
+                hasUsableLocation(viewer),
+                addressParts(viewer != null ? viewer.getAddress() : null)
+        );
+    }
+
+    public static Signals memberSignals(
+            MemberViewer viewer,
+            FeedPost post,
+            long likeCount,
+            long commentCount,
+            LocalDateTime now
     ) {
         User author = post != null ? post.getAuthor() : null;
-        InterestSignal interest = interestSignal(viewer, post);
-        double region = canUseMemberLocation(viewer, author)
-                ? coarseRegionSignal(viewer.getAddress(), author.getAddress())
+        boolean locationUsable = canUseMemberLocation(viewer, author);
+        double region = locationUsable
+                ? coarseRegionSignal(viewer.addressParts(), addressParts(author.getAddress()))
                 : 0.5;
+        double interest = interestSignal(viewer.interests(), post);
         return new Signals(
-                interest.score(),
-                proximitySignal(viewer, author),
+                interest < 0 ? 0.5 : interest,
+                locationUsable ? proximitySignal(viewer.user(), author, region) : 0.5,
                 recencySignal(post != null ? post.getCreatedAt() : null, now),
                 engagementSignal(likeCount, commentCount),
                 region,
-                interest.shared()
+                interest > 0
         );
     }
 
@@ -87,6 +113,23 @@ public final class FeedRanking {
         );
     }
 
+    /**
+     * Canonical form of a public {@code region} request. Requests with the same
+     * key produce identical {@link #publicSignals} for every post, so the key
+     * can name a shared ranking. Unusable requests collapse to one of two
+     * fixed keys instead of growing the key space with arbitrary input.
+     */
+    public static String publicRegionKey(String coarseRegion) {
+        List<String> requested = addressParts(coarseRegion);
+        if (requested.isEmpty()) {
+            return "";
+        }
+        if (!isValidCoarseRegionRequest(requested)) {
+            return INVALID_REGION_KEY;
+        }
+        return String.join(" ", requested);
+    }
+
     public static double memberScore(FeedMode mode, Signals signals) {
         FeedMode effectiveMode = mode == null ? FeedMode.RECOMMENDED : mode;
         if (effectiveMode == FeedMode.LATEST) {
@@ -156,10 +199,13 @@ public final class FeedRanking {
         return reasons.stream().limit(2).toList();
     }
 
-    private static InterestSignal interestSignal(User viewer, FeedPost post) {
-        Set<String> viewerInterests = normalize(viewer != null ? viewer.getInterests() : List.of());
+    /**
+     * Fraction of the viewer's interests the post covers, or {@code -1} when
+     * either side has no interests and the signal is neutral.
+     */
+    private static double interestSignal(Set<String> viewerInterests, FeedPost post) {
         if (viewerInterests.isEmpty()) {
-            return new InterestSignal(0.5, false);
+            return -1;
         }
 
         Set<String> postInterests = normalize(post != null ? post.getInterestTags() : List.of());
@@ -167,23 +213,19 @@ public final class FeedRanking {
             postInterests = normalize(post.getAuthor().getInterests());
         }
         if (postInterests.isEmpty()) {
-            return new InterestSignal(0.5, false);
+            return -1;
         }
 
-        Set<String> shared = new LinkedHashSet<>(viewerInterests);
-        shared.retainAll(postInterests);
-        return new InterestSignal(
-                Math.min(1.0, (double) shared.size() / viewerInterests.size()),
-                !shared.isEmpty()
-        );
-    }
-
-    private static double proximitySignal(User viewer, User author) {
-        if (!canUseMemberLocation(viewer, author)) {
-            return 0.5;
+        int shared = 0;
+        for (String interest : viewerInterests) {
+            if (postInterests.contains(interest)) {
+                shared++;
+            }
         }
+        return Math.min(1.0, (double) shared / viewerInterests.size());
+    }
 
-        double region = coarseRegionSignal(viewer.getAddress(), author.getAddress());
+    private static double proximitySignal(User viewer, User author, double region) {
         if (viewer.getLatitude() == null || viewer.getLongitude() == null
                 || author.getLatitude() == null || author.getLongitude() == null) {
             return region;
@@ -232,11 +274,11 @@ public final class FeedRanking {
         return 1.0;
     }
 
-    private static boolean canUseMemberLocation(User viewer, User author) {
-        return viewer != null
+    private static boolean canUseMemberLocation(MemberViewer viewer, User author) {
+        return viewer.user() != null
+                && viewer.locationUsable()
                 && author != null
                 && Boolean.TRUE.equals(author.getShowNeighborhood())
-                && hasUsableLocation(viewer)
                 && hasUsableLocation(author);
     }
 
@@ -274,9 +316,7 @@ public final class FeedRanking {
         return value.endsWith("시") || value.endsWith("군") || value.endsWith("구");
     }
 
-    private static double coarseRegionSignal(String firstAddress, String secondAddress) {
-        List<String> first = addressParts(firstAddress);
-        List<String> second = addressParts(secondAddress);
+    private static double coarseRegionSignal(List<String> first, List<String> second) {
         if (first.isEmpty() || second.isEmpty()) {
             return 0.5;
         }
@@ -353,6 +393,14 @@ public final class FeedRanking {
         }
     }
 
-    private record InterestSignal(double score, boolean shared) {
+    /**
+     * Viewer-side inputs normalized once per ranking request.
+     */
+    public record MemberViewer(
+            User user,
+            Set<String> interests,
+            boolean locationUsable,
+            List<String> addressParts
+    ) {
     }
 }
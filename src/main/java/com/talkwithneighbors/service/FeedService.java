@@ -2,12 +2,16 @@ package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.dto.feed.CreateCommentRequest;
 import com.talkwithneighbors.dto.feed.CreateFeedPostRequest;
+import com.talkwithneighbors.dto.feed.FeedCursor;
+import com.talkwithneighbors.dto.feed.FeedCursorPage;
 import com.talkwithneighbors.dto.feed.FeedPostDto;
+import com.talkwithneighbors.dto.feed.FeedSnapshotPage;
 import com.talkwithneighbors.dto.feed.FeedMode;
 import com.talkwithneighbors.dto.feed.PostCommentDto;
 import com.talkwithneighbors.dto.feed.UpdateCommentRequest;
 import com.talkwithneighbors.dto.feed.UpdateFeedPostRequest;
 import com.talkwithneighbors.domain.event.MediaFilesDeletedEvent;
+import com.talkwithneighbors.domain.event.PublicFeedChangedEvent;
 import com.talkwithneighbors.entity.FeedMediaType;
 import com.talkwithneighbors.entity.FeedPost;
 import com.talkwithneighbors.entity.FeedPostMedia;
@@ -19,14 +23,13 @@ import com.talkwithneighbors.repository.FeedPostRepository;
 import com.talkwithneighbors.repository.PostCommentRepository;
 import com.talkwithneighbors.repository.PostLikeRepository;
 import com.talkwithneighbors.repository.UserRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.HiddenContentRepository;
-import com.talkwithneighbors.repository.projection.PostEngagementCount;
 import com.talkwithneighbors.service.media.storage.MediaStoragePath;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
 import com.talkwithneighbors.entity.SafetyTargetType;
 import com.talkwithneighbors.dto.mypage.MyCommentActivityDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -36,12 +39,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -54,9 +59,11 @@ public class FeedService {
     private final PostCommentRepository postCommentRepository;
     private final UserRepository userRepository;
     private final CompatibilityScoreService compatibilityScoreService;
-    private final UserBlockRepository userBlockRepository;
+    private final BlockGraph blockGraph;
     private final HiddenContentRepository hiddenContentRepository;
     private final DomainEventPublisher domainEventPublisher;
+    private final FeedCandidateIndex feedCandidateIndex;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(readOnly = true)
     public Page<FeedPostDto> getFeed(Long currentUserId, Pageable pageable) {
@@ -65,6 +72,21 @@ public class FeedService {
 
     @Transactional(readOnly = true)
     public Page<FeedPostDto> getFeed(Long currentUserId, FeedMode mode, Pageable pageable) {
+        return getFeed(currentUserId, mode, pageable, null);
+    }
+
+    /**
+     * Ranked modes rank once per scroll: the first page stores a compact
+     * snapshot and later pages are cut from it while it is alive and still
+     * matches the client's {@code snapshotCursor}.
+     */
+    @Transactional(readOnly = true)
+    public Page<FeedPostDto> getFeed(
+            Long currentUserId,
+            FeedMode mode,
+            Pageable pageable,
+            String snapshotCursor
+    ) {
         User currentUser = getUser(currentUserId);
         FeedMode effectiveMode = mode == null ? FeedMode.RECOMMENDED : mode;
         LocalDateTime rankedAt = LocalDateTime.now();
@@ -72,23 +94,95 @@ public class FeedService {
             return latestFeed(currentUser, pageable, rankedAt);
         }
 
+        if (pageable.getPageNumber() > 0) {
+            Optional<FeedCandidateIndex.Snapshot> snapshot =
+                    feedCandidateIndex.find(currentUserId, effectiveMode, snapshotCursor);
+            if (snapshot.isPresent()) {
+                return snapshotPage(snapshot.get(), currentUser, effectiveMode, pageable);
+            }
+        }
+
         List<FeedPost> candidates = feedPostRepository.findVisibleFeed(
                         currentUserId,
                         SafetyTargetType.FEED_POST,
                         PageRequest.of(0, RECOMMENDATION_CANDIDATE_LIMIT))
                 .getContent();
-        EngagementSnapshot engagement = loadEngagement(candidates, currentUserId);
-        List<RankedFeedPost> posts = candidates.stream()
-                .map(post -> rank(post, currentUser, effectiveMode, rankedAt, engagement))
-                .sorted((left, right) -> compareRankedPosts(effectiveMode, left, right))
-                .collect(Collectors.toList());
+        Set<String> likedPostIds = loadLikedPostIds(candidates, currentUserId);
+        FeedRanking.MemberViewer viewer = FeedRanking.memberViewer(currentUser);
+        List<FeedCandidateIndex.Entry> entries = new ArrayList<>(candidates.size());
+        for (FeedPost post : candidates) {
+            entries.add(rank(post, viewer, effectiveMode, rankedAt, likedPostIds));
+        }
+        // The snapshot sorts the candidates once; this page and later ones are slices of it.
+        FeedCandidateIndex.Snapshot snapshot = feedCandidateIndex.store(currentUserId, effectiveMode, entries);
+        List<FeedCandidateIndex.Entry> window = snapshot.window(pageable.getOffset(), pageable.getPageSize());
+        Map<String, FeedPost> loadedPosts = candidates.stream()
+                .collect(Collectors.toMap(FeedPost::getId, Function.identity(), (left, right) -> left));
+        return rankedPage(window, loadedPosts, snapshot, currentUser, effectiveMode, pageable);
+    }
 
-        int start = safePageStart(pageable, posts.size());
-        int end = Math.min(start + pageable.getPageSize(), posts.size());
-        List<FeedPostDto> content = posts.subList(start, end).stream()
-                .map(RankedFeedPost::dto)
+    /**
+     * Keyset-paginated LATEST feed. Each slice is one indexed range scan of
+     * {@code size + 1} rows with no count query, so latency does not grow
+     * with scroll depth.
+     */
+    @Transactional(readOnly = true)
+    public FeedCursorPage<FeedPostDto> getLatestFeed(Long currentUserId, String cursor, int size) {
+        User currentUser = getUser(currentUserId);
+        FeedCursor position = FeedCursor.fromRequest(cursor);
+        Pageable slice = PageRequest.of(0, size + 1);
+        List<FeedPost> rows = position == null
+                ? feedPostRepository.findVisibleFeedSlice(currentUserId, SafetyTargetType.FEED_POST, slice)
+                : feedPostRepository.findVisibleFeedSliceBefore(currentUserId, SafetyTargetType.FEED_POST,
+                        position.createdAt(), position.postId(), slice);
+        boolean hasNext = rows.size() > size;
+        List<FeedPost> pagePosts = hasNext ? rows.subList(0, size) : rows;
+        Set<String> likedPostIds = loadLikedPostIds(pagePosts, currentUserId);
+        FeedRanking.MemberViewer viewer = FeedRanking.memberViewer(currentUser);
+        LocalDateTime rankedAt = LocalDateTime.now();
+        List<FeedPostDto> content = pagePosts.stream()
+                .map(post -> toRankedDto(post, currentUser, FeedMode.LATEST,
+                        rank(post, viewer, FeedMode.LATEST, rankedAt, likedPostIds)))
+                .toList();
+        return new FeedCursorPage<>(
+                content, hasNext ? FeedCursor.after(pagePosts.get(size - 1)).encode() : null, hasNext);
+    }
+
+    private Page<FeedPostDto> snapshotPage(
+            FeedCandidateIndex.Snapshot snapshot,
+            User currentUser,
+            FeedMode mode,
+            Pageable pageable
+    ) {
+        List<FeedCandidateIndex.Entry> window = snapshot.window(pageable.getOffset(), pageable.getPageSize());
+        if (window.isEmpty()) {
+            return rankedPage(window, Map.of(), snapshot, currentUser, mode, pageable);
+        }
+        // A stored snapshot can predate a block or hide, so its window is checked again.
+        List<String> windowIds = window.stream().map(FeedCandidateIndex.Entry::postId).toList();
+        Set<String> hiddenPostIds = new HashSet<>(hiddenContentRepository.findTargetIdsIn(
+                currentUser.getId(), SafetyTargetType.FEED_POST, windowIds));
+        Map<String, FeedPost> posts = feedPostRepository.findWithAuthorByIdIn(windowIds).stream()
+                .filter(post -> !hiddenPostIds.contains(post.getId()))
+                .filter(post -> post.getAuthor() == null
+                        || !blockGraph.existsBetween(currentUser.getId(), post.getAuthor().getId()))
+                .collect(Collectors.toMap(FeedPost::getId, Function.identity()));
+        return rankedPage(window, posts, snapshot, currentUser, mode, pageable);
+    }
+
+    private Page<FeedPostDto> rankedPage(
+            List<FeedCandidateIndex.Entry> window,
+            Map<String, FeedPost> posts,
+            FeedCandidateIndex.Snapshot snapshot,
+            User currentUser,
+            FeedMode mode,
+            Pageable pageable
+    ) {
+        List<FeedPostDto> content = window.stream()
+                .filter(entry -> posts.containsKey(entry.postId()))
+                .map(entry -> toRankedDto(posts.get(entry.postId()), currentUser, mode, entry))
                 .toList();
-        return new PageImpl<>(content, pageable, posts.size());
+        return new FeedSnapshotPage<>(content, pageable, snapshot.entries().size(), snapshot.id());
     }
 
     private Page<FeedPostDto> latestFeed(
@@ -102,18 +196,15 @@ public class FeedService {
         Page<FeedPost> page = feedPostRepository.findVisibleFeed(
                 currentUser.getId(), SafetyTargetType.FEED_POST, pageable);
         List<FeedPost> pagePosts = page.getContent();
-        EngagementSnapshot engagement = loadEngagement(pagePosts, currentUser.getId());
+        Set<String> likedPostIds = loadLikedPostIds(pagePosts, currentUser.getId());
+        FeedRanking.MemberViewer viewer = FeedRanking.memberViewer(currentUser);
         List<FeedPostDto> content = pagePosts.stream()
-                .map(post -> rank(post, currentUser, FeedMode.LATEST, rankedAt, engagement).dto())
+                .map(post -> toRankedDto(post, currentUser, FeedMode.LATEST,
+                        rank(post, viewer, FeedMode.LATEST, rankedAt, likedPostIds)))
                 .toList();
         return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 
-    private int safePageStart(Pageable pageable, int resultSize) {
-        long offset = pageable.getOffset();
-        return offset >= resultSize ? resultSize : Math.toIntExact(offset);
-    }
-
     @Transactional
     public FeedPostDto createPost(Long currentUserId, CreateFeedPostRequest request) {
         User author = getUser(currentUserId);
@@ -137,7 +228,9 @@ public class FeedService {
         post.setInterestTags(cleanTags(request.getInterestTags()));
         post.setPublicPreview(request.isPublicPreview());
 
-        return toDto(feedPostRepository.save(post), author);
+        FeedPost saved = feedPostRepository.save(post);
+        publishPublicFeedChange(saved, false);
+        return toDto(saved, author);
     }
 
     @Transactional
@@ -167,7 +260,9 @@ public class FeedService {
         post.setInterestTags(cleanTags(request.getInterestTags()));
         post.setPublicPreview(request.isPublicPreview());
 
-        return toDto(feedPostRepository.save(post), author);
+        FeedPost saved = feedPostRepository.save(post);
+        publishPublicFeedChange(saved, false);
+        return toDto(saved, author);
     }
 
     @Transactional
@@ -180,6 +275,8 @@ public class FeedService {
             like.setPost(post);
             like.setUser(user);
             postLikeRepository.save(like);
+            feedPostRepository.adjustLikeCount(postId, 1);
+            post.setLikeCount(post.getLikeCount() + 1);
         }
         return toDto(post, user);
     }
@@ -187,7 +284,11 @@ public class FeedService {
     @Transactional
     public FeedPostDto unlikePost(Long currentUserId, String postId) {
         FeedPost post = getPost(postId);
-        postLikeRepository.deleteByPost_IdAndUser_Id(postId, currentUserId);
+        long removed = postLikeRepository.deleteByPost_IdAndUser_Id(postId, currentUserId);
+        if (removed > 0) {
+            feedPostRepository.adjustLikeCount(postId, -removed);
+            post.setLikeCount(Math.max(0L, post.getLikeCount() - removed));
+        }
         return toDto(post, getUser(currentUserId));
     }
 
@@ -196,6 +297,7 @@ public class FeedService {
         User currentUser = getUser(currentUserId);
         FeedPost post = getPost(postId);
         requireAuthor(currentUserId, post);
+        boolean wasPublic = post.isPublicPreview();
         if (request == null || (request.caption() == null
                 && request.interestTags() == null
                 && request.publicPreview() == null)) {
@@ -216,7 +318,9 @@ public class FeedService {
             post.setPublicPreview(request.publicPreview());
         }
 
-        return toDto(feedPostRepository.save(post), currentUser);
+        FeedPost saved = feedPostRepository.save(post);
+        publishPublicFeedChange(saved, wasPublic);
+        return toDto(saved, currentUser);
     }
 
     @Transactional(readOnly = true)
@@ -224,10 +328,10 @@ public class FeedService {
         FeedPost post = getPost(postId);
         requireCanInteract(currentUserId, post);
         List<String> hiddenCommentIds = hiddenContentRepository.findTargetIds(currentUserId, SafetyTargetType.COMMENT);
-        Set<Long> excludedUserIds = new HashSet<>(userBlockRepository.findExcludedUserIds(currentUserId));
         return postCommentRepository.findByPost_IdOrderByCreatedAtAsc(postId).stream()
                 .filter(comment -> !hiddenCommentIds.contains(comment.getId()))
-                .filter(comment -> comment.getAuthor() == null || !excludedUserIds.contains(comment.getAuthor().getId()))
+                .filter(comment -> comment.getAuthor() == null
+                        || !blockGraph.existsBetween(currentUserId, comment.getAuthor().getId()))
                 .map(PostCommentDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -244,7 +348,9 @@ public class FeedService {
         comment.setPost(post);
         comment.setAuthor(getUser(currentUserId));
         comment.setContent(request.getContent().trim());
-        return PostCommentDto.fromEntity(postCommentRepository.save(comment));
+        PostComment saved = postCommentRepository.save(comment);
+        feedPostRepository.adjustCommentCount(postId, 1);
+        return PostCommentDto.fromEntity(saved);
     }
 
     @Transactional
@@ -311,6 +417,7 @@ public class FeedService {
                         .distinct()
                         .toList();
         feedPostRepository.delete(post);
+        publishPublicFeedChange(post, post.isPublicPreview());
         if (!mediaUrls.isEmpty()) {
             domainEventPublisher.publish(MediaFilesDeletedEvent.create(
                     "FeedPost", postId, mediaUrls));
@@ -323,6 +430,15 @@ public class FeedService {
                 .orElseThrow(() -> new MatchingException("댓글을 찾을 수 없어요.", HttpStatus.NOT_FOUND));
         requireCommentAuthor(currentUserId, comment);
         postCommentRepository.delete(comment);
+        if (comment.getPost() != null) {
+            feedPostRepository.adjustCommentCount(comment.getPost().getId(), -1);
+        }
+    }
+
+    private void publishPublicFeedChange(FeedPost post, boolean wasPublic) {
+        if (wasPublic || post.isPublicPreview()) {
+            applicationEventPublisher.publishEvent(new PublicFeedChangedEvent(post.getId()));
+        }
     }
 
     private void requireAuthor(Long currentUserId, FeedPost post) {
@@ -338,9 +454,7 @@ public class FeedService {
     }
 
     private FeedPostDto toDto(FeedPost post, User currentUser) {
-        long likeCount = postLikeRepository.countByPost_Id(post.getId());
-        long commentCount = postCommentRepository.countByPost_Id(post.getId());
-        return toDto(post, currentUser, likeCount, commentCount);
+        return toDto(post, currentUser, post.getLikeCount(), post.getCommentCount());
     }
 
     private FeedPostDto toDto(FeedPost post, User currentUser, long likeCount, long commentCount) {
@@ -381,97 +495,58 @@ public class FeedService {
         return dto;
     }
 
-    private RankedFeedPost rank(
+    private FeedCandidateIndex.Entry rank(
             FeedPost post,
-            User currentUser,
+            FeedRanking.MemberViewer viewer,
             FeedMode mode,
             LocalDateTime rankedAt,
-            EngagementSnapshot engagement
+            Set<String> likedPostIds
     ) {
-        long likeCount = engagement.likeCount(post.getId());
-        long commentCount = engagement.commentCount(post.getId());
-        FeedPostDto dto = toDto(
-                post,
-                currentUser,
+        long likeCount = post.getLikeCount();
+        long commentCount = post.getCommentCount();
+        FeedRanking.Signals signals = FeedRanking.memberSignals(
+                viewer, post, likeCount, commentCount, rankedAt);
+        return new FeedCandidateIndex.Entry(
+                post.getId(),
+                post.getCreatedAt(),
+                FeedRanking.memberScore(mode, signals),
                 likeCount,
                 commentCount,
-                engagement.likedPostIds().contains(post.getId()));
-        FeedRanking.Signals signals = FeedRanking.memberSignals(
-                currentUser, post, likeCount, commentCount, rankedAt);
-        dto.setRecommendationReasons(FeedRanking.recommendationReasons(mode, signals));
-        return new RankedFeedPost(
-                post,
-                dto,
+                likedPostIds.contains(post.getId()),
                 signals
         );
     }
 
-    private int compareRankedPosts(FeedMode mode, RankedFeedPost left, RankedFeedPost right) {
-        if (mode != FeedMode.LATEST) {
-            int byScore = Double.compare(
-                    FeedRanking.memberScore(mode, right.signals()),
-                    FeedRanking.memberScore(mode, left.signals()));
-            if (byScore != 0) {
-                return byScore;
-            }
-        }
-
-        return comparePostsByRecency(left.post(), right.post());
-    }
-
-    private int comparePostsByRecency(FeedPost left, FeedPost right) {
-        int byCreatedAt = Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())
-                .compare(left.getCreatedAt(), right.getCreatedAt());
-        if (byCreatedAt != 0) {
-            return byCreatedAt;
-        }
-        return Comparator.nullsLast(Comparator.<String>reverseOrder())
-                .compare(left.getId(), right.getId());
-    }
-
-    private record RankedFeedPost(
+    private FeedPostDto toRankedDto(
             FeedPost post,
-            FeedPostDto dto,
-            FeedRanking.Signals signals
+            User currentUser,
+            FeedMode mode,
+            FeedCandidateIndex.Entry entry
     ) {
+        FeedPostDto dto = toDto(
+                post,
+                currentUser,
+                entry.likeCount(),
+                entry.commentCount(),
+                entry.likedByViewer());
+        dto.setRecommendationReasons(FeedRanking.recommendationReasons(mode, entry.signals()));
+        return dto;
     }
 
-    private EngagementSnapshot loadEngagement(List<FeedPost> posts, Long currentUserId) {
+    /**
+     * Like and comment totals come from the post row itself; the only batched
+     * engagement read left is whether the viewer liked each post.
+     */
+    private Set<String> loadLikedPostIds(List<FeedPost> posts, Long currentUserId) {
         List<String> postIds = posts.stream()
                 .map(FeedPost::getId)
                 .filter(Objects::nonNull)
                 .distinct()
                 .toList();
-        if (postIds.isEmpty()) {
-            return EngagementSnapshot.empty();
-        }
-
-        Map<String, Long> likeCounts = postLikeRepository.countByPostIds(postIds).stream()
-                .collect(Collectors.toMap(PostEngagementCount::postId, PostEngagementCount::total));
-        Map<String, Long> commentCounts = postCommentRepository.countByPostIds(postIds).stream()
-                .collect(Collectors.toMap(PostEngagementCount::postId, PostEngagementCount::total));
-        Set<String> likedPostIds = currentUserId == null
-                ? Set.of()
-                : new HashSet<>(postLikeRepository.findLikedPostIds(currentUserId, postIds));
-        return new EngagementSnapshot(likeCounts, commentCounts, likedPostIds);
-    }
-
-    private record EngagementSnapshot(
-            Map<String, Long> likeCounts,
-            Map<String, Long> commentCounts,
-            Set<String> likedPostIds
-    ) {
-        private static EngagementSnapshot empty() {
-            return new EngagementSnapshot(Map.of(), Map.of(), Set.of());
-        }
-
-        private long likeCount(String postId) {
-            return likeCounts.getOrDefault(postId, 0L);
-        }
-
-        private long commentCount(String postId) {
-            return commentCounts.getOrDefault(postId, 0L);
+        if (postIds.isEmpty() || currentUserId == null) {
+            return Set.of();
         }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(currentUserId, postIds));
     }
 
     private User getUser(Long userId) {
@@ -485,7 +560,7 @@ public class FeedService {
     }
 
     private void requireCanInteract(Long currentUserId, FeedPost post) {
-        if (post.getAuthor() != null && userBlockRepository.existsBetween(currentUserId, post.getAuthor().getId())) {
+        if (post.getAuthor() != null && blockGraph.existsBetween(currentUserId, post.getAuthor().getId())) {
             throw new MatchingException("차단 관계인 사용자와는 상호작용할 수 없어요.", HttpStatus.FORBIDDEN);
         }
     }
@@ -11,7 +11,6 @@ import com.talkwithneighbors.entity.UserAccountType;
 import com.talkwithneighbors.exception.ChatException;
 import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.repository.UserRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.MeetupWaitlistRepository;
 import com.talkwithneighbors.repository.ChatScheduleRepository;
 import com.talkwithneighbors.repository.ChatScheduleRsvpRepository;
@@ -48,7 +47,7 @@ public class HobbyMeetupService {
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final DomainEventPublisher domainEventPublisher;
-    private final UserBlockRepository userBlockRepository;
+    private final BlockGraph blockGraph;
     private final MeetupWaitlistRepository meetupWaitlistRepository;
     private final ChatScheduleRepository chatScheduleRepository;
     private final ChatScheduleRsvpRepository chatScheduleRsvpRepository;
@@ -62,12 +61,12 @@ public class HobbyMeetupService {
         User currentUser = getUser(currentUserId);
         String normalizedKeyword = normalize(keyword);
         String normalizedInterest = normalize(interest);
-        List<Long> excludedUserIds = userBlockRepository.findExcludedUserIds(currentUserId);
 
         List<HobbyMeetupDto> meetups = chatRoomRepository
                 .findByTypeAndPublicRoomTrueOrderByLastMessageTimeDesc(ChatRoomType.GROUP)
                 .stream()
-                .filter(room -> room.getCreator() == null || !excludedUserIds.contains(room.getCreator().getId()))
+                .filter(room -> room.getCreator() == null
+                        || !blockGraph.existsBetween(currentUserId, room.getCreator().getId()))
                 .filter(room -> matches(room, normalizedKeyword, normalizedInterest))
                 .map(room -> toDto(room, currentUser))
                 .sorted(Comparator
@@ -137,7 +136,7 @@ public class HobbyMeetupService {
         User currentUser = getUser(currentUserId);
         ChatRoom room = getPublicMeetup(roomId);
         if (room.getCreator() != null
-                && userBlockRepository.existsBetween(currentUserId, room.getCreator().getId())) {
+                && blockGraph.existsBetween(currentUserId, room.getCreator().getId())) {
             throw new ChatException("Hobby meetup not found.", HttpStatus.NOT_FOUND);
         }
         return toDto(room, currentUser);
@@ -227,7 +226,7 @@ public class HobbyMeetupService {
     public HobbyMeetupDto joinMeetup(Long userId, String roomId) {
         User user = getUser(userId);
         ChatRoom room = getPublicMeetupForUpdate(roomId);
-        if (room.getCreator() != null && userBlockRepository.existsBetween(userId, room.getCreator().getId())) {
+        if (room.getCreator() != null && blockGraph.existsBetween(userId, room.getCreator().getId())) {
             throw new ChatException("차단 관계인 사용자의 모임에는 참여할 수 없어요.", HttpStatus.FORBIDDEN);
         }
         if (!chatScheduleRepository.existsByRoom_Id(room.getId()) && MeetupTimePolicy.isPast(
@@ -392,7 +391,7 @@ public class HobbyMeetupService {
                 changed = true;
                 continue;
             }
-            if (room.getCreator() != null && userBlockRepository.existsBetween(
+            if (room.getCreator() != null && blockGraph.existsBetween(
                     waitlistedUser.getId(), room.getCreator().getId())) {
                 meetupWaitlistRepository.delete(entry);
                 changed = true;
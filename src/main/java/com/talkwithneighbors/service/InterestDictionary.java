@@ -0,0 +1,168 @@
+package com.talkwithneighbors.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns normalized interests into small integer ids and keeps each user's
+ * interests as a sorted id array.
+ *
+ * <p>Compatibility scoring compares the same users many times per request, so
+ * the trimmed, lower-cased interest sets are built once per profile version and
+ * intersected with a merge over two int arrays afterwards. A cached array is
+ * reused only while the user's interest list still equals the list it was
+ * built from, so a profile change is picked up on the next score. When the
+ * dictionary fills up it starts a new {@link Numbering} and every cached array
+ * is rebuilt against it; callers compare ids from one numbering only.</p>
+ */
+final class InterestDictionary {
+    static final int MAX_INTERESTS = 100_000;
+    static final int MAX_USERS = 100_000;
+    private static final int[] NONE = new int[0];
+
+    private final ConcurrentMap<Long, UserInterests> users = new ConcurrentHashMap<>();
+    private volatile Numbering numbering = new Numbering();
+
+    Numbering current() {
+        return numbering;
+    }
+
+    static int intersectionSize(int[] first, int[] second) {
+        int i = 0;
+        int j = 0;
+        int shared = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Trimmed, lower-cased, distinct interests without blanks, in input order.
+     * Matching looks tags up in this form; stored profiles keep what users
+     * entered, and the column's case-insensitive collation matches either.
+     */
+    static List<String> normalizeAll(Collection<String> values) {
+        List<String> normalized = new ArrayList<>();
+        if (values == null) {
+            return normalized;
+        }
+        Set<String> seen = new HashSet<>();
+        for (String value : values) {
+            String item = normalize(value);
+            if (!item.isEmpty() && seen.add(item)) {
+                normalized.add(item);
+            }
+        }
+        return normalized;
+    }
+
+    int size() {
+        return numbering.ids.size();
+    }
+
+    int cachedUsers() {
+        return users.size();
+    }
+
+    private synchronized void renumberIfCurrent(Numbering full) {
+        if (numbering == full) {
+            numbering = new Numbering();
+            users.clear();
+        }
+    }
+
+    /**
+     * One assignment of ids to interests. A numbering that has been replaced
+     * keeps serving the requests that already hold it, so ids never mix.
+     */
+    final class Numbering {
+        private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+        private final AtomicInteger nextId = new AtomicInteger();
+
+        /** Sorted distinct ids of a stored profile's interests, cached per user. */
+        int[] idsOf(Long userId, List<String> interests) {
+            if (interests == null || interests.isEmpty()) {
+                return NONE;
+            }
+            if (userId == null) {
+                return idsOf(interests);
+            }
+            UserInterests cached = users.get(userId);
+            if (cached != null && cached.numbering() == this && cached.source().equals(interests)) {
+                return cached.ids();
+            }
+            int[] ids = idsOf(interests);
+            if (numbering == this && (users.size() < MAX_USERS || users.containsKey(userId))) {
+                users.put(userId, new UserInterests(new ArrayList<>(interests), this, ids));
+            }
+            return ids;
+        }
+
+        /** Sorted distinct ids of a list that does not belong to a stored profile. */
+        int[] idsOf(List<String> interests) {
+            if (interests == null || interests.isEmpty()) {
+                return NONE;
+            }
+            int[] ids = new int[interests.size()];
+            int count = 0;
+            for (String interest : interests) {
+                String normalized = normalize(interest);
+                if (!normalized.isEmpty()) {
+                    ids[count++] = intern(normalized);
+                }
+            }
+            if (count == 0) {
+                return NONE;
+            }
+            Arrays.sort(ids, 0, count);
+            int distinct = 1;
+            for (int index = 1; index < count; index++) {
+                if (ids[index] != ids[distinct - 1]) {
+                    ids[distinct++] = ids[index];
+                }
+            }
+            return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+        }
+
+        /** Id of one interest, or -1 when it has not been interned. */
+        int idOf(String interest) {
+            Integer id = ids.get(normalize(interest));
+            return id == null ? -1 : id;
+        }
+
+        private int intern(String normalized) {
+            Integer id = ids.get(normalized);
+            if (id != null) {
+                return id;
+            }
+            if (ids.size() >= MAX_INTERESTS) {
+                renumberIfCurrent(this);
+            }
+            return ids.computeIfAbsent(normalized, ignored -> nextId.getAndIncrement());
+        }
+    }
+
+    private record UserInterests(List<String> source, Numbering numbering, int[] ids) {
+    }
+}
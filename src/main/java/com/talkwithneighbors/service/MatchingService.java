@@ -17,13 +17,13 @@ import com.talkwithneighbors.exception.MatchingException;
 import com.talkwithneighbors.repository.MatchRepository;
 import com.talkwithneighbors.repository.MatchingPreferencesRepository;
 import com.talkwithneighbors.repository.UserRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.RecommendationFeedbackRepository;
 import com.talkwithneighbors.entity.RecommendationFeedback;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -32,10 +32,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.HashSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,6 +45,7 @@ public class MatchingService {
     private static final String NOTIFICATION_TYPE_MATCH_OFFERED = "MATCH_OFFERED";
     private static final String NOTIFICATION_TYPE_MATCH_ACCEPTED_BY_OTHER = "MATCH_ACCEPTED_BY_OTHER";
     private static final String NOTIFICATION_TYPE_MATCH_REJECTED_BY_OTHER = "MATCH_REJECTED_BY_OTHER";
+    private static final int LOCATIONLESS_CANDIDATE_LIMIT = 500;
     private static final Set<MatchStatus> ACTIVE_MATCH_STATUSES = Set.of(
             MatchStatus.PENDING,
             MatchStatus.USER1_ACCEPTED,
@@ -62,7 +63,7 @@ public class MatchingService {
     private final OfflineNotificationService offlineNotificationService;
     private final CompatibilityScoreService compatibilityScoreService;
     private final DomainEventPublisher domainEventPublisher;
-    private final UserBlockRepository userBlockRepository;
+    private final BlockGraph blockGraph;
     private final RecommendationFeedbackRepository recommendationFeedbackRepository;
 
     @PostConstruct
@@ -150,7 +151,7 @@ public class MatchingService {
         return matchRepository.findByUserId(userId).stream()
                 .filter(match -> !isExpired(match))
                 .filter(match -> isWaitingForResponseFrom(match, userId))
-                .filter(match -> !userBlockRepository.existsBetween(match.getUser1().getId(), match.getUser2().getId()))
+                .filter(match -> !blockGraph.existsBetween(match.getUser1().getId(), match.getUser2().getId()))
                 .sorted(Comparator.comparing(Match::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
                 .map(match -> {
                     User requester = match.getUser1().getId().equals(userId) ? match.getUser2() : match.getUser1();
@@ -284,12 +285,11 @@ public class MatchingService {
         }
 
         User currentUser = getUserById(userId);
-        Set<Long> excludedUserIds = new HashSet<>(userBlockRepository.findExcludedUserIds(userId));
         return userRepository.findNearbyUsers(latitude, longitude, radius).stream()
                 .filter(user -> !user.getId().equals(userId))
                 .filter(user -> user.getAccountType() != UserAccountType.SYSTEM)
                 .filter(user -> !Boolean.FALSE.equals(user.getProfileDiscoverable()))
-                .filter(user -> !excludedUserIds.contains(user.getId()))
+                .filter(user -> !blockGraph.existsBetween(userId, user.getId()))
                 .map(user -> {
                     Double distance = compatibilityScoreService.calculateDistance(
                             latitude,
@@ -308,35 +308,64 @@ public class MatchingService {
 
     private List<ScoredUser> findRecommendedCandidates(User currentUser, MatchingPreferencesDto preferences) {
         Double radius = preferences != null && preferences.getMaxDistance() != null ? preferences.getMaxDistance() : 50.0;
-        List<User> nearbyUsers = currentUser.getLatitude() == null || currentUser.getLongitude() == null
-                ? userRepository.findAll()
+        boolean located = hasCoordinates(currentUser);
+        List<User> nearbyUsers = !located
+                ? findLocationlessCandidates(currentUser, preferences)
                 : userRepository.findNearbyUsers(currentUser.getLatitude(), currentUser.getLongitude(), radius);
 
-        List<Long> existingChatPartnerIds = chatService != null
+        Set<Long> existingChatPartnerIds = new HashSet<>(chatService != null
                 ? safeList(chatService.getUsersWithOneOnOneChatRooms(currentUser.getId()))
-                : List.of();
-        Set<Long> excludedUserIds = new HashSet<>(userBlockRepository.findExcludedUserIds(currentUser.getId()));
+                : List.of());
+        Set<Long> activeMatchCounterpartIds = new HashSet<>(
+                matchRepository.findCounterpartIds(currentUser.getId(), ACTIVE_MATCH_STATUSES));
 
         return nearbyUsers.stream()
                 .filter(candidate -> candidate.getAccountType() != UserAccountType.SYSTEM)
                 .filter(candidate -> !Boolean.FALSE.equals(candidate.getProfileDiscoverable()))
-                .map(candidate -> new ScoredUser(candidate, compatibilityScoreService.calculateDistance(currentUser, candidate)))
+                .map(candidate -> new ScoredUser(candidate,
+                        located ? compatibilityScoreService.calculateDistance(currentUser, candidate) : null, 0))
                 .filter(candidate -> compatibilityScoreService.isEligible(currentUser, candidate.user(), preferences, candidate.distance()))
                 .filter(candidate -> !existingChatPartnerIds.contains(candidate.user().getId()))
-                .filter(candidate -> !excludedUserIds.contains(candidate.user().getId()))
-                .filter(candidate -> !hasActiveMatchBetween(currentUser.getId(), candidate.user().getId()))
+                .filter(candidate -> !blockGraph.existsBetween(currentUser.getId(), candidate.user().getId()))
+                .filter(candidate -> !activeMatchCounterpartIds.contains(candidate.user().getId()))
+                .map(candidate -> candidate.withScore(compatibilityScoreService.calculateScore(
+                        currentUser,
+                        candidate.user(),
+                        preferences,
+                        candidate.distance()
+                )))
                 .sorted(Comparator
-                        .comparingInt((ScoredUser candidate) -> compatibilityScoreService.calculateScore(
-                                currentUser,
-                                candidate.user(),
-                                preferences,
-                                candidate.distance()
-                        )).reversed()
+                        .comparingInt(ScoredUser::score).reversed()
                         .thenComparing(candidate -> candidate.user().getUsername(), Comparator.nullsLast(String::compareToIgnoreCase)))
                 .limit(20)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Without coordinates there is no radius to bound the search, so candidates
+     * come from the requester's interest buckets, capped like the feed's
+     * candidate universe. Stored tags keep the casing users entered, but the
+     * column collation ignores case, so each tag is looked up once, normalized.
+     */
+    private List<User> findLocationlessCandidates(User currentUser, MatchingPreferencesDto preferences) {
+        List<String> interests = preferences != null && preferences.getInterests() != null
+                && !preferences.getInterests().isEmpty()
+                ? preferences.getInterests()
+                : safeList(currentUser.getInterests());
+        List<String> lookupValues = InterestDictionary.normalizeAll(interests);
+        PageRequest limit = PageRequest.of(0, LOCATIONLESS_CANDIDATE_LIMIT);
+        return lookupValues.isEmpty()
+                ? userRepository.findRecentMatchCandidates(currentUser.getId(), limit)
+                : userRepository.findMatchCandidatesByInterests(lookupValues, currentUser.getId(), limit);
+    }
+
+    /** Sign-up stores 0/0 until the user sets a location; that is not a place to search around. */
+    private boolean hasCoordinates(User user) {
+        return user.getLatitude() != null
+                && user.getLongitude() != null
+                && !(Math.abs(user.getLatitude()) < 0.000001 && Math.abs(user.getLongitude()) < 0.000001);
+    }
+
     private MatchProfileDto toMatchProfile(
             User candidate,
             User currentUser,
@@ -447,7 +476,7 @@ public class MatchingService {
     }
 
     private void requireNotBlocked(Long firstId, Long secondId) {
-        if (userBlockRepository.existsBetween(firstId, secondId)) {
+        if (blockGraph.existsBetween(firstId, secondId)) {
             throw new MatchingException("차단 관계인 사용자에게는 매칭을 요청할 수 없어요.", HttpStatus.FORBIDDEN);
         }
     }
@@ -626,6 +655,9 @@ public class MatchingService {
         return values == null ? List.of() : values;
     }
 
-    private record ScoredUser(User user, Double distance) {
+    private record ScoredUser(User user, Double distance, int score) {
+        ScoredUser withScore(int newScore) {
+            return new ScoredUser(user, distance, newScore);
+        }
     }
 }
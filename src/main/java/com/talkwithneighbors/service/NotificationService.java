@@ -1,9 +1,12 @@
 package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.notification.ReadCursorUpdate;
 import com.talkwithneighbors.entity.ChatRoom;
 import com.talkwithneighbors.entity.Message;
 
+import java.util.List;
+
 /**
  * 실시간 알림을 처리하는 서비스 인터페이스
  */
@@ -19,13 +22,13 @@ public interface NotificationService {
     void sendNewMessageNotification(Message message, ChatRoom chatRoom, Long senderId);
     
     /**
-     * 메시지 읽음 상태 변경 알림을 채팅방 참여자들에게 전송합니다.
+     * 읽음 커서 변경을 채팅방 참여자마다 MESSAGES_READ_UP_TO 프레임 하나로 전송합니다.
      * 
-     * @param messageId 읽음 상태가 변경된 메시지 ID
      * @param chatRoomId 채팅방 ID
-     * @param readByUserId 메시지를 읽은 사용자 ID
+     * @param participantIds 프레임을 받을 참여자 ID 목록
+     * @param reads 읽은 사용자별 마지막 읽음 위치
      */
-    void sendMessageReadStatusUpdate(String messageId, String chatRoomId, Long readByUserId);
+    void sendReadCursorUpdates(String chatRoomId, List<Long> participantIds, List<ReadCursorUpdate> reads);
     
     /**
      * 채팅방의 읽지 않은 메시지 수 업데이트 알림을 전송합니다.
@@ -217,7 +217,8 @@ public class OfficialContentSeedService {
             LocalDateTime createdAt
     ) {
         PostComment comment = postCommentRepository.findById(id).orElse(null);
-        if (comment == null) {
+        boolean created = comment == null;
+        if (created) {
             comment = new PostComment();
             comment.setId(id);
             comment.setCreatedAt(createdAt);
@@ -231,6 +232,9 @@ public class OfficialContentSeedService {
         comment.setAuthor(owner);
         comment.setContent(content);
         postCommentRepository.save(comment);
+        if (created) {
+            feedPostRepository.adjustCommentCount(post.getId(), 1);
+        }
     }
 
     private void seedMeetupOccurrences(User owner) {
@@ -413,7 +417,6 @@ public class OfficialContentSeedService {
         card.setContent("일정: " + schedule.getTitle());
         card.setType(Message.MessageType.SCHEDULE);
         card.setSchedule(schedule);
-        card.getReadByUsers().add(owner.getId());
         messageRepository.saveAndFlush(card);
     }
 
@@ -2,6 +2,8 @@ package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.entity.OfflineNotification;
 
+import java.util.Collection;
+
 /**
  * 오프라인 사용자 알림 관리 서비스
  * 사용자가 오프라인일 때 알림을 저장하고, 온라인이 될 때 전송하는 기능을 제공합니다.
@@ -25,6 +27,20 @@ public interface OfflineNotificationService {
                                 String actionUrl, 
                                 Integer priority);
     
+    /**
+     * 같은 알림을 여러 사용자에게 한 번에 저장합니다.
+     * 알림 설정은 한 번의 조회로 확인하고, 저장은 한 문장의 INSERT로 처리합니다.
+     * 
+     * @param userIds 사용자 ID 목록
+     * @return 저장된 알림 수 (설정으로 끈 사용자와 중복 알림 제외)
+     */
+    int saveOfflineNotifications(Collection<Long> userIds,
+                                 OfflineNotification.NotificationType type,
+                                 String data,
+                                 String message,
+                                 String actionUrl,
+                                 Integer priority);
+    
     /**
      * 사용자가 온라인이 될 때 쌓인 알림들을 전송합니다.
      * 
@@ -54,4 +70,9 @@ public interface OfflineNotificationService {
     void markAllAsSent(Long userId);
 
     void markAsDelivered(Long notificationId);
+
+    /**
+     * 여러 사용자의 같은 타입·데이터 미전송 알림을 한 번에 전송 완료로 표시합니다.
+     */
+    void markAsDelivered(Collection<Long> userIds, OfflineNotification.NotificationType type, String data);
 }
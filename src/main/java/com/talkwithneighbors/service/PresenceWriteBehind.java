@@ -0,0 +1,78 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Batches the {@code users.is_online}/{@code last_online_at} projection of
+ * Redis presence.
+ *
+ * <p>Presence transitions only record the user's latest state here; a
+ * scheduled flush writes every pending user with two bulk updates. The
+ * columns are a durable fallback for the offline sweeper and for nodes that
+ * cannot reach Redis, so they may lag Redis by one flush interval. Pending
+ * states are lost if the node dies or a flush fails; the sweeper and the
+ * user's next activity correct them.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceWriteBehind {
+    static final int BATCH_SIZE = 1_000;
+
+    private final UserRepository userRepository;
+    private final ConcurrentMap<Long, Boolean> pending = new ConcurrentHashMap<>();
+
+    public void markOnline(Long userId) {
+        if (userId != null) {
+            pending.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public void markOffline(Long userId) {
+        if (userId != null) {
+            pending.put(userId, Boolean.FALSE);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.presence.flush-interval-ms:10000}")
+    @Transactional
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> online = new ArrayList<>();
+        List<Long> offline = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            // A state recorded after this remove stays pending for the next flush.
+            Boolean state = pending.remove(userId);
+            if (Boolean.TRUE.equals(state)) {
+                online.add(userId);
+            } else if (Boolean.FALSE.equals(state)) {
+                offline.add(userId);
+            }
+        }
+        LocalDateTime seenAt = LocalDateTime.now();
+        for (int from = 0; from < online.size(); from += BATCH_SIZE) {
+            userRepository.markOnline(online.subList(from, Math.min(from + BATCH_SIZE, online.size())), seenAt);
+        }
+        for (int from = 0; from < offline.size(); from += BATCH_SIZE) {
+            userRepository.markOffline(offline.subList(from, Math.min(from + BATCH_SIZE, offline.size())));
+        }
+        log.debug("Flushed presence. online={}, offline={}", online.size(), offline.size());
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+}
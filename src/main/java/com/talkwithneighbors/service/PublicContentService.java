@@ -2,16 +2,15 @@ package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.dto.publiccontent.PublicFeedPostDto;
 import com.talkwithneighbors.dto.publiccontent.PublicMeetupDto;
+import com.talkwithneighbors.dto.feed.FeedCursor;
+import com.talkwithneighbors.dto.feed.FeedCursorPage;
 import com.talkwithneighbors.dto.feed.FeedMode;
 import com.talkwithneighbors.entity.ChatRoom;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.ChatRoomStatus;
 import com.talkwithneighbors.entity.FeedPost;
-import com.talkwithneighbors.repository.PostLikeRepository;
-import com.talkwithneighbors.repository.PostCommentRepository;
 import com.talkwithneighbors.repository.publiccontent.PublicFeedPostRepository;
 import com.talkwithneighbors.repository.publiccontent.PublicMeetupRepository;
-import com.talkwithneighbors.repository.projection.PostEngagementCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -20,12 +19,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -33,19 +30,17 @@ public class PublicContentService {
     private static final int RECOMMENDATION_CANDIDATE_LIMIT = 500;
 
     private final PublicFeedPostRepository feedPostRepository;
-    private final PostCommentRepository postCommentRepository;
     private final PublicMeetupRepository meetupRepository;
-    private final PostLikeRepository postLikeRepository;
+    private final PublicFeedRankingCache publicFeedRankingCache;
+
     public PublicContentService(
             PublicFeedPostRepository feedPostRepository,
-            PostCommentRepository postCommentRepository,
             PublicMeetupRepository meetupRepository,
-            PostLikeRepository postLikeRepository
+            PublicFeedRankingCache publicFeedRankingCache
     ) {
         this.feedPostRepository = feedPostRepository;
-        this.postCommentRepository = postCommentRepository;
         this.meetupRepository = meetupRepository;
-        this.postLikeRepository = postLikeRepository;
+        this.publicFeedRankingCache = publicFeedRankingCache;
     }
 
     public Page<PublicFeedPostDto> getFeed(Pageable pageable) {
@@ -59,28 +54,58 @@ public class PublicContentService {
                 return Page.empty(pageable);
             }
             Page<FeedPost> page = feedPostRepository.findPublicFeed(pageable);
-            EngagementSnapshot engagement = loadEngagement(page.getContent());
             List<PublicFeedPostDto> content = page.getContent().stream()
-                    .map(post -> toPublicDto(post, engagement))
+                    .map(this::toPublicDto)
                     .toList();
             return new PageImpl<>(content, pageable, page.getTotalElements());
         }
 
+        String regionKey = FeedRanking.publicRegionKey(region);
+        List<PublicFeedPostDto> ranked = publicFeedRankingCache.get(
+                effectiveMode, regionKey, () -> rankCandidates(effectiveMode, regionKey));
+        if (pageable.getOffset() >= ranked.size()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+        int start = (int) pageable.getOffset();
+        int end = (int) Math.min(ranked.size(), pageable.getOffset() + pageable.getPageSize());
+        return new PageImpl<>(ranked.subList(start, end), pageable, ranked.size());
+    }
+
+    /**
+     * Scores the bounded public candidate set once and orders it completely;
+     * the result is shared by every visitor until it is rebuilt.
+     */
+    private List<PublicFeedPostDto> rankCandidates(FeedMode mode, String regionKey) {
         LocalDateTime rankedAt = LocalDateTime.now();
         List<FeedPost> candidates = feedPostRepository.findPublicFeed(
                         PageRequest.of(0, RECOMMENDATION_CANDIDATE_LIMIT))
                 .getContent();
-        EngagementSnapshot engagement = loadEngagement(candidates);
-        List<RankedPublicPost> ranked = candidates.stream()
-                .map(post -> rank(post, region, rankedAt, engagement))
-                .sorted((left, right) -> compareRankedPosts(effectiveMode, left, right))
+        List<RankedPublicPost> ranked = new ArrayList<>(candidates.size());
+        for (FeedPost post : candidates) {
+            ranked.add(rank(post, mode, regionKey, rankedAt));
+        }
+        ranked.sort(this::compareRankedPosts);
+        return ranked.stream()
+                .map(rankedPost -> toPublicDto(rankedPost.post()))
                 .toList();
-        int start = safePageStart(pageable, ranked.size());
-        int end = Math.min(start + pageable.getPageSize(), ranked.size());
-        List<PublicFeedPostDto> content = ranked.subList(start, end).stream()
-                .map(RankedPublicPost::dto)
+    }
+
+    /**
+     * Keyset-paginated public LATEST feed without a count query.
+     */
+    public FeedCursorPage<PublicFeedPostDto> getLatestFeed(String cursor, int size) {
+        FeedCursor position = FeedCursor.fromRequest(cursor);
+        Pageable slice = PageRequest.of(0, size + 1);
+        List<FeedPost> rows = position == null
+                ? feedPostRepository.findPublicFeedSlice(slice)
+                : feedPostRepository.findPublicFeedSliceBefore(position.createdAt(), position.postId(), slice);
+        boolean hasNext = rows.size() > size;
+        List<FeedPost> pagePosts = hasNext ? rows.subList(0, size) : rows;
+        List<PublicFeedPostDto> content = pagePosts.stream()
+                .map(this::toPublicDto)
                 .toList();
-        return new PageImpl<>(content, pageable, ranked.size());
+        return new FeedCursorPage<>(
+                content, hasNext ? FeedCursor.after(pagePosts.get(size - 1)).encode() : null, hasNext);
     }
 
     public Page<PublicMeetupDto> getMeetups(String keyword, String interest, Pageable pageable) {
@@ -100,38 +125,28 @@ public class PublicContentService {
         return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
     }
 
-    private int safePageStart(Pageable pageable, int resultSize) {
-        long offset = pageable.getOffset();
-        return offset >= resultSize ? resultSize : Math.toIntExact(offset);
-    }
-
-    private PublicFeedPostDto toPublicDto(FeedPost post, EngagementSnapshot engagement) {
-        return PublicFeedPostDto.fromEntity(
-                post,
-                engagement.likeCount(post.getId()),
-                engagement.commentCount(post.getId())
-        );
+    private PublicFeedPostDto toPublicDto(FeedPost post) {
+        return PublicFeedPostDto.fromEntity(post, post.getLikeCount(), post.getCommentCount());
     }
 
     private RankedPublicPost rank(
             FeedPost post,
+            FeedMode mode,
             String region,
-            LocalDateTime rankedAt,
-            EngagementSnapshot engagement
+            LocalDateTime rankedAt
     ) {
-        long likeCount = engagement.likeCount(post.getId());
-        long commentCount = engagement.commentCount(post.getId());
-        return new RankedPublicPost(
+        PublicFeedPostDto.requirePublicPreview(post);
+        FeedRanking.Signals signals = FeedRanking.publicSignals(
                 post,
-                PublicFeedPostDto.fromEntity(post, likeCount, commentCount),
-                FeedRanking.publicSignals(post, likeCount, commentCount, region, rankedAt)
-        );
+                post.getLikeCount(),
+                post.getCommentCount(),
+                region,
+                rankedAt);
+        return new RankedPublicPost(post, FeedRanking.publicScore(mode, signals));
     }
 
-    private int compareRankedPosts(FeedMode mode, RankedPublicPost left, RankedPublicPost right) {
-        int byScore = Double.compare(
-                FeedRanking.publicScore(mode, right.signals()),
-                FeedRanking.publicScore(mode, left.signals()));
+    private int compareRankedPosts(RankedPublicPost left, RankedPublicPost right) {
+        int byScore = Double.compare(right.score(), left.score());
         if (byScore != 0) {
             return byScore;
         }
@@ -145,43 +160,6 @@ public class PublicContentService {
                 .compare(left.post().getId(), right.post().getId());
     }
 
-    private record RankedPublicPost(
-            FeedPost post,
-            PublicFeedPostDto dto,
-            FeedRanking.Signals signals
-    ) {
-    }
-
-    private EngagementSnapshot loadEngagement(List<FeedPost> posts) {
-        List<String> postIds = posts.stream()
-                .map(FeedPost::getId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        if (postIds.isEmpty()) {
-            return EngagementSnapshot.empty();
-        }
-        Map<String, Long> likeCounts = postLikeRepository.countByPostIds(postIds).stream()
-                .collect(Collectors.toMap(PostEngagementCount::postId, PostEngagementCount::total));
-        Map<String, Long> commentCounts = postCommentRepository.countByPostIds(postIds).stream()
-                .collect(Collectors.toMap(PostEngagementCount::postId, PostEngagementCount::total));
-        return new EngagementSnapshot(likeCounts, commentCounts);
-    }
-
-    private record EngagementSnapshot(
-            Map<String, Long> likeCounts,
-            Map<String, Long> commentCounts
-    ) {
-        private static EngagementSnapshot empty() {
-            return new EngagementSnapshot(Map.of(), Map.of());
-        }
-
-        private long likeCount(String postId) {
-            return likeCounts.getOrDefault(postId, 0L);
-        }
-
-        private long commentCount(String postId) {
-            return commentCounts.getOrDefault(postId, 0L);
-        }
+    private record RankedPublicPost(FeedPost post, double score) {
     }
 }
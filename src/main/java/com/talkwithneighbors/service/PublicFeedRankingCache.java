@@ -0,0 +1,135 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.dto.feed.FeedMode;
+import com.talkwithneighbors.dto.publiccontent.PublicFeedPostDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide ranked public feed per mode and canonical region.
+ *
+ * <p>Public ranking has no viewer input, so every anonymous visitor asking for
+ * the same mode and region shares one ranking. It is rebuilt when it is older
+ * than the TTL or after a local post write invalidates it; like and comment
+ * counts refresh with the TTL. Concurrent misses for one key wait for a single
+ * rebuild instead of each scanning the candidates. The rebuild runs outside the
+ * map, so its query never holds a map lock that other keys or an invalidation
+ * would wait on. Rankings are node-local, so another node may serve a removed
+ * post until its own TTL passes.</p>
+ */
+@Component
+public class PublicFeedRankingCache {
+    static final int MAX_RANKINGS = 256;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final ConcurrentMap<Key, Ranking> rankings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, CompletableFuture<List<PublicFeedPostDto>>> builds = new ConcurrentHashMap<>();
+    /** Bumped on every invalidation so a build that raced with one is not cached. */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public PublicFeedRankingCache(@Value("${app.public-feed.ranking-ttl-seconds:30}") long ttlSeconds) {
+        this(Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    PublicFeedRankingCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the fresh ranking for the key, building it with {@code loader}
+     * when it is missing or stale.
+     */
+    public List<PublicFeedPostDto> get(FeedMode mode, String regionKey, Supplier<List<PublicFeedPostDto>> loader) {
+        Key key = new Key(mode, regionKey);
+        Ranking cached = rankings.get(key);
+        Instant now = clock.instant();
+        if (cached != null && !isExpired(cached, now)) {
+            return cached.posts();
+        }
+        if (cached == null && rankings.size() >= MAX_RANKINGS) {
+            removeExpiredRankings();
+            if (rankings.size() >= MAX_RANKINGS) {
+                return List.copyOf(loader.get());
+            }
+        }
+        CompletableFuture<List<PublicFeedPostDto>> build = new CompletableFuture<>();
+        CompletableFuture<List<PublicFeedPostDto>> running = builds.putIfAbsent(key, build);
+        if (running != null) {
+            return awaitBuild(running);
+        }
+        try {
+            List<PublicFeedPostDto> posts = build(key, loader);
+            build.complete(posts);
+            return posts;
+        } catch (RuntimeException exception) {
+            build.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            builds.remove(key, build);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        rankings.clear();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    void removeExpiredRankings() {
+        Instant now = clock.instant();
+        rankings.values().removeIf(ranking -> isExpired(ranking, now));
+    }
+
+    int size() {
+        return rankings.size();
+    }
+
+    private List<PublicFeedPostDto> build(Key key, Supplier<List<PublicFeedPostDto>> loader) {
+        // The previous builder may have stored a fresh ranking after this caller's first read.
+        Ranking current = rankings.get(key);
+        if (current != null && !isExpired(current, clock.instant())) {
+            return current.posts();
+        }
+        long startedAt = generation.get();
+        Ranking built = new Ranking(clock.instant(), List.copyOf(loader.get()));
+        rankings.compute(key, (ignored, existing) -> generation.get() == startedAt ? built : existing);
+        return built.posts();
+    }
+
+    private static List<PublicFeedPostDto> awaitBuild(CompletableFuture<List<PublicFeedPostDto>> build) {
+        try {
+            return build.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private boolean isExpired(Ranking ranking, Instant now) {
+        return !now.isBefore(ranking.createdAt().plus(ttl));
+    }
+
+    private record Key(FeedMode mode, String regionKey) {
+    }
+
+    private record Ranking(Instant createdAt, List<PublicFeedPostDto> posts) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.dto.notification.ReadCursorUpdate;
+import com.talkwithneighbors.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coalesces read receipts into one {@code MESSAGES_READ_UP_TO} frame per room.
+ *
+ * <p>A read cursor move only records the member's newest mark here. A
+ * scheduled flush loads each room's participant IDs once and sends every
+ * participant one frame that carries all readers' marks for that room, so
+ * opening a room with hundreds of unread messages costs one frame per
+ * participant instead of one per message. Each room's frame is sent from the
+ * lowest-priority {@link ChatNotificationDispatcher} lane. Clients may see a receipt up to one
+ * flush interval late. Pending marks are lost if the node dies; the next
+ * message history load returns the receipts from the read cursors.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadStatusBroadcaster {
+    private final ChatRoomRepository chatRoomRepository;
+    private final NotificationService notificationService;
+    private final ChatNotificationDispatcher notificationDispatcher;
+    private final ConcurrentMap<RoomReader, ReadCursorUpdate> pending = new ConcurrentHashMap<>();
+
+    public void record(String roomId, Long readerId, String lastReadMessageId, LocalDateTime lastReadAt) {
+        if (roomId == null || readerId == null || lastReadAt == null) {
+            return;
+        }
+        pending.merge(
+                new RoomReader(roomId, readerId),
+                new ReadCursorUpdate(readerId, lastReadMessageId, lastReadAt),
+                ReadCursorUpdate::later);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.read-status-flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, List<ReadCursorUpdate>> readsByRoom = new LinkedHashMap<>();
+        for (RoomReader roomReader : pending.keySet()) {
+            // A mark recorded after this remove stays pending for the next flush.
+            ReadCursorUpdate read = pending.remove(roomReader);
+            if (read != null) {
+                readsByRoom.computeIfAbsent(roomReader.roomId(), roomId -> new ArrayList<>()).add(read);
+            }
+        }
+        readsByRoom.forEach((roomId, reads) -> notificationDispatcher.submitReadStatus(() -> {
+            try {
+                notificationService.sendReadCursorUpdates(
+                        roomId, chatRoomRepository.findParticipantIds(roomId), reads);
+            } catch (Exception exception) {
+                log.error("Failed to broadcast read receipts. roomId={}, readers={}",
+                        roomId, reads.size(), exception);
+            }
+        }));
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private record RoomReader(String roomId, Long readerId) {
+    }
+}
@@ -5,11 +5,16 @@ import com.talkwithneighbors.entity.Session;
 import com.talkwithneighbors.entity.User;
 import com.talkwithneighbors.repository.UserSessionRepository;
 import com.talkwithneighbors.repository.UserRepository;
+import com.talkwithneighbors.domain.event.SessionRevokedEvent;
 import com.talkwithneighbors.security.UserSession;
-import com.talkwithneighbors.websocket.AuthenticatedWebSocketSessionRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -24,7 +29,11 @@ import java.security.Principal;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,21 +46,45 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
     private final UserSessionRepository userSessionRepository;
     private final UserRepository userRepository;
     private final UserOnlineStatusListener userOnlineStatusListener;
-    private final AuthenticatedWebSocketSessionRegistry webSocketSessionRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PresenceWriteBehind presenceWriteBehind;
+    private final Duration sessionTouchInterval;
+    private final Duration presenceRefreshInterval;
     
     // @Lazy를 사용하여 순환 의존성 해결
+    @Autowired
     public RedisSessionService(RedisTemplate<String, String> redisTemplate,
                               ObjectMapper objectMapper,
                               UserSessionRepository userSessionRepository,
                               UserRepository userRepository,
                               @Lazy UserOnlineStatusListener userOnlineStatusListener,
-                              AuthenticatedWebSocketSessionRegistry webSocketSessionRegistry) {
+                              ApplicationEventPublisher eventPublisher,
+                              PresenceWriteBehind presenceWriteBehind,
+                              @Value("${app.session.touch-fraction:0.05}") double touchFraction,
+                              @Value("${app.session.presence-refresh-seconds:60}") long presenceRefreshSeconds) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
         this.userSessionRepository = userSessionRepository;
         this.userRepository = userRepository;
         this.userOnlineStatusListener = userOnlineStatusListener;
-        this.webSocketSessionRegistry = webSocketSessionRegistry;
+        this.eventPublisher = eventPublisher;
+        this.presenceWriteBehind = presenceWriteBehind;
+        this.sessionTouchInterval = Duration.ofSeconds(
+                Math.round(SESSION_EXPIRATION * Math.max(0.0, Math.min(1.0, touchFraction))));
+        // 오프라인 판정(5분)보다 충분히 자주 갱신해야 활동 중인 사용자가 오프라인으로 바뀌지 않습니다.
+        this.presenceRefreshInterval = Duration.ofSeconds(
+                Math.max(0, Math.min(presenceRefreshSeconds, ONLINE_EXPIRATION / 2)));
+    }
+
+    RedisSessionService(RedisTemplate<String, String> redisTemplate,
+                        ObjectMapper objectMapper,
+                        UserSessionRepository userSessionRepository,
+                        UserRepository userRepository,
+                        UserOnlineStatusListener userOnlineStatusListener,
+                        ApplicationEventPublisher eventPublisher,
+                        PresenceWriteBehind presenceWriteBehind) {
+        this(redisTemplate, objectMapper, userSessionRepository, userRepository,
+                userOnlineStatusListener, eventPublisher, presenceWriteBehind, 0.05, 60);
     }
     
     private static final String SESSION_PREFIX = "session:";
@@ -122,29 +155,40 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
             } catch (Exception redisError) {
                 log.debug("Redis is unavailable while removing an expired session.");
             }
-            webSocketSessionRegistry.closeSessionsForCredential(sessionId);
+            eventPublisher.publishEvent(new SessionRevokedEvent(sessionId));
             return null;
         }
 
-        session.setLastAccessedAt(now);
-        session.setExpiresAt(now.plusSeconds(SESSION_EXPIRATION));
-        User user = userSessionRepository.save(session).getUser();
+        User user = session.getUser();
         if (user == null || user.getId() == null) {
             return null;
         }
 
         UserSession userSession = UserSession.of(
                 user.getId(), user.getUsername(), user.getEmail(), user.getUsername());
-        try {
-            String userSessionJson = objectMapper.writeValueAsString(userSession);
-            redisTemplate.opsForValue().set(key, userSessionJson, SESSION_EXPIRATION, TimeUnit.SECONDS);
-        } catch (Exception redisError) {
-            log.debug("Redis is unavailable. The session remains database-backed.");
+        // 만료 연장은 TTL의 일정 비율이 지났을 때만 기록해 읽기 요청마다 세션 행을 갱신하지 않습니다.
+        if (isDue(session.getLastAccessedAt(), now, sessionTouchInterval)) {
+            session.setLastAccessedAt(now);
+            session.setExpiresAt(now.plusSeconds(SESSION_EXPIRATION));
+            userSessionRepository.save(session);
+            try {
+                String userSessionJson = objectMapper.writeValueAsString(userSession);
+                redisTemplate.opsForValue().set(key, userSessionJson, SESSION_EXPIRATION, TimeUnit.SECONDS);
+            } catch (Exception redisError) {
+                log.debug("Redis is unavailable. The session remains database-backed.");
+            }
+        }
+        if (!Boolean.TRUE.equals(user.getIsOnline())
+                || isDue(user.getLastOnlineAt(), now, presenceRefreshInterval)) {
+            setUserOnline(user.getId().toString());
         }
-        setUserOnline(user.getId().toString());
         return userSession;
     }
 
+    private boolean isDue(LocalDateTime lastWrite, LocalDateTime now, Duration interval) {
+        return lastWrite == null || !lastWrite.plus(interval).isAfter(now);
+    }
+
     /**
      * Reads the database-backed session without extending its lifetime or
      * updating online presence. Used by high-frequency STOMP authorization.
@@ -207,7 +251,7 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
 
         // RDB에서 현재 세션 삭제
         userSessionRepository.deleteById(sessionId);
-        webSocketSessionRegistry.closeSessionsForCredential(sessionId);
+        eventPublisher.publishEvent(new SessionRevokedEvent(sessionId));
 
         if (userIdToProcess != null) {
             // 다른 활성 세션이 있는지 확인
@@ -242,138 +286,118 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
     
     /**
      * 사용자를 온라인 상태로 표시합니다.
+     * Redis 키가 기준이며 RDB 컬럼은 {@link PresenceWriteBehind}가 일괄 반영합니다.
      */
-    @Transactional
     public void setUserOnline(String userId) {
-        log.info("=== [RedisSessionService] 🎯 setUserOnline 호출됨! userId: {} ===", userId);
-        
-        // 이벤트 트리거 여부를 판단하기 위해, 메서드 시작 시점의 Redis 온라인 상태를 먼저 확인
-        boolean wasOnlineInRedisBeforeUpdate = isUserOnlineFromRedis(userId);
-        log.info("[setUserOnline] userId: {}, wasOnlineInRedisBeforeUpdate: {}", userId, wasOnlineInRedisBeforeUpdate);
-
-        // 데이터베이스에서 실제 사용자 상태 확인 (더 정확한 상태 변경 감지)
-        User user = userRepository.findById(Long.parseLong(userId))
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // boolean wasActuallyOnline = user.getIsOnline() != null && user.getIsOnline(); // 이 조건은 로깅용으로만 남기되, 이벤트 트리거에는 직접 사용하지 않음
-        // LocalDateTime lastOnline = user.getLastOnlineAt();
-        LocalDateTime now = LocalDateTime.now();
-        
-        // 마지막 온라인 시간이 1분 이내가 아니면 오프라인 상태로 간주 (로깅용)
-        // boolean wasRecentlyOnline = lastOnline != null && 
-        //                            lastOnline.isAfter(now.minusMinutes(1));
-        
-        // log.info("[setUserOnline] userId: {}, DB_wasActuallyOnline: {}, DB_wasRecentlyOnline: {}, DB_lastOnline: {}", 
-        //          userId, wasActuallyOnline, wasRecentlyOnline, lastOnline);
-        
-        // Redis에 온라인 상태를 캐시하지만, Redis가 없어도 DB 상태는 유지합니다.
+        Long parsedUserId = Long.parseLong(userId);
+        boolean cameOnline;
         try {
             String key = ONLINE_PREFIX + userId;
-            redisTemplate.opsForValue().set(key, "online", ONLINE_EXPIRATION, TimeUnit.SECONDS);
+            // 키가 새로 만들어진 경우에만 오프라인 → 온라인 전환으로 봅니다.
+            cameOnline = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(key, "online", ONLINE_EXPIRATION, TimeUnit.SECONDS));
+            if (!cameOnline) {
+                redisTemplate.expire(key, ONLINE_EXPIRATION, TimeUnit.SECONDS);
+            }
         } catch (Exception e) {
             log.debug("Redis is unavailable while marking user {} online.", userId);
+            cameOnline = false;
         }
-        
-        // RDB에 온라인 상태 저장
-        user.setIsOnline(true);
-        user.setLastOnlineAt(now);
-        userRepository.save(user);
-        
-        log.info("User {} is now online (RDB and Redis updated)", userId);
-        
-        // 실제로 오프라인에서 온라인으로 전환된 경우에만 이벤트 발생 (Redis 기준)
-        // Redis에 해당 유저의 online 키가 없었다가 방금 생성된 경우에만 이벤트 트리거
-        boolean shouldTriggerEvent = !wasOnlineInRedisBeforeUpdate;
-        
-        if (shouldTriggerEvent) {
-            log.info("🎉 [setUserOnline] Triggering user online event for userId: {} (was not online in Redis before this update)", userId);
-            try {
-                // UserOnlineStatusListener 호출
-                triggerUserOnlineEvent(Long.parseLong(userId));
-            } catch (Exception e) {
-                log.error("Error triggering user online event for userId {}: {}", userId, e.getMessage(), e);
-            }
-        } else {
-            log.info("⏭️ [setUserOnline] Skipping event for userId: {} (was already online in Redis or no actual state change for triggering event)", userId);
+        presenceWriteBehind.markOnline(parsedUserId);
+
+        if (cameOnline) {
+            log.info("[setUserOnline] User {} came online.", userId);
+            triggerUserOnlineEvent(parsedUserId);
         }
     }
-    
+
     /**
-     * Redis에서만 온라인 상태를 확인합니다 (이벤트 중복 방지용)
+     * 사용자가 온라인 상태인지 확인합니다.
+     * Redis 키만 확인하고, Redis를 사용할 수 없을 때만 RDB의 최근 활동 시각으로 판단합니다.
      */
-    private boolean isUserOnlineFromRedis(String userId) {
+    public boolean isUserOnline(String userId) {
         try {
-            String key = ONLINE_PREFIX + userId;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
-        } catch (Exception e) {
+            Long parsedUserId = Long.parseLong(userId);
+            return onlineUserIds(List.of(parsedUserId)).contains(parsedUserId);
+        } catch (NumberFormatException e) {
+            log.warn("[isUserOnline] Invalid userId format. Considering OFFLINE.");
             return false;
         }
     }
-    
+
     /**
-     * 사용자가 온라인 상태인지 확인합니다.
-     * Redis 키 존재 여부와 실제 활동 시간을 함께 고려합니다.
+     * 주어진 사용자 중 온라인인 사용자를 한 번의 Redis 왕복으로 조회합니다.
      */
-    public boolean isUserOnline(String userId) {
-        log.info("=== [RedisSessionService] isUserOnline check for userId: {} ===", userId);
+    public Set<Long> onlineUserIds(Collection<Long> userIds) {
+        List<Long> ids = distinctIds(userIds);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
         try {
-            Long userLongId = Long.parseLong(userId);
-            User user = userRepository.findById(userLongId).orElse(null);
-
-            if (user == null) {
-                log.warn("[isUserOnline] User not found for ID: {}. Considering OFFLINE.", userId);
-                return false;
-            }
-
-            Boolean rdbIsOnline = user.getIsOnline();
-            LocalDateTime lastOnlineAt = user.getLastOnlineAt();
-            LocalDateTime now = LocalDateTime.now();
-
-            // RDB의 is_online이 명시적으로 false이면 오프라인
-            if (Boolean.FALSE.equals(rdbIsOnline)) {
-                log.info("[isUserOnline] userId: {} is OFFLINE (RDB is_online is false).", userId);
-                return false;
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    ids.stream().map(id -> ONLINE_PREFIX + id).toList());
+            Set<Long> online = new HashSet<>();
+            for (int index = 0; index < ids.size(); index++) {
+                if (values != null && index < values.size() && values.get(index) != null) {
+                    online.add(ids.get(index));
+                }
             }
-
-            // RDB의 is_online이 true이거나 null(오래된 데이터 호환)일 때 lastOnlineAt 기준으로 판단
-            // ONLINE_EXPIRATION (5분) 이상 활동 없으면 오프라인 간주
-            if (lastOnlineAt == null || lastOnlineAt.isBefore(now.minusSeconds(ONLINE_EXPIRATION))) {
-                log.info("[isUserOnline] userId: {} is OFFLINE (lastOnlineAt: {} is older than {} seconds ago or null).", 
-                         userId, lastOnlineAt, ONLINE_EXPIRATION);
-                // 이 경우 Redis의 online:{userId} 키도 삭제해주는 것이 좋을 수 있으나,
-                // checkAndSetOfflineUsers 스케줄러나 Disconnect 이벤트 핸들러가 처리하도록 둘 수 있음
-                return false;
+            return online;
+        } catch (Exception e) {
+            log.debug("Redis is unavailable. Falling back to database presence for {} users.", ids.size());
+            LocalDateTime activeSince = LocalDateTime.now().minusSeconds(ONLINE_EXPIRATION);
+            Set<Long> online = new HashSet<>();
+            for (User user : userRepository.findAllById(ids)) {
+                if (Boolean.TRUE.equals(user.getIsOnline())
+                        && user.getLastOnlineAt() != null
+                        && user.getLastOnlineAt().isAfter(activeSince)) {
+                    online.add(user.getId());
+                }
             }
-            
-            // RDB상 is_online=true 이고, lastOnlineAt도 최근인 경우
-            // 추가적으로 Redis의 online:{userId} 키 존재 여부도 확인 (더 확실한 온라인 판단)
-            String redisOnlineKey = ONLINE_PREFIX + userId;
-            boolean redisKeyExists = Boolean.TRUE.equals(redisTemplate.hasKey(redisOnlineKey));
+            return online;
+        }
+    }
 
-            if (redisKeyExists) {
-                 log.info("[isUserOnline] userId: {} is ONLINE (RDB is_online=true, lastOnlineAt recent, Redis key exists).", userId);
-                 // Redis 키 만료 시간 갱신 (활동으로 간주)
-                 redisTemplate.expire(redisOnlineKey, ONLINE_EXPIRATION, TimeUnit.SECONDS);
-                 return true;
-            } else {
-                // RDB는 온라인인데 Redis 키가 없다면, 최근에 연결이 끊겼거나 Redis에서 만료된 직후일 수 있음.
-                // 이 경우에도 lastOnlineAt이 매우 최근이라면 온라인으로 볼 수도 있지만, 보다 보수적으로 오프라인으로 판단하거나,
-                // 혹은 setUserOnline을 호출하여 Redis 키를 다시 생성하도록 유도할 수 있음.
-                // 여기서는 일단 RDB 상태를 더 신뢰하되, Redis 키가 없는 경우를 로그로 남김.
-                log.warn("[isUserOnline] userId: {} - RDB indicates ONLINE and recent activity, but Redis key '{}' NOT found. Considering OFFLINE for consistency or re-triggering online status.", userId, redisOnlineKey);
-                // 일관성을 위해 RDB는 온라인이나 Redis에 키가 없다면 오프라인으로 처리.
-                // 또는 setUserOnline(userId)를 호출해서 Redis 키를 다시 만들도록 할 수도 있음.
-                // 현재 로직에서는 오프라인으로 판단.
-                return false; 
+    /**
+     * 주어진 사용자 중 지정한 채팅방에 입장해 있는 사용자를 한 번의 Redis 왕복으로 조회합니다.
+     * 단건 조회와 마찬가지로 읽은 입장 상태의 만료 시간을 연장합니다.
+     */
+    public Set<Long> usersInRoom(Collection<Long> userIds, String roomId) {
+        List<Long> ids = distinctIds(userIds);
+        if (ids.isEmpty() || roomId == null) {
+            return Set.of();
+        }
+        try {
+            List<Object> rooms = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    for (Long id : ids) {
+                        stringOperations.opsForValue().getAndExpire(
+                                USER_CURRENT_ROOM_PREFIX + id, Duration.ofSeconds(CURRENT_ROOM_EXPIRATION));
+                    }
+                    return null;
+                }
+            });
+            Set<Long> inRoom = new HashSet<>();
+            for (int index = 0; index < ids.size() && index < rooms.size(); index++) {
+                if (roomId.equals(rooms.get(index))) {
+                    inRoom.add(ids.get(index));
+                }
             }
-
-        } catch (NumberFormatException e) {
-            log.error("[isUserOnline] Invalid userId format: {}. Considering OFFLINE.", userId, e);
-            return false;
+            return inRoom;
         } catch (Exception e) {
-            log.error("[isUserOnline] Error checking online status for userId: {}. Considering OFFLINE. Error: {}", userId, e.getMessage(), e);
-            return false;
+            log.warn("[RedisSessionService] Could not read current rooms. roomId={}", roomId);
+            return Set.of();
+        }
+    }
+
+    private List<Long> distinctIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
         }
+        return userIds.stream().filter(Objects::nonNull).distinct().toList();
     }
     
     /**
@@ -419,13 +443,13 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
         // RDB에서 해당 사용자의 모든 세션 삭제
         List<Session> sessions = userSessionRepository.findByUserId(Long.parseLong(userId));
         sessions.forEach(session ->
-                webSocketSessionRegistry.closeSessionsForCredential(session.getSessionId()));
+                eventPublisher.publishEvent(new SessionRevokedEvent(session.getSessionId())));
         userSessionRepository.deleteAll(sessions);
     }
 
     /**
      * 서버 시작 시 실행되는 초기화 메서드
-     * 만료된 세션을 정리하고 오프라인 사용자를 설정합니다.
+     * 만료된 세션을 정리합니다. 오프라인 정리는 OfflinePresenceSweeper가 담당합니다.
      */
     @PostConstruct
     public void initializeSessionManagement() {
@@ -448,7 +472,6 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
             }
             
             cleanupExpiredSessions();
-            checkAndSetOfflineUsers();
             log.info("Session management initialization completed successfully");
         } catch (Exception e) {
             log.error("Error during session management initialization", e);
@@ -469,7 +492,7 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
             
             redisTemplate.delete(sessionKey);
             redisTemplate.delete(userKey);
-            webSocketSessionRegistry.closeSessionsForCredential(session.getSessionId());
+            eventPublisher.publishEvent(new SessionRevokedEvent(session.getSessionId()));
         }
         
         userSessionRepository.deleteAll(expiredSessions);
@@ -479,24 +502,18 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
     /**
      * 사용자를 오프라인 상태로 표시합니다.
      */
-    @Transactional
     public void setUserOffline(String userId) {
-        // 이전 온라인 상태 확인
-        boolean wasOnline = isUserOnlineFromRedis(userId);
-        
+        // 키를 실제로 지운 경우에만 온라인에서 오프라인으로 바뀐 것으로 봅니다.
+        boolean wasOnline;
         try {
             String key = ONLINE_PREFIX + userId;
-            redisTemplate.delete(key);
+            wasOnline = Boolean.TRUE.equals(redisTemplate.delete(key));
         } catch (Exception e) {
             log.debug("Redis is unavailable while marking user {} offline.", userId);
+            wasOnline = false;
         }
         
-        // RDB에 오프라인 상태 저장
-        User user = userRepository.findById(Long.parseLong(userId))
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        user.setIsOnline(false);
-        userRepository.save(user);
+        presenceWriteBehind.markOffline(Long.parseLong(userId));
         
         log.info("User {} is now offline", userId);
         
@@ -510,27 +527,6 @@ public class RedisSessionService implements ApplicationListener<SessionDisconnec
         }
     }
 
-    /**
-     * 5분 동안 활동이 없는 사용자를 오프라인 상태로 변경합니다.
-     */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
-    public void checkAndSetOfflineUsers() {
-        log.info("Checking for inactive users");
-        LocalDateTime fiveMinutesAgo = LocalDateTime.now().minusMinutes(5);
-        
-        // RDB에서 5분 이상 활동이 없는 온라인 사용자 조회
-        List<User> inactiveUsers = userRepository.findByIsOnlineTrueAndLastOnlineAtBefore(fiveMinutesAgo);
-        
-        for (User user : inactiveUsers) {
-            setUserOffline(user.getId().toString());
-        }
-        
-        if (!inactiveUsers.isEmpty()) {
-            log.info("{} users set to offline due to inactivity", inactiveUsers.size());
-        }
-    }
-
     @Transactional
     @CacheEvict(value = "sessions", key = "#sessionId")
     public void updateSession(String sessionId, Long userId, String nickname) {
@@ -1,6 +1,8 @@
 package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.domain.event.ContentReportedEvent;
+import com.talkwithneighbors.domain.event.HiddenContentChangedEvent;
+import com.talkwithneighbors.domain.event.UserBlockChangedEvent;
 import com.talkwithneighbors.domain.event.UserBlockedEvent;
 import com.talkwithneighbors.dto.safety.*;
 import com.talkwithneighbors.entity.*;
@@ -8,6 +10,7 @@ import com.talkwithneighbors.exception.MatchingException;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
 import com.talkwithneighbors.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +34,7 @@ public class SafetyService {
     private final MessageRepository messageRepository;
     private final MatchRepository matchRepository;
     private final DomainEventPublisher domainEventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public BlockedUserDto blockUser(Long currentUserId, Long targetUserId) {
@@ -46,6 +50,7 @@ public class SafetyService {
                     matchRepository.expireMatchesBetween(currentUserId, targetUserId, ACTIVE_MATCH_STATUSES,
                             MatchStatus.EXPIRED, LocalDateTime.now());
                     domainEventPublisher.publish(UserBlockedEvent.create(currentUserId, targetUserId));
+                    applicationEventPublisher.publishEvent(new UserBlockChangedEvent(currentUserId, targetUserId));
                     return BlockedUserDto.from(saved);
                 });
     }
@@ -53,7 +58,10 @@ public class SafetyService {
     @Transactional
     public void unblockUser(Long currentUserId, Long targetUserId) {
         userBlockRepository.findByBlocker_IdAndBlocked_Id(currentUserId, targetUserId)
-                .ifPresent(userBlockRepository::delete);
+                .ifPresent(block -> {
+                    userBlockRepository.delete(block);
+                    applicationEventPublisher.publishEvent(new UserBlockChangedEvent(currentUserId, targetUserId));
+                });
     }
 
     @Transactional(readOnly = true)
@@ -101,13 +109,17 @@ public class SafetyService {
         if (hiddenContentRepository.findByUser_IdAndTargetTypeAndTargetId(
                 currentUserId, request.targetType(), targetId).isEmpty()) {
             hiddenContentRepository.save(new HiddenContent(user(currentUserId), request.targetType(), targetId));
+            applicationEventPublisher.publishEvent(new HiddenContentChangedEvent(currentUserId));
         }
     }
 
     @Transactional
     public void unhide(Long currentUserId, SafetyTargetType targetType, String targetId) {
         hiddenContentRepository.findByUser_IdAndTargetTypeAndTargetId(currentUserId, targetType, targetId)
-                .ifPresent(hiddenContentRepository::delete);
+                .ifPresent(hidden -> {
+                    hiddenContentRepository.delete(hidden);
+                    applicationEventPublisher.publishEvent(new HiddenContentChangedEvent(currentUserId));
+                });
     }
 
     @Transactional(readOnly = true)
@@ -1,6 +1,7 @@
 package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.security.UserSession;
+import com.talkwithneighbors.websocket.ValidatedSessionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 public class SessionValidationService {
     
     private final RedisSessionService redisSessionService;
+    private final ValidatedSessionCache validatedSessionCache;
     
     public UserSession validateSession(String sessionId) {
         if (sessionId == null || sessionId.isEmpty()) {
@@ -42,12 +44,16 @@ public class SessionValidationService {
         }
     }
 
-    /** Validates without extending TTL or writing presence for each STOMP frame. */
+    /**
+     * Validates without extending TTL or writing presence for each STOMP frame.
+     * A recent successful validation is served from the near-cache.
+     */
     public UserSession validateSessionWithoutTouch(String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
             throw new RuntimeException("Session is missing.");
         }
-        UserSession userSession = redisSessionService.getSessionWithoutTouch(sessionId);
+        UserSession userSession = validatedSessionCache.getOrLoad(
+                sessionId, redisSessionService::getSessionWithoutTouch);
         if (userSession == null || userSession.getUserId() == null) {
             throw new RuntimeException("Session is missing or expired.");
         }
@@ -0,0 +1,216 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.entity.Message;
+import com.talkwithneighbors.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintained unread counters, one Redis hash per user
+ * ({@code unread:{userId}}) with one field per room.
+ *
+ * <p>Counters are adjusted rather than recounted: a committed message
+ * increments every other member's field and a read cursor move subtracts the
+ * messages it covered. Only existing fields are adjusted. A missing field is
+ * seeded from the read cursor count on its first read, so a new membership or
+ * an evicted hash repairs itself.</p>
+ *
+ * <p>Two races leave a field one too high. A message that commits while its
+ * field is being seeded is counted by the seed and again by
+ * {@link #recordMessage}. A read that covers a message before the sender's
+ * after-commit increment arrives is clamped at zero and then bumped back to
+ * one. The hash lifetime starts at its first seed and is never extended, so
+ * expiry alone could leave such a badge stale for up to {@link #TTL_SECONDS}.
+ * A read that catches up to the room's newest message therefore drops the
+ * field and answers from the database; a late increment finds no field to
+ * adjust, and the next lookup seeds it again. Without Redis every read falls
+ * back to the database count.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCountStore {
+    static final String KEY_PREFIX = "unread:";
+    static final long TTL_SECONDS = 24 * 60 * 60;
+
+    /** Adds ARGV[2] to field ARGV[1] of every key that has it, clamped at zero; -1 marks a missing field. */
+    private static final DefaultRedisScript<List> ADJUST_IF_PRESENT = new DefaultRedisScript<>("""
+            local counts = {}
+            for index, key in ipairs(KEYS) do
+                if redis.call('hexists', key, ARGV[1]) == 1 then
+                    local value = redis.call('hincrby', key, ARGV[1], ARGV[2])
+                    if value < 0 then
+                        redis.call('hset', key, ARGV[1], 0)
+                        value = 0
+                    end
+                    counts[index] = value
+                else
+                    counts[index] = -1
+                end
+            end
+            return counts
+            """, List.class);
+
+    /** Sets a missing field and starts the hash lifetime; an existing field wins. */
+    private static final DefaultRedisScript<Long> SEED = new DefaultRedisScript<>("""
+            local current = redis.call('hget', KEYS[1], ARGV[1])
+            if current then
+                return tonumber(current)
+            end
+            redis.call('hset', KEYS[1], ARGV[1], ARGV[2])
+            if redis.call('ttl', KEYS[1]) == -1 then
+                redis.call('expire', KEYS[1], ARGV[3])
+            end
+            return tonumber(ARGV[2])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MessageRepository messageRepository;
+
+    /** Counts one new message from the sender for every other member. */
+    public void recordMessage(String roomId, Collection<Long> recipientIds) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(ADJUST_IF_PRESENT, keys(recipientIds), roomId, "1");
+        } catch (Exception exception) {
+            log.debug("Redis is unavailable. Unread counters for room {} are repaired on expiry.", roomId);
+        }
+    }
+
+    /**
+     * Subtracts the messages a read cursor move covered and returns the
+     * member's remaining count. A read that caught up to the room's newest
+     * message drops the field instead and returns the database count.
+     */
+    public long recordRead(Long userId, String roomId, long readCount, boolean caughtUp) {
+        if (caughtUp) {
+            try {
+                redisTemplate.opsForHash().delete(key(userId), roomId);
+            } catch (Exception exception) {
+                log.debug("Redis is unavailable. Counting unread messages from the database.");
+            }
+            return countFromDatabase(roomId, userId);
+        }
+        if (readCount > 0) {
+            try {
+                List<?> counts = redisTemplate.execute(
+                        ADJUST_IF_PRESENT, List.of(key(userId)), roomId, Long.toString(-readCount));
+                if (counts != null && !counts.isEmpty() && ((Number) counts.get(0)).longValue() >= 0) {
+                    return ((Number) counts.get(0)).longValue();
+                }
+            } catch (Exception exception) {
+                log.debug("Redis is unavailable. Counting unread messages from the database.");
+                return countFromDatabase(roomId, userId);
+            }
+        }
+        return countFor(userId, roomId);
+    }
+
+    /** Subtracts one deleted, still unread message from each given member. */
+    public void recordDeletedUnread(String roomId, Collection<Long> unreadMemberIds) {
+        if (unreadMemberIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(ADJUST_IF_PRESENT, keys(unreadMemberIds), roomId, "-1");
+        } catch (Exception exception) {
+            log.debug("Redis is unavailable. Unread counters for room {} are repaired on expiry.", roomId);
+        }
+    }
+
+    public long countFor(Long userId, String roomId) {
+        return countsFor(userId, List.of(roomId)).getOrDefault(roomId, 0L);
+    }
+
+    /** Reads every requested counter with one HMGET and seeds the missing ones. */
+    public Map<String, Long> countsFor(Long userId, Collection<String> roomIds) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (roomIds.isEmpty()) {
+            return counts;
+        }
+        List<String> orderedRoomIds = new ArrayList<>(roomIds);
+        List<Object> cached;
+        try {
+            cached = redisTemplate.opsForHash().multiGet(key(userId), new ArrayList<>(orderedRoomIds));
+        } catch (Exception exception) {
+            log.debug("Redis is unavailable. Counting unread messages from the database.");
+            orderedRoomIds.forEach(roomId -> counts.put(roomId, countFromDatabase(roomId, userId)));
+            return counts;
+        }
+        for (int index = 0; index < orderedRoomIds.size(); index++) {
+            String roomId = orderedRoomIds.get(index);
+            Object value = cached == null ? null : cached.get(index);
+            counts.put(roomId, value != null ? Long.parseLong(value.toString()) : seed(userId, roomId));
+        }
+        return counts;
+    }
+
+    /** Reads one room's counter for many members in one pipelined round trip and seeds the missing ones. */
+    public Map<Long, Long> countsForMembers(String roomId, Collection<Long> userIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        List<Long> orderedUserIds = new ArrayList<>(userIds);
+        List<Object> cached;
+        try {
+            cached = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    for (Long userId : orderedUserIds) {
+                        stringOperations.opsForHash().get(key(userId), roomId);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception exception) {
+            log.debug("Redis is unavailable. Counting unread messages from the database.");
+            orderedUserIds.forEach(userId -> counts.put(userId, countFromDatabase(roomId, userId)));
+            return counts;
+        }
+        for (int index = 0; index < orderedUserIds.size(); index++) {
+            Long userId = orderedUserIds.get(index);
+            Object value = cached == null || index >= cached.size() ? null : cached.get(index);
+            counts.put(userId, value != null ? Long.parseLong(value.toString()) : seed(userId, roomId));
+        }
+        return counts;
+    }
+
+    private long seed(Long userId, String roomId) {
+        long count = countFromDatabase(roomId, userId);
+        try {
+            Long stored = redisTemplate.execute(
+                    SEED, List.of(key(userId)), roomId, Long.toString(count), Long.toString(TTL_SECONDS));
+            return stored != null ? stored : count;
+        } catch (Exception exception) {
+            return count;
+        }
+    }
+
+    private long countFromDatabase(String roomId, Long userId) {
+        return messageRepository.countVisibleUnreadMessages(roomId, userId, Message.MessageType.SCHEDULE);
+    }
+
+    private List<String> keys(Collection<Long> userIds) {
+        return userIds.stream().map(UnreadCountStore::key).toList();
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -7,11 +7,12 @@ import com.talkwithneighbors.repository.MessageRepository;
 import com.talkwithneighbors.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,14 +21,23 @@ public class ChatMessageDispatchService {
     private final MessageRepository messageRepository;
     private final NotificationService notificationService;
 
-    @Async("chatNotificationExecutor")
+    /**
+     * Writes the inbox rows and pushes the notifications for a committed message.
+     *
+     * <p>Lookup failures are thrown before anything is written or pushed, so the
+     * caller may run the dispatch again. {@code sendStarted} is set just before
+     * sending. From then on online recipients may already have been pushed and
+     * their rows marked sent, so send failures are only logged, and a failure
+     * raised later by this transaction's commit must not be retried either.</p>
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void dispatchNotifications(String messageId, String roomId, Long senderId) {
+    public void dispatchNotifications(String messageId, String roomId, Long senderId, AtomicBoolean sendStarted) {
+        Message message = messageRepository.findById(messageId)
+                .orElseThrow(() -> new IllegalStateException("Committed chat message not found: " + messageId));
+        ChatRoom room = chatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalStateException("Chat room not found after message commit: " + roomId));
+        sendStarted.set(true);
         try {
-            Message message = messageRepository.findById(messageId)
-                    .orElseThrow(() -> new IllegalStateException("Committed chat message not found: " + messageId));
-            ChatRoom room = chatRoomRepository.findById(roomId)
-                    .orElseThrow(() -> new IllegalStateException("Chat room not found after message commit: " + roomId));
             notificationService.sendNewMessageNotification(message, room, senderId);
         } catch (Exception exception) {
             log.error("Failed to dispatch chat notifications. messageId={}, roomId={}",
@@ -3,13 +3,16 @@ package com.talkwithneighbors.service.impl;
 import com.talkwithneighbors.dto.ChatMessageDto;
 import com.talkwithneighbors.dto.ChatRoomDto;
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.MessageHistoryPage;
 import com.talkwithneighbors.dto.UpdateChatRoomRequest;
 import com.talkwithneighbors.domain.event.ChatMessageCommittedEvent;
 import com.talkwithneighbors.domain.event.ChatMessageChangedEvent;
+import com.talkwithneighbors.domain.event.ChatMessagesReadEvent;
 import com.talkwithneighbors.domain.event.ChatRoomDeletedEvent;
 import com.talkwithneighbors.domain.event.MediaFilesDeletedEvent;
 import com.talkwithneighbors.domain.event.MeetupJoinedEvent;
 import com.talkwithneighbors.entity.ChatRoom;
+import com.talkwithneighbors.entity.ChatRoomReadCursor;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.ChatAttachmentType;
 import com.talkwithneighbors.entity.Message;
@@ -18,6 +21,7 @@ import com.talkwithneighbors.entity.Message.MessageType;
 import com.talkwithneighbors.entity.User;
 import com.talkwithneighbors.entity.UserAccountType;
 import com.talkwithneighbors.exception.ChatException;
+import com.talkwithneighbors.repository.ChatRoomReadCursorRepository;
 import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.repository.ChatRoomDeletionRepository;
 import com.talkwithneighbors.repository.ChatScheduleRepository;
@@ -26,10 +30,10 @@ import com.talkwithneighbors.entity.ChatScheduleStatus;
 import com.talkwithneighbors.repository.MessageRepository;
 import com.talkwithneighbors.repository.MeetupWaitlistRepository;
 import com.talkwithneighbors.repository.UserRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
+import com.talkwithneighbors.service.BlockGraph;
 import com.talkwithneighbors.service.ChatService;
 import com.talkwithneighbors.service.MeetupTimePolicy;
-import com.talkwithneighbors.service.NotificationService;
+import com.talkwithneighbors.service.UnreadCountStore;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,8 +49,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -60,14 +64,15 @@ public class ChatServiceImpl implements ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
-    private final UserBlockRepository userBlockRepository;
+    private final BlockGraph blockGraph;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final ChatRoomDeletionRepository chatRoomDeletionRepository;
     private final ChatScheduleRepository chatScheduleRepository;
     private final ChatScheduleRsvpRepository chatScheduleRsvpRepository;
     private final MeetupWaitlistRepository meetupWaitlistRepository;
     private final DomainEventPublisher domainEventPublisher;
+    private final ChatRoomReadCursorRepository readCursorRepository;
+    private final UnreadCountStore unreadCountStore;
 
     @Override
     @Transactional
@@ -151,7 +156,7 @@ public class ChatServiceImpl implements ChatService {
                  savedChatRoom.getId(), savedChatRoom.getName(), savedChatRoom.getType(), 
                  savedChatRoom.getCreator().getUsername(), savedChatRoom.getParticipants().size());
         
-        return ChatRoomDto.fromEntity(savedChatRoom, creator, messageRepository);
+        return ChatRoomDto.fromEntity(savedChatRoom, Map.of());
     }
 
     @Override
@@ -162,8 +167,21 @@ public class ChatServiceImpl implements ChatService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         repairSchedulePreviewsForUser(user);
         // 최근 활동 순으로 정렬된 채팅방 목록 조회 (카카오톡과 같은 방식)
-        Page<ChatRoom> roomsPage = chatRoomRepository.findByParticipantsContainingOrderByLastMessageTimeDesc(user, pageable);
-        return roomsPage.map(room -> ChatRoomDto.fromEntity(room, user, messageRepository));
+        // ID 페이지를 먼저 자르고, 그 페이지의 방·참여자·미읽음 수만 한 번씩 읽는다.
+        Page<String> roomIds = chatRoomRepository.findParticipantRoomIdsByRecentActivity(userId, pageable);
+        if (roomIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, roomIds.getTotalElements());
+        }
+        Map<String, ChatRoom> roomsById = chatRoomRepository
+                .findAllWithParticipantsByIdIn(roomIds.getContent()).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, room -> room));
+        Map<String, Long> unreadCounts = unreadCountStore.countsFor(userId, roomIds.getContent());
+        List<ChatRoomDto> rooms = roomIds.getContent().stream()
+                .map(roomsById::get)
+                .filter(java.util.Objects::nonNull)
+                .map(room -> ChatRoomDto.fromEntity(room, unreadCounts))
+                .toList();
+        return new PageImpl<>(rooms, pageable, roomIds.getTotalElements());
     }
 
     @Override
@@ -176,7 +194,7 @@ public class ChatServiceImpl implements ChatService {
                 .orElseThrow(() -> new ChatException(
                         "Chat room not found or user not a participant", HttpStatus.NOT_FOUND));
         repairSchedulePreview(roomId);
-        return ChatRoomDto.fromEntity(chatRoom, currentUser, messageRepository);
+        return ChatRoomDto.fromEntity(chatRoom, unreadCountsOf(userId, List.of(chatRoom)));
     }
 
     @Override
@@ -192,7 +210,7 @@ public class ChatServiceImpl implements ChatService {
             throw new ChatException("Only public hobby meetups can be joined directly.", HttpStatus.FORBIDDEN);
         }
         if (chatRoom.getCreator() != null
-                && userBlockRepository.existsBetween(userId, chatRoom.getCreator().getId())) {
+                && blockGraph.existsBetween(userId, chatRoom.getCreator().getId())) {
             throw new ChatException("차단 관계인 사용자의 모임에는 참여할 수 없어.", HttpStatus.FORBIDDEN);
         }
         if (!chatScheduleRepository.existsByRoom_Id(roomId) && MeetupTimePolicy.isPast(
@@ -277,8 +295,8 @@ public class ChatServiceImpl implements ChatService {
             throw new ChatException("첨부 파일은 메시지당 최대 5개입니다.", HttpStatus.BAD_REQUEST);
         }
 
-        // Serialize updates to the shared latest-message row for this room.
-        ChatRoom room = chatRoomRepository.findByIdForUpdate(roomId)
+        // No row lock: concurrent senders only meet at the conditional last-message update.
+        ChatRoom room = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> {
                     log.error("[SendMessage] Chat room not found with id: {}", roomId);
                     return new ChatException("Chat room not found: " + roomId, HttpStatus.NOT_FOUND);
@@ -292,16 +310,17 @@ public class ChatServiceImpl implements ChatService {
                 });
         log.debug("[SendMessage] Found sender: ID={}", sender.getId());
         
-        // 참여 중인 사용자만 메시지를 보낼 수 있습니다.
-        if (room.getParticipants().stream().noneMatch(p -> p.getId().equals(senderId))) {
+        // 참여 중인 사용자만 메시지를 보낼 수 있습니다. 참여자 엔티티 대신 ID만 읽습니다.
+        List<Long> participantIds = chatRoomRepository.findParticipantIds(roomId);
+        if (!participantIds.contains(senderId)) {
             log.warn("[SendMessage] Sender (ID: {}) is not a participant in room (ID: {}).", senderId, roomId);
             throw new ChatException("Sender is not a participant of this chat room.", HttpStatus.FORBIDDEN);
         }
         if (room.getType() == ChatRoomType.ONE_ON_ONE) {
-            room.getParticipants().stream()
-                    .filter(participant -> !participant.getId().equals(senderId))
+            participantIds.stream()
+                    .filter(participantId -> !participantId.equals(senderId))
                     .findFirst()
-                    .ifPresent(participant -> requireNotBlocked(senderId, participant.getId()));
+                    .ifPresent(participantId -> requireNotBlocked(senderId, participantId));
         }
 
         Message message = new Message();
@@ -312,7 +331,6 @@ public class ChatServiceImpl implements ChatService {
         message.setAttachments(new ArrayList<>(safeAttachments));
         message.setType(resolveMessageType(normalizedContent, safeAttachments));
         message.setCreatedAt(LocalDateTime.now());
-        message.getReadByUsers().add(sender.getId()); // 발신자는 항상 읽음 처리
         log.debug("[SendMessage] Prepared message object: ID={}, ChatRoomID={}, SenderID={}, CreatedAt={}",
                  message.getId(), message.getChatRoom().getId(), message.getSender().getId(), message.getCreatedAt());
 
@@ -326,10 +344,11 @@ public class ChatServiceImpl implements ChatService {
         }
         
         try {
-            room.setLastMessage(lastMessagePreview(savedMessage));
-            room.setLastMessageTime(savedMessage.getCreatedAt());
-            chatRoomRepository.save(room);
-            log.debug("[SendMessage] Updated chat room's last-message metadata: RoomID={}", room.getId());
+            // Last statement before commit, so the room row is held only for the commit itself.
+            int updated = chatRoomRepository.advanceLastMessage(
+                    room.getId(), lastMessagePreview(savedMessage), savedMessage.getCreatedAt());
+            log.debug("[SendMessage] Advanced chat room's last-message metadata: RoomID={}, updated={}",
+                    room.getId(), updated);
         } catch (Exception e) {
             log.error("[SendMessage] Failed to update chat room's last message. RoomID: {}", room.getId(), e);
             // 이 오류는 메시지 전송 자체를 실패시키지는 않음 (이미 메시지는 저장됨)
@@ -344,7 +363,7 @@ public class ChatServiceImpl implements ChatService {
                         messageDto,
                         room.getId(),
                         senderId,
-                        room.getParticipants().stream().map(User::getId).toList()));
+                        participantIds));
 
         return messageDto;
     }
@@ -368,7 +387,7 @@ public class ChatServiceImpl implements ChatService {
             throw new ChatException("메시지는 2,000자까지 수정할 수 있어.", HttpStatus.BAD_REQUEST);
         }
         if (normalizedContent.equals(message.getContent())) {
-            return MessageDto.fromEntity(message, requesterId);
+            return withReadState(message, requesterId);
         }
 
         LocalDateTime changedAt = LocalDateTime.now();
@@ -379,7 +398,7 @@ public class ChatServiceImpl implements ChatService {
         Message savedMessage = messageRepository.save(message);
         Message latestMessage = refreshRoomLastMessage(savedMessage.getChatRoom());
 
-        MessageDto messageDto = MessageDto.fromEntity(savedMessage, requesterId);
+        MessageDto messageDto = withReadState(savedMessage, requesterId);
         publishChangedMessage(messageDto, savedMessage.getChatRoom(), latestMessage);
         return messageDto;
     }
@@ -389,7 +408,7 @@ public class ChatServiceImpl implements ChatService {
     public MessageDto deleteMessage(String roomId, String messageId, Long requesterId) {
         Message message = requireOwnedMessage(roomId, messageId, requesterId);
         if (message.isDeleted()) {
-            return MessageDto.fromEntity(message, requesterId);
+            return withReadState(message, requesterId);
         }
         requireUserGeneratedMessage(message);
 
@@ -413,7 +432,7 @@ public class ChatServiceImpl implements ChatService {
         Message savedMessage = messageRepository.save(message);
         Message latestMessage = refreshRoomLastMessage(savedMessage.getChatRoom());
 
-        MessageDto messageDto = MessageDto.fromEntity(savedMessage, requesterId);
+        MessageDto messageDto = withReadState(savedMessage, requesterId);
         publishChangedMessage(messageDto, savedMessage.getChatRoom(), latestMessage);
         if (!mediaUrls.isEmpty()) {
             domainEventPublisher.publish(MediaFilesDeletedEvent.create(
@@ -546,9 +565,14 @@ public class ChatServiceImpl implements ChatService {
         };
     }
 
+    /**
+     * Keyset history read: one index range scan of {@code size + 1} rows
+     * older than {@code before}, with no count query. Fetching history never
+     * moves the read cursor; clients mark reads through the read endpoints.
+     */
     @Override
-    @Transactional
-    public Page<MessageDto> getMessagesByRoomId(String roomId, String userIdString, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public MessageHistoryPage getMessageHistory(String roomId, String userIdString, String before, int size) {
         Long userId = Long.parseLong(userIdString);
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new ChatException("User not found with id: " + userId, HttpStatus.NOT_FOUND));
@@ -556,51 +580,31 @@ public class ChatServiceImpl implements ChatService {
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new ChatException("Chat room not found with id: " + roomId, HttpStatus.NOT_FOUND));
 
-        boolean isParticipant = chatRoom.getParticipants().stream()
-                .anyMatch(participant -> participant.getId().equals(user.getId()));
-
-        if (!isParticipant) {
+        // 참여 여부는 참여자 컬렉션을 초기화하지 않고 ID 목록으로 확인합니다.
+        if (!chatRoomRepository.findParticipantIds(chatRoom.getId()).contains(user.getId())) {
             throw new ChatException("Access denied to chat room " + roomId, HttpStatus.FORBIDDEN);
         }
 
-        Page<Message> messagesPage = messageRepository
-                .findVisibleByChatRoomIdOrderByCreatedAtDesc(
-                        roomId, MessageType.SCHEDULE, pageable);
-        
-        List<Message> messagesToUpdate = new java.util.ArrayList<>();
-        List<String> readMessageIds = new java.util.ArrayList<>();
-        
-        messagesPage.getContent().forEach(msg -> {
-            if (!msg.getReadByUsers().contains(user.getId())) {
-                msg.getReadByUsers().add(user.getId());
-                messagesToUpdate.add(msg);
-                readMessageIds.add(msg.getId());
-            }
-        });
-        
-        if (!messagesToUpdate.isEmpty()) {
-            try {
-                messageRepository.saveAll(messagesToUpdate);
-                log.info("[GetMessages] Marked {} messages as read for user {} in room {}", 
-                         messagesToUpdate.size(), user.getId(), roomId);
-                
-                // 읽음 상태 변경 알림 전송
-                for (String messageId : readMessageIds) {
-                    try {
-                        notificationService.sendMessageReadStatusUpdate(messageId, roomId, user.getId());
-                    } catch (Exception e) {
-                        log.error("[GetMessages] Failed to send read status update for messageId {}: {}", 
-                                  messageId, e.getMessage(), e);
-                    }
-                }
-                
-            } catch (Exception e) {
-                log.error("[GetMessages] Failed to save read status updates for user {} in room {}: {}", 
-                          user.getId(), roomId, e.getMessage(), e);
-            }
+        Pageable slice = PageRequest.of(0, size + 1);
+        List<Message> rows;
+        if (before == null || before.isBlank()) {
+            rows = messageRepository.findVisibleHistory(roomId, MessageType.SCHEDULE, slice);
+        } else {
+            LocalDateTime beforeCreatedAt = messageRepository.findCreatedAtInRoom(before, roomId)
+                    .orElseThrow(() -> new ChatException(
+                            "Unknown history position: " + before, HttpStatus.BAD_REQUEST));
+            rows = messageRepository.findVisibleHistoryBefore(
+                    roomId, MessageType.SCHEDULE, beforeCreatedAt, before, slice);
         }
-
-        return messagesPage.map(msg -> MessageDto.fromEntity(msg, user.getId()));
+        boolean hasNext = rows.size() > size;
+        List<Message> pageMessages = hasNext ? rows.subList(0, size) : rows;
+
+        Map<Long, LocalDateTime> readCursors = readCursorsOf(roomId);
+        List<MessageDto> content = pageMessages.stream()
+                .map(msg -> MessageDto.fromEntity(msg, user.getId(), readCursors))
+                .toList();
+        return new MessageHistoryPage(
+                content, hasNext ? pageMessages.get(size - 1).getId() : null, hasNext);
     }
 
     @Override
@@ -613,14 +617,15 @@ public class ChatServiceImpl implements ChatService {
         String trimmedQuery = (query != null) ? query.trim() : "";
         Page<ChatRoom> roomsPage = chatRoomRepository.searchParticipantRooms(
                 currentUser, type, trimmedQuery, pageable);
-        return roomsPage.map(room -> ChatRoomDto.fromEntity(room, currentUser, messageRepository));
+        Map<String, Long> unreadCounts = unreadCountsOf(userId, roomsPage.getContent());
+        return roomsPage.map(room -> ChatRoomDto.fromEntity(room, unreadCounts));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ChatRoomDto> getAllRooms(Pageable pageable) {
         Page<ChatRoom> roomsPage = chatRoomRepository.findAll(pageable);
-        return roomsPage.map(room -> ChatRoomDto.fromEntity(room, null, messageRepository)); 
+        return roomsPage.map(room -> ChatRoomDto.fromEntity(room, Map.of()));
     }
 
     @Override
@@ -687,21 +692,10 @@ public class ChatServiceImpl implements ChatService {
         Long userId = Long.parseLong(userIdString);
         Message message = requireAccessibleMessage(roomId, messageId, userId);
 
-        if (message.getReadByUsers() == null) {
-            message.setReadByUsers(new HashSet<>());
-        }
-
-        if (!message.getReadByUsers().contains(userId)) {
-            message.getReadByUsers().add(userId);
-            messageRepository.save(message);
-            log.debug("Marked message {} as read for user {}", messageId, userId);
-
-            // 읽음 상태 변경 알림 전송
-            try {
-                notificationService.sendMessageReadStatusUpdate(messageId, roomId, userId);
-            } catch (Exception e) {
-                log.error("Failed to send read status update for messageId {}: {}", messageId, e.getMessage(), e);
-            }
+        // A cursor is a high-watermark: reading a message also reads everything before it.
+        long readCount = advanceReadCursor(roomId, userId, message, false);
+        if (readCount > 0) {
+            log.debug("Marked {} messages up to {} as read for user {}", readCount, messageId, userId);
         }
     }
 
@@ -710,8 +704,14 @@ public class ChatServiceImpl implements ChatService {
     public long getUnreadCount(String roomId, String userIdString) {
         Long userId = Long.parseLong(userIdString);
         requireParticipant(roomId, userId);
-        return messageRepository.countVisibleUnreadMessages(
-                roomId, userId, MessageType.SCHEDULE);
+        return unreadCountStore.countFor(userId, roomId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getAllUnreadCounts(String userIdString) {
+        Long userId = Long.parseLong(userIdString);
+        return unreadCountStore.countsFor(userId, chatRoomRepository.findParticipantRoomIds(userId));
     }
     
     @Override
@@ -755,44 +755,79 @@ public class ChatServiceImpl implements ChatService {
         Long userId = Long.parseLong(userIdString);
         requireParticipant(roomId, userId);
 
-        List<Message> allMessagesInRoom = messageRepository.findByChatRoomIdOrderByCreatedAtDesc(roomId, Pageable.unpaged()).getContent();
-        
-        List<Message> messagesToUpdate = new ArrayList<>();
-        List<String> readMessageIds = new ArrayList<>();
-        
-        for (Message message : allMessagesInRoom) {
-            if (message.getReadByUsers() == null) {
-                message.setReadByUsers(new HashSet<>());
-            }
-            if (message.getReadByUsers().add(userId)) {
-                messagesToUpdate.add(message);
-                readMessageIds.add(message.getId());
-            }
+        Message newest = messageRepository.findFirstByChatRoom_IdOrderByCreatedAtDesc(roomId).orElse(null);
+        long readCount;
+        try {
+            readCount = advanceReadCursor(roomId, userId, newest, true);
+        } catch (Exception e) {
+            log.error("Error advancing the read cursor for room {} user {}: {}", roomId, userIdString, e.getMessage(), e);
+            throw new ChatException("Failed to save updated message read statuses.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
 
-        if (!messagesToUpdate.isEmpty()) {
-            try {
-                messageRepository.saveAll(messagesToUpdate);
-                log.info("Successfully marked {} messages in room {} as read for user {}.", messagesToUpdate.size(), roomId, userIdString);
-                
-                // 읽음 상태 변경 알림 전송
-                for (String messageId : readMessageIds) {
-                    try {
-                        notificationService.sendMessageReadStatusUpdate(messageId, roomId, userId);
-                    } catch (Exception e) {
-                        log.error("Failed to send read status update for messageId {}: {}", messageId, e.getMessage(), e);
-                    }
-                }
-                
-            } catch (Exception e) {
-                log.error("Error saving messages after marking them as read for room {} user {}: {}", roomId, userIdString, e.getMessage(), e);
-                throw new ChatException("Failed to save updated message read statuses.", HttpStatus.INTERNAL_SERVER_ERROR);
-            }
+        if (readCount > 0) {
+            log.info("Successfully marked {} messages in room {} as read for user {}.", readCount, roomId, userIdString);
         } else {
             log.info("No new messages to mark as read in room {} for user {}.", roomId, userIdString);
         }
     }
-    
+
+    /**
+     * Moves the reader's cursor forward to {@code upTo} and returns how many
+     * visible messages from other senders became read. The cursor row stays
+     * locked until commit, so when the same member reads concurrently only the
+     * transaction that actually moved the cursor counts and publishes those
+     * messages; a cursor already at or past {@code upTo} is left unchanged. The
+     * reader's unread counter and the room's read receipts follow after commit
+     * through {@link ChatMessagesReadEvent}. {@code upToIsNewest} skips the
+     * newest message lookup when the caller already holds the room's newest
+     * message.
+     */
+    private long advanceReadCursor(String roomId, Long userId, Message upTo, boolean upToIsNewest) {
+        if (upTo == null || upTo.getCreatedAt() == null) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        readCursorRepository.createIfAbsent(roomId, userId, ChatRoomReadCursor.NEVER_READ, now);
+        ChatRoomReadCursor cursor = readCursorRepository.findForUpdate(roomId, userId)
+                .orElseThrow(() -> new ChatException("Read cursor not found", HttpStatus.CONFLICT));
+        LocalDateTime previous = cursor.getLastReadAt();
+        if (!previous.isBefore(upTo.getCreatedAt())) {
+            return 0;
+        }
+        cursor.setLastReadAt(upTo.getCreatedAt());
+        cursor.setLastReadMessageId(upTo.getId());
+        cursor.setUpdatedAt(now);
+        long readCount = messageRepository.countVisibleReadBetween(
+                roomId, userId, previous, upTo.getCreatedAt(), MessageType.SCHEDULE);
+        if (readCount > 0) {
+            boolean caughtUp = upToIsNewest || isNewestMessage(roomId, upTo);
+            applicationEventPublisher.publishEvent(new ChatMessagesReadEvent(
+                    roomId, userId, upTo.getId(), upTo.getCreatedAt(), readCount, caughtUp));
+        }
+        return readCount;
+    }
+
+    private boolean isNewestMessage(String roomId, Message message) {
+        return messageRepository.findFirstByChatRoom_IdOrderByCreatedAtDesc(roomId)
+                .map(newest -> newest.getId().equals(message.getId()))
+                .orElse(false);
+    }
+
+    private Map<String, Long> unreadCountsOf(Long userId, List<ChatRoom> rooms) {
+        return unreadCountStore.countsFor(userId, rooms.stream().map(ChatRoom::getId).toList());
+    }
+
+    private MessageDto withReadState(Message message, Long currentUserId) {
+        return MessageDto.fromEntity(message, currentUserId, readCursorsOf(message.getChatRoom().getId()));
+    }
+
+    private Map<Long, LocalDateTime> readCursorsOf(String roomId) {
+        return readCursorRepository.findByRoomId(roomId).stream()
+                .collect(Collectors.toMap(
+                        ChatRoomReadCursor::getUserId,
+                        ChatRoomReadCursor::getLastReadAt));
+    }
+
     @Override
     @Transactional
     public ChatRoomDto updateRoom(String roomId, Long requesterId, UpdateChatRoomRequest request) {
@@ -852,7 +887,7 @@ public class ChatServiceImpl implements ChatService {
             chatRoom.setStatus(request.getStatus());
         }
         ChatRoom updatedRoom = chatRoomRepository.save(chatRoom);
-        return ChatRoomDto.fromEntity(updatedRoom, requester, messageRepository);
+        return ChatRoomDto.fromEntity(updatedRoom, unreadCountsOf(requesterId, List.of(updatedRoom)));
     }
 
     @Override
@@ -873,7 +908,7 @@ public class ChatServiceImpl implements ChatService {
             // 정확히 2명만 있고, 그 중 한 명이 user2인지 확인
             if (room.getParticipants().size() == 2 && room.getParticipants().contains(user2)) {
                 log.info("[findOneOnOneChatRoom] Found existing 1:1 chat room: roomId={}, roomName='{}'", room.getId(), room.getName());
-                return ChatRoomDto.fromEntity(room, user1, messageRepository);
+                return ChatRoomDto.fromEntity(room, unreadCountsOf(userId1, List.of(room)));
             }
         }
         
@@ -882,7 +917,7 @@ public class ChatServiceImpl implements ChatService {
     }
 
     private void requireNotBlocked(Long firstId, Long secondId) {
-        if (userBlockRepository != null && userBlockRepository.existsBetween(firstId, secondId)) {
+        if (blockGraph.existsBetween(firstId, secondId)) {
             throw new ChatException("차단 관계인 사용자와는 1:1 채팅을 이용할 수 없어요.", HttpStatus.FORBIDDEN);
         }
     }
@@ -3,23 +3,28 @@ package com.talkwithneighbors.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.notification.ReadCursorUpdate;
 import com.talkwithneighbors.dto.notification.WebSocketNotification;
 import com.talkwithneighbors.entity.ChatRoom;
 import com.talkwithneighbors.entity.Message;
 import com.talkwithneighbors.entity.OfflineNotification;
 import com.talkwithneighbors.entity.User;
-import com.talkwithneighbors.repository.MessageRepository;
-import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.service.NotificationService;
 import com.talkwithneighbors.service.OfflineNotificationService;
 import com.talkwithneighbors.service.RedisSessionService;
+import com.talkwithneighbors.service.UnreadCountStore;
+import com.talkwithneighbors.websocket.UserDestinationMulticaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,93 +32,35 @@ import java.util.Map;
 public class NotificationServiceImpl implements NotificationService {
     
     private final SimpMessagingTemplate messagingTemplate;
-    private final MessageRepository messageRepository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final UnreadCountStore unreadCountStore;
     private final RedisSessionService redisSessionService;
     private final OfflineNotificationService offlineNotificationService;
     private final ObjectMapper objectMapper;
+    private final UserDestinationMulticaster multicaster;
     
     @Override
     public void sendNewMessageNotification(Message message, ChatRoom chatRoom, Long senderId) {
-        log.info("=== [NotificationService] sendNewMessageNotification START ===");
-        log.info("[NotificationService] MessageId: {}, ChatRoomId: {}, SenderId: {}", 
-                 message.getId(), chatRoom.getId(), senderId);
-        log.info("[NotificationService] ChatRoom participants count: {}", chatRoom.getParticipants().size());
+        log.info("[NotificationService] sendNewMessageNotification messageId: {}, chatRoomId: {}, senderId: {}, participants: {}",
+                 message.getId(), chatRoom.getId(), senderId, chatRoom.getParticipants().size());
         
-        // 채팅방의 모든 참여자 처리
-        for (User participant : chatRoom.getParticipants()) {
-            Long participantId = participant.getId();
-            boolean isUserOnline = redisSessionService.isUserOnline(participantId.toString());
-            boolean isUserInRoom = redisSessionService.isUserInRoom(participantId.toString(), chatRoom.getId());
-            
-            log.info("[NotificationService] Processing participant: {}, Online: {}, InRoom: {}", 
-                     participantId, isUserOnline, isUserInRoom);
-            
-            try {
-                // 1. 모든 참여자에게 채팅방 목록 순서 업데이트 (온라인/오프라인 관계없이)
-                // 사용자의 요청에 따라 새 메시지가 왔다는 이유로 CHAT_ROOM_LIST_UPDATE 알림은 보내지 않도록 주석 처리합니다.
-                // handleChatRoomListUpdate(participantId, chatRoom.getId(), isUserOnline);
-                
-                // 2. 발신자가 아니면서 채팅방 밖에 있는 사용자에게만 새 메시지 알림 처리
-                if (!participantId.equals(senderId) && !isUserInRoom) {
-                    handleNewMessageNotification(participantId, message, chatRoom, isUserOnline);
-                    
-                    // 3. 읽지 않은 메시지 수 업데이트 처리
-                    handleUnreadCountUpdate(participantId, chatRoom.getId(), isUserOnline);
-                } else if (participantId.equals(senderId)) {
-                    log.info("[NotificationService] User {} is sender, only sending chat room list update", participantId);
-                } else {
-                    log.info("[NotificationService] User {} is currently in room {}, only sending chat room list update", 
-                             participantId, chatRoom.getId());
-                }
-                    
-            } catch (Exception e) {
-                log.error("[NotificationService] ❌ Failed to send updates to user {}: {}", participantId, e.getMessage(), e);
-            }
-        }
-        
-        log.info("=== [NotificationService] sendNewMessageNotification END ===");
-    }
-    
-    /**
-     * 채팅방 목록 업데이트 처리 (온라인/오프라인 대응)
-     */
-    private void handleChatRoomListUpdate(Long userId, String chatRoomId, boolean isUserOnline) {
-        Map<String, Object> updateData = new HashMap<>();
-        updateData.put("chatRoomId", chatRoomId);
-        updateData.put("action", "UPDATE_ORDER");
-        updateData.put("sortBy", "lastMessageTime");
-        updateData.put("sortOrder", "desc");
-        updateData.put("timestamp", System.currentTimeMillis());
-        
-        if (isUserOnline) {
-            // 온라인 사용자에게는 즉시 전송
-            sendChatRoomListUpdate(userId, chatRoomId);
-        } else {
-            // 오프라인 사용자에게는 저장
-            try {
-                String dataJson = objectMapper.writeValueAsString(updateData);
-                offlineNotificationService.saveOfflineNotification(
-                    userId,
-                    OfflineNotification.NotificationType.CHAT_ROOM_LIST_UPDATE,
-                    dataJson,
-                    "채팅방 목록이 업데이트되었습니다.",
-                    null,
-                    3 // 낮은 우선순위
-                );
-                log.info("[NotificationService] Saved offline chat room list update for user: {}", userId);
-            } catch (JsonProcessingException e) {
-                log.error("[NotificationService] Failed to save offline chat room list update: {}", e.getMessage(), e);
-            }
+        // 참여자 전체의 접속·입장 상태를 각각 한 번의 Redis 왕복으로 조회
+        List<Long> participantIds = chatRoom.getParticipants().stream()
+                .map(User::getId)
+                .toList();
+        Set<Long> onlineUserIds = redisSessionService.onlineUserIds(participantIds);
+        Set<Long> usersInRoom = redisSessionService.usersInRoom(participantIds, chatRoom.getId());
+
+        // 새 메시지로 인한 CHAT_ROOM_LIST_UPDATE 알림은 사용자의 요청에 따라 보내지 않는다.
+        // 발신자가 아니면서 채팅방 밖에 있는 사용자만 새 메시지 알림 대상이다.
+        List<Long> recipientIds = participantIds.stream()
+                .filter(participantId -> !participantId.equals(senderId) && !usersInRoom.contains(participantId))
+                .toList();
+        if (recipientIds.isEmpty()) {
+            return;
         }
-    }
-    
-    /**
-     * 새 메시지 알림 처리 (온라인/오프라인 대응)
-     */
-    private void handleNewMessageNotification(Long userId, Message message, ChatRoom chatRoom, boolean isUserOnline) {
-        log.info("=== [NotificationService] handleNewMessageNotification START ===");
-        log.info("[NotificationService] userId: {}, isUserOnline: {}, messageId: {}", userId, isUserOnline, message.getId());
+        List<Long> onlineRecipientIds = recipientIds.stream()
+                .filter(onlineUserIds::contains)
+                .toList();
         
         Map<String, Object> notificationData = new HashMap<>();
         notificationData.put("chatRoomId", chatRoom.getId());
@@ -126,77 +73,80 @@ public class NotificationServiceImpl implements NotificationService {
         String notificationMessage = String.format("%s님이 메시지를 보냈습니다: %s", 
                                                   message.getSender().getUsername(), 
                                                   truncateMessage(message.getContent()));
+        String actionUrl = "/chat/" + chatRoom.getId();
 
-        OfflineNotification inboxNotification = null;
+        // 1. 모든 대상의 알림함 항목을 한 문장으로 저장 (온라인 사용자는 전송 뒤 전송 완료로 표시)
+        String dataJson = null;
         try {
-            inboxNotification = offlineNotificationService.saveOfflineNotification(
-                    userId,
+            dataJson = objectMapper.writeValueAsString(notificationData);
+            offlineNotificationService.saveOfflineNotifications(
+                    recipientIds,
                     OfflineNotification.NotificationType.NEW_MESSAGE,
-                    objectMapper.writeValueAsString(notificationData),
+                    dataJson,
                     notificationMessage,
-                    "/chat/" + chatRoom.getId(),
-                    5
+                    actionUrl,
+                    5 // 중간 우선순위
             );
         } catch (Exception exception) {
-            log.error("[NotificationService] Failed to persist notification inbox item: {}", exception.getMessage(), exception);
+            log.error("[NotificationService] Failed to persist notification inbox items: {}", exception.getMessage(), exception);
         }
         
-        if (isUserOnline) {
-            // 온라인 사용자에게는 즉시 전송
-            log.info("[NotificationService] Sending notification to user {} (outside room)", userId);
-            
+        if (onlineRecipientIds.isEmpty()) {
+            return;
+        }
+        
+        // 2. 온라인 대상에게 같은 알림을 한 번만 직렬화해 전송
+        try {
             WebSocketNotification<Map<String, Object>> notification = new WebSocketNotification<>(
                 "NEW_MESSAGE",
                 notificationData,
                 notificationMessage,
-                "/chat/" + chatRoom.getId()
+                actionUrl
             );
-            
-            String destination = "/queue/chat-notifications";
-            messagingTemplate.convertAndSendToUser(
-                userId.toString(), 
-                destination, 
-                notification
-            );
-            if (inboxNotification != null) {
-                offlineNotificationService.markAsDelivered(inboxNotification.getId());
+            multicaster.convertAndSendToUsers(onlineRecipientIds, "/queue/chat-notifications", notification);
+            if (dataJson != null) {
+                offlineNotificationService.markAsDelivered(
+                        onlineRecipientIds, OfflineNotification.NotificationType.NEW_MESSAGE, dataJson);
             }
-            
-            log.info("[NotificationService] ✅ Successfully sent notification to user {}", userId);
+        } catch (Exception exception) {
+            log.error("[NotificationService] Failed to send new message notifications: {}", exception.getMessage(), exception);
+        }
+        
+        // 3. 온라인 대상의 읽지 않은 메시지 수 업데이트 (오프라인 사용자는 접속 시 다시 조회)
+        sendUnreadCountUpdates(chatRoom.getId(), onlineRecipientIds);
+    }
+    
+    /**
+     * 채팅방 목록 업데이트 처리 (온라인/오프라인 대응)
+     */
+    private void handleChatRoomListUpdate(Long userId, String chatRoomId, boolean isUserOnline) {
+        Map<String, Object> updateData = new HashMap<>();
+        updateData.put("chatRoomId", chatRoomId);
+        updateData.put("action", "UPDATE_ORDER");
+        updateData.put("sortBy", "lastMessageTime");
+        updateData.put("sortOrder", "desc");
+        updateData.put("timestamp", System.currentTimeMillis());
+        
+        if (isUserOnline) {
+            // 온라인 사용자에게는 즉시 전송
+            sendChatRoomListUpdate(userId, chatRoomId);
         } else {
             // 오프라인 사용자에게는 저장
-            log.info("[NotificationService] 🔄 User {} is OFFLINE. Attempting to save offline notification...", userId);
             try {
-                String dataJson = objectMapper.writeValueAsString(notificationData);
+                String dataJson = objectMapper.writeValueAsString(updateData);
                 offlineNotificationService.saveOfflineNotification(
                     userId,
-                    OfflineNotification.NotificationType.NEW_MESSAGE,
+                    OfflineNotification.NotificationType.CHAT_ROOM_LIST_UPDATE,
                     dataJson,
-                    notificationMessage,
-                    "/chat/" + chatRoom.getId(),
-                    5 // 중간 우선순위
+                    "채팅방 목록이 업데이트되었습니다.",
+                    null,
+                    3 // 낮은 우선순위
                 );
-                log.info("[NotificationService] ✅ Successfully saved offline new message notification for user: {}", userId);
+                log.info("[NotificationService] Saved offline chat room list update for user: {}", userId);
             } catch (JsonProcessingException e) {
-                log.error("[NotificationService] ❌ JSON processing failed: {}", e.getMessage(), e);
-            } catch (Exception e) {
-                log.error("[NotificationService] ❌ Failed to save offline new message notification: {}", e.getMessage(), e);
+                log.error("[NotificationService] Failed to save offline chat room list update: {}", e.getMessage(), e);
             }
         }
-        log.info("=== [NotificationService] handleNewMessageNotification END ===");
-    }
-    
-    /**
-     * 읽지 않은 메시지 수 업데이트 처리 (온라인/오프라인 대응)
-     */
-    private void handleUnreadCountUpdate(Long userId, String chatRoomId, boolean isUserOnline) {
-        if (isUserOnline) {
-            // 온라인 사용자에게는 즉시 업데이트
-            updateUnreadCountForUser(chatRoomId, userId);
-        } else {
-            // 오프라인 사용자는 온라인 시 전체 읽지 않은 메시지 수를 다시 계산하므로 저장하지 않음
-            log.debug("[NotificationService] Skipping unread count update for offline user: {}", userId);
-        }
     }
     
     /**
@@ -241,35 +191,25 @@ public class NotificationServiceImpl implements NotificationService {
     }
     
     @Override
-    public void sendMessageReadStatusUpdate(String messageId, String chatRoomId, Long readByUserId) {
-        log.info("[NotificationService] Sending message read status update for messageId: {}, readByUserId: {}", 
-                 messageId, readByUserId);
+    public void sendReadCursorUpdates(String chatRoomId, List<Long> participantIds, List<ReadCursorUpdate> reads) {
+        log.debug("[NotificationService] Sending {} read cursor updates for chatRoomId: {} to {} participants",
+                 reads.size(), chatRoomId, participantIds.size());
         
         try {
             Map<String, Object> updateData = new HashMap<>();
-            updateData.put("messageId", messageId);
             updateData.put("chatRoomId", chatRoomId);
-            updateData.put("readByUserId", readByUserId);
+            updateData.put("reads", reads);
             
+            // 클라이언트는 readByUserId마다 lastReadAt 이전의 다른 사람 메시지를 한 번에 읽음 처리한다.
             WebSocketNotification<Map<String, Object>> notification = new WebSocketNotification<>(
-                "MESSAGE_READ_STATUS_UPDATE",
+                "MESSAGES_READ_UP_TO",
                 updateData
             );
             
-            ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                    .orElseThrow(() -> new IllegalArgumentException("Chat room not found"));
-            for (User participant : chatRoom.getParticipants()) {
-                messagingTemplate.convertAndSendToUser(
-                        participant.getId().toString(),
-                        "/queue/chat/read-status",
-                        notification
-                );
-            }
-            
-            log.info("[NotificationService] Sent message read status update to chatRoom: {}", chatRoomId);
+            multicaster.convertAndSendToUsers(participantIds, "/queue/chat/read-status", notification);
             
         } catch (Exception e) {
-            log.error("[NotificationService] Failed to send message read status update: {}", e.getMessage(), e);
+            log.error("[NotificationService] Failed to send read cursor updates: {}", e.getMessage(), e);
         }
     }
     
@@ -279,21 +219,12 @@ public class NotificationServiceImpl implements NotificationService {
                  chatRoomId, userId, unreadCount);
         
         try {
-            Map<String, Object> countData = new HashMap<>();
-            countData.put("chatRoomId", chatRoomId);
-            countData.put("unreadCount", unreadCount);
-            
-            WebSocketNotification<Map<String, Object>> notification = new WebSocketNotification<>(
-                "UNREAD_COUNT_UPDATE",
-                countData
-            );
-            
             // 특정 사용자에게만 읽지 않은 메시지 수 업데이트 전송
             String destination = "/queue/chat-updates";
             messagingTemplate.convertAndSendToUser(
                 userId.toString(), 
                 destination, 
-                notification
+                unreadCountNotification(chatRoomId, unreadCount)
             );
             
             log.info("[NotificationService] Sent unread count update to user: {} for chatRoom: {}", 
@@ -304,16 +235,29 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
     
-    private void updateUnreadCountForUser(String chatRoomId, Long userId) {
+    /**
+     * 여러 사용자의 읽지 않은 메시지 수를 한 번에 조회하고, 같은 값끼리 묶어 한 번씩 직렬화해 전송한다.
+     * 커밋 시점에 이미 올라간 카운터를 그대로 읽는다.
+     */
+    private void sendUnreadCountUpdates(String chatRoomId, List<Long> userIds) {
         try {
-            long unreadCount = messageRepository.countVisibleUnreadMessages(
-                    chatRoomId, userId, Message.MessageType.SCHEDULE);
-            sendUnreadCountUpdate(chatRoomId, userId, unreadCount);
+            Map<Long, List<Long>> usersByCount = new LinkedHashMap<>();
+            unreadCountStore.countsForMembers(chatRoomId, userIds).forEach((userId, unreadCount) ->
+                    usersByCount.computeIfAbsent(unreadCount, ignored -> new ArrayList<>()).add(userId));
+            usersByCount.forEach((unreadCount, countUserIds) -> multicaster.convertAndSendToUsers(
+                    countUserIds, "/queue/chat-updates", unreadCountNotification(chatRoomId, unreadCount)));
         } catch (Exception e) {
-            log.error("[NotificationService] Failed to update unread count for user {}: {}", userId, e.getMessage(), e);
+            log.error("[NotificationService] Failed to update unread counts for chatRoom {}: {}", chatRoomId, e.getMessage(), e);
         }
     }
     
+    private WebSocketNotification<Map<String, Object>> unreadCountNotification(String chatRoomId, long unreadCount) {
+        Map<String, Object> countData = new HashMap<>();
+        countData.put("chatRoomId", chatRoomId);
+        countData.put("unreadCount", unreadCount);
+        return new WebSocketNotification<>("UNREAD_COUNT_UPDATE", countData);
+    }
+    
     private String truncateMessage(String content) {
         if (content == null) return "";
         return content.length() > 50 ? content.substring(0, 47) + "..." : content;
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talkwithneighbors.dto.notification.WebSocketNotification;
 import com.talkwithneighbors.entity.OfflineNotification;
+import com.talkwithneighbors.entity.User;
 import com.talkwithneighbors.repository.OfflineNotificationRepository;
+import com.talkwithneighbors.repository.UserRepository;
 import com.talkwithneighbors.service.OfflineNotificationService;
 import com.talkwithneighbors.service.RedisSessionService;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -34,7 +37,7 @@ public class OfflineNotificationServiceImpl implements OfflineNotificationServic
     private final SimpUserRegistry simpUserRegistry;
     private final ObjectMapper objectMapper;
     private final RedisSessionService redisSessionService;
-    private final com.talkwithneighbors.repository.UserRepository userRepository;
+    private final UserRepository userRepository;
     
     @Override
     @Transactional
@@ -85,15 +88,62 @@ public class OfflineNotificationServiceImpl implements OfflineNotificationServic
         }
     }
 
+    @Override
+    @Transactional
+    public int saveOfflineNotifications(Collection<Long> userIds,
+                                        OfflineNotification.NotificationType type,
+                                        String data,
+                                        String message,
+                                        String actionUrl,
+                                        Integer priority) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        NotificationPreference preference = preferenceOf(type);
+        List<Long> enabledUserIds = userRepository == null
+                ? List.copyOf(userIds)
+                : userRepository.findIdsAcceptingNotifications(userIds,
+                        preference == NotificationPreference.MATCH,
+                        preference == NotificationPreference.CHAT,
+                        preference == NotificationPreference.MEETUP);
+        if (enabledUserIds.isEmpty()) {
+            return 0;
+        }
+        // INSERT ... SELECT는 @PrePersist를 거치지 않으므로 생성·만료 시각을 직접 채운다.
+        LocalDateTime now = LocalDateTime.now();
+        int saved = offlineNotificationRepository.insertForUsers(
+                enabledUserIds, type, data, message, actionUrl, now, now.plusDays(30),
+                priority != null ? priority : getDefaultPriority(type));
+        log.debug("[OfflineNotificationService] Saved {} offline notifications of type {} for {} recipients",
+                  saved, type, userIds.size());
+        return saved;
+    }
+
     private boolean notificationEnabled(Long userId, OfflineNotification.NotificationType type) {
         if (userRepository == null) return true;
-        return userRepository.findById(userId).map(user -> switch (type) {
-            case MATCH_REQUEST, MATCH_ACCEPTED, MATCH_REJECTED -> !Boolean.FALSE.equals(user.getMatchNotificationsEnabled());
+        return userRepository.findById(userId).map(user -> notificationEnabled(user, type)).orElse(true);
+    }
+
+    private static boolean notificationEnabled(User user, OfflineNotification.NotificationType type) {
+        return switch (preferenceOf(type)) {
+            case MATCH -> !Boolean.FALSE.equals(user.getMatchNotificationsEnabled());
+            case CHAT -> !Boolean.FALSE.equals(user.getChatNotificationsEnabled());
+            case MEETUP -> !Boolean.FALSE.equals(user.getMeetupNotificationsEnabled());
+            case NONE -> true;
+        };
+    }
+
+    /** 알림 종류별로 사용자가 끌 수 있는 수신 설정 */
+    private enum NotificationPreference { MATCH, CHAT, MEETUP, NONE }
+
+    private static NotificationPreference preferenceOf(OfflineNotification.NotificationType type) {
+        return switch (type) {
+            case MATCH_REQUEST, MATCH_ACCEPTED, MATCH_REJECTED -> NotificationPreference.MATCH;
             case NEW_MESSAGE, CHAT_ROOM_LIST_UPDATE, UNREAD_COUNT_UPDATE, MESSAGE_READ_STATUS, ROOM_DELETED ->
-                    !Boolean.FALSE.equals(user.getChatNotificationsEnabled());
-            case MEETUP_REMINDER, MEETUP_WAITLIST_PROMOTED -> !Boolean.FALSE.equals(user.getMeetupNotificationsEnabled());
-            case SYSTEM_NOTICE -> true;
-        }).orElse(true);
+                    NotificationPreference.CHAT;
+            case MEETUP_REMINDER, MEETUP_WAITLIST_PROMOTED -> NotificationPreference.MEETUP;
+            case SYSTEM_NOTICE -> NotificationPreference.NONE;
+        };
     }
     
     @Override
@@ -409,4 +459,12 @@ public class OfflineNotificationServiceImpl implements OfflineNotificationServic
             offlineNotificationRepository.markAsSent(notificationId, LocalDateTime.now());
         }
     }
+
+    @Override
+    @Transactional
+    public void markAsDelivered(Collection<Long> userIds, OfflineNotification.NotificationType type, String data) {
+        if (!userIds.isEmpty()) {
+            offlineNotificationRepository.markAsSentForUsers(userIds, type, data, LocalDateTime.now());
+        }
+    }
 } 
@@ -3,6 +3,7 @@ package com.talkwithneighbors.websocket;
 import com.talkwithneighbors.handler.CustomHandshakeHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
@@ -21,6 +22,16 @@ public class AuthenticatedWebSocketSessionRegistry {
 
     private final ConcurrentMap<String, Set<WebSocketSession>> sessionsByCredential =
             new ConcurrentHashMap<>();
+    private final ValidatedSessionCache validatedSessionCache;
+    private final ObjectProvider<SessionRevocationRedisRelay> revocationRelay;
+
+    public AuthenticatedWebSocketSessionRegistry(
+            ValidatedSessionCache validatedSessionCache,
+            ObjectProvider<SessionRevocationRedisRelay> revocationRelay
+    ) {
+        this.validatedSessionCache = validatedSessionCache;
+        this.revocationRelay = revocationRelay;
+    }
 
     public WebSocketHandlerDecoratorFactory decoratorFactory() {
         return delegate -> new WebSocketHandlerDecorator(delegate) {
@@ -52,10 +63,21 @@ public class AuthenticatedWebSocketSessionRegistry {
         };
     }
 
+    /** Revokes the credential on this node and asks every other node to do the same. */
     public void closeSessionsForCredential(String credential) {
         if (credential == null || credential.isBlank()) {
             return;
         }
+        closeLocalSessionsForCredential(credential);
+        revocationRelay.ifAvailable(relay -> relay.broadcast(credential));
+    }
+
+    /** Drops the cached validation and closes this node's transports for the credential. */
+    public void closeLocalSessionsForCredential(String credential) {
+        if (credential == null || credential.isBlank()) {
+            return;
+        }
+        validatedSessionCache.invalidate(credential);
         Set<WebSocketSession> sessions = sessionsByCredential.remove(credential);
         if (sessions == null) {
             return;
@@ -0,0 +1,54 @@
+package com.talkwithneighbors.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Carries application session revocations between nodes over Redis pub/sub so
+ * every node drops its {@link ValidatedSessionCache} entry and closes its own
+ * transports for the credential.
+ *
+ * <p>Delivery is best effort: a node that misses a message stops accepting
+ * the credential once the cache TTL passes. The credential is never logged.</p>
+ */
+@Component
+@Profile("!local")
+@ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SessionRevocationRedisRelay implements MessageListener {
+    public static final String CHANNEL = "session-revocations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuthenticatedWebSocketSessionRegistry webSocketSessionRegistry;
+
+    public SessionRevocationRedisRelay(
+            StringRedisTemplate redisTemplate,
+            AuthenticatedWebSocketSessionRegistry webSocketSessionRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.webSocketSessionRegistry = webSocketSessionRegistry;
+    }
+
+    public void broadcast(String credential) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, credential);
+        } catch (Exception exception) {
+            log.warn("Failed to broadcast a session revocation.");
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String credential = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!credential.isBlank()) {
+            webSocketSessionRegistry.closeLocalSessionsForCredential(credential);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.talkwithneighbors.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers user destinations to STOMP sessions held by other backend nodes.
+ *
+ * <p>As a broker channel interceptor it sees every {@code /user/{userId}/...}
+ * message that {@code convertAndSendToUser} produces on this node. Local
+ * delivery continues unchanged; in addition the already-serialized payload is
+ * published once to the channel of each other node that
+ * {@link UserNodeRegistry} lists for the user. {@link UserDestinationMulticaster}
+ * relays a whole recipient list through {@link #relayToUsers} instead, with one
+ * lease lookup for all recipients and one envelope per remote node. The
+ * receiving node replays the message into its own broker channel for each
+ * listed user, where the user destination resolves to that node's sessions.
+ * Replayed and already relayed messages carry {@link #RELAYED_HEADER} and are
+ * never published again.</p>
+ *
+ * <p>Delivery is best effort, like the in-memory broker it extends: a Redis
+ * failure drops only the remote copy and is logged.</p>
+ */
+@Component
+@Profile("!local")
+@ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class StompUserDestinationRelay implements ChannelInterceptor, MessageListener {
+    static final String RELAYED_HEADER = "twnRelayedFromNode";
+    private static final String USER_PREFIX = "/user/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserNodeRegistry userNodeRegistry;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    public StompUserDestinationRelay(
+            StringRedisTemplate redisTemplate,
+            UserNodeRegistry userNodeRegistry,
+            ObjectMapper objectMapper,
+            ObjectProvider<SimpMessagingTemplate> messagingTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.userNodeRegistry = userNodeRegistry;
+        this.objectMapper = objectMapper;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (destination == null
+                || !destination.startsWith(USER_PREFIX)
+                || (type != null && type != SimpMessageType.MESSAGE)
+                || headers.containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        int userEnd = destination.indexOf('/', USER_PREFIX.length());
+        if (userEnd > USER_PREFIX.length()) {
+            publish(List.of(destination.substring(USER_PREFIX.length(), userEnd)),
+                    destination.substring(userEnd), headers, payload);
+        }
+        return message;
+    }
+
+    /**
+     * Publishes one envelope per remote node for the users' {@code destination}
+     * (without the {@code /user/{userId}} prefix) and returns the message to
+     * send locally, marked so that {@link #preSend} does not relay each
+     * recipient's copy again.
+     */
+    public Message<?> relayToUsers(Collection<Long> userIds, String destination, Message<?> message) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        publish(userIds.stream().map(String::valueOf).toList(), destination, message.getHeaders(), payload);
+        return MessageBuilder.fromMessage(message)
+                .setHeader(RELAYED_HEADER, userNodeRegistry.nodeId())
+                .build();
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        RelayedUserMessage relayed;
+        try {
+            relayed = objectMapper.readValue(message.getBody(), RelayedUserMessage.class);
+        } catch (Exception exception) {
+            log.warn("Dropped an unreadable relayed STOMP message.");
+            return;
+        }
+        if (relayed.destination() == null || !relayed.destination().startsWith("/")
+                || relayed.userIds() == null || relayed.payload() == null) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (relayed.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(relayed.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, relayed.originNode());
+        // The template copies these headers per send, so one message serves every listed user.
+        Message<byte[]> replayed = MessageBuilder.createMessage(relayed.payload(), accessor.getMessageHeaders());
+        SimpMessagingTemplate template = messagingTemplate.getObject();
+        for (String userId : relayed.userIds()) {
+            if (userId != null && !userId.isBlank() && userId.indexOf('/') < 0) {
+                template.send(USER_PREFIX + userId + relayed.destination(), replayed);
+            }
+        }
+    }
+
+    private void publish(List<String> userIds, String destination, MessageHeaders headers, byte[] payload) {
+        try {
+            Map<String, List<String>> usersByNode = userNodeRegistry.remoteUsersByNode(userIds);
+            if (usersByNode.isEmpty()) {
+                return;
+            }
+            MimeType contentType = SimpMessageHeaderAccessor.getContentType(headers);
+            for (Map.Entry<String, List<String>> nodeUsers : usersByNode.entrySet()) {
+                String body = objectMapper.writeValueAsString(new RelayedUserMessage(
+                        userNodeRegistry.nodeId(),
+                        nodeUsers.getValue(),
+                        destination,
+                        contentType != null ? contentType.toString() : null,
+                        payload
+                ));
+                redisTemplate.convertAndSend(UserNodeRegistry.channelOf(nodeUsers.getKey()), body);
+            }
+        } catch (Exception exception) {
+            log.warn("Failed to relay a STOMP user destination to other nodes for {} users.", userIds.size());
+        }
+    }
+
+    record RelayedUserMessage(
+            String originNode, List<String> userIds, String destination, String contentType, byte[] payload) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.talkwithneighbors.websocket;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Sends one payload to the same user destination of many users.
+ *
+ * <p>{@link SimpMessagingTemplate#convertAndSendToUser} serializes its payload
+ * on every call, so a loop over a room's members encoded the same DTO once per
+ * member. This helper converts the payload once and hands the same bytes to
+ * each member's {@code /user/{userId}/...} destination, which still resolves
+ * to that user's own sessions. Room events keep using user queues because
+ * {@code /topic/**} subscriptions are denied.</p>
+ *
+ * <p>When {@link StompUserDestinationRelay} is active, the whole recipient list
+ * is relayed to other nodes once before the local sends, so a room costs one
+ * lease lookup and one envelope per remote node rather than one per member.</p>
+ */
+@Component
+public class UserDestinationMulticaster {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectProvider<StompUserDestinationRelay> userDestinationRelay;
+
+    public UserDestinationMulticaster(
+            SimpMessagingTemplate messagingTemplate,
+            ObjectProvider<StompUserDestinationRelay> userDestinationRelay
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.userDestinationRelay = userDestinationRelay;
+    }
+
+    public void convertAndSendToUsers(Collection<Long> userIds, String destination, Object payload) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Message<?> encoded = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (encoded == null) {
+            throw new MessageConversionException("Unable to convert payload of type "
+                    + payload.getClass().getName() + " for " + destination);
+        }
+        String userDestination = destination.startsWith("/") ? destination : "/" + destination;
+        StompUserDestinationRelay relay = userDestinationRelay.getIfAvailable();
+        if (relay != null) {
+            encoded = relay.relayToUsers(userIds, userDestination, encoded);
+        }
+        for (Long userId : userIds) {
+            // The template copies headers per send; the payload bytes are shared.
+            messagingTemplate.send(
+                    messagingTemplate.getUserDestinationPrefix() + userId + userDestination, encoded);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.talkwithneighbors.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records which backend nodes hold STOMP sessions for each user, so a user
+ * destination can be relayed only to the nodes that can deliver it.
+ *
+ * <p>Each user has a Redis sorted set ({@code ws:user-nodes:{userId}}) whose
+ * members are node IDs scored by lease expiry. A node adds itself when the
+ * user's first local session connects, removes itself when the last one
+ * disconnects, and renews the leases of its connected users on a schedule.
+ * A node that dies without cleaning up drops out of lookups once its lease
+ * passes. The node ID is random per process, so a restarted pod never
+ * inherits the leases of its predecessor.</p>
+ *
+ * <p>Every node also heartbeats into {@code ws:nodes} and keeps the other live
+ * node IDs in memory. While this node is the only one alive, lookups return
+ * without touching Redis; a node that has just started is noticed by the next
+ * heartbeat.</p>
+ */
+@Component
+@Profile("!local")
+@ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UserNodeRegistry {
+    static final String KEY_PREFIX = "ws:user-nodes:";
+    static final String NODES_KEY = "ws:nodes";
+    static final String NODE_CHANNEL_PREFIX = "ws:node:";
+    static final Duration LEASE = Duration.ofSeconds(90);
+    static final Duration NODE_LEASE = Duration.ofSeconds(15);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, Set<String>> localSessionsByUser = new ConcurrentHashMap<>();
+    private volatile Set<String> liveRemoteNodes = Set.of();
+
+    public UserNodeRegistry(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public String nodeChannel() {
+        return channelOf(nodeId);
+    }
+
+    public static String channelOf(String nodeId) {
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    @EventListener
+    public void onSessionConnected(SessionConnectedEvent event) {
+        String userId = userId(event);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (userId == null || sessionId == null) {
+            return;
+        }
+        boolean[] first = {false};
+        localSessionsByUser.compute(userId, (ignored, sessions) -> {
+            Set<String> current = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            first[0] = current.isEmpty();
+            current.add(sessionId);
+            return current;
+        });
+        if (first[0]) {
+            renew(List.of(userId));
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnected(SessionDisconnectEvent event) {
+        String userId = userId(event);
+        String sessionId = event.getSessionId();
+        if (userId == null || sessionId == null) {
+            return;
+        }
+        boolean[] last = {false};
+        localSessionsByUser.computeIfPresent(userId, (ignored, sessions) -> {
+            sessions.remove(sessionId);
+            last[0] = sessions.isEmpty();
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (last[0]) {
+            try {
+                redisTemplate.opsForZSet().remove(KEY_PREFIX + userId, nodeId);
+            } catch (Exception exception) {
+                log.debug("Could not release the node lease for user {}; it expires on its own.", userId);
+            }
+        }
+    }
+
+    /**
+     * Groups the given users by the other live nodes that hold at least one of
+     * their sessions, reading all leases in one pipelined round trip. Users
+     * connected only to this node are left out.
+     */
+    public Map<String, List<String>> remoteUsersByNode(Collection<String> userIds) {
+        if (userIds.isEmpty() || liveRemoteNodes.isEmpty()) {
+            return Map.of();
+        }
+        List<String> users = List.copyOf(userIds);
+        double now = System.currentTimeMillis();
+        List<Object> leases = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                for (String userId : users) {
+                    stringOperations.opsForZSet().rangeByScore(KEY_PREFIX + userId, now, Double.POSITIVE_INFINITY);
+                }
+                return null;
+            }
+        });
+        Map<String, List<String>> usersByNode = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            if (!(leases.get(i) instanceof Collection<?> nodes)) {
+                continue;
+            }
+            for (Object node : nodes) {
+                if (!nodeId.equals(node)) {
+                    usersByNode.computeIfAbsent((String) node, ignored -> new ArrayList<>()).add(users.get(i));
+                }
+            }
+        }
+        return usersByNode;
+    }
+
+    /**
+     * Renews this node's entry in {@code ws:nodes} and refreshes the in-memory
+     * set of other live nodes from the same pipelined round trip.
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.node-heartbeat-ms:5000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    stringOperations.opsForZSet().add(NODES_KEY, nodeId, now + NODE_LEASE.toMillis());
+                    stringOperations.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now);
+                    stringOperations.opsForZSet().rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+                    return null;
+                }
+            });
+            Set<String> live = new HashSet<>();
+            if (results.get(2) instanceof Collection<?> nodes) {
+                nodes.forEach(node -> live.add((String) node));
+            }
+            live.remove(nodeId);
+            liveRemoteNodes = Set.copyOf(live);
+        } catch (Exception exception) {
+            log.warn("Could not renew the node heartbeat; keeping the last known {} remote nodes.",
+                    liveRemoteNodes.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.websocket.user-node-lease-refresh-ms:30000}")
+    public void renewLeases() {
+        if (!localSessionsByUser.isEmpty()) {
+            renew(new ArrayList<>(localSessionsByUser.keySet()));
+        }
+    }
+
+    int localUserCount() {
+        return localSessionsByUser.size();
+    }
+
+    private void renew(List<String> userIds) {
+        long now = System.currentTimeMillis();
+        double expiresAt = now + LEASE.toMillis();
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    for (String userId : userIds) {
+                        String key = KEY_PREFIX + userId;
+                        stringOperations.opsForZSet().add(key, nodeId, expiresAt);
+                        // Leases of dead nodes are pruned here instead of on every lookup.
+                        stringOperations.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                        stringOperations.expire(key, LEASE);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception exception) {
+            log.warn("Could not renew node leases for {} users. Cross-node delivery to them may pause.",
+                    userIds.size());
+        }
+    }
+
+    private static String userId(AbstractSubProtocolEvent event) {
+        Principal user = event.getUser();
+        return user != null && user.getName() != null && !user.getName().isBlank() ? user.getName() : null;
+    }
+}
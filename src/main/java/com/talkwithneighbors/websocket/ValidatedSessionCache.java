@@ -0,0 +1,99 @@
+package com.talkwithneighbors.websocket;
+
+import com.talkwithneighbors.security.UserSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Node-local near-cache of application sessions validated for STOMP frames.
+ *
+ * <p>Every SEND, SUBSCRIBE and heartbeat revalidates the handshake credential.
+ * A validated session is reused for a short TTL so idle sockets do not read
+ * the sessions table every ten seconds. Revocation drops the entry at once
+ * through {@link AuthenticatedWebSocketSessionRegistry}, including on other
+ * nodes; the TTL bounds how long a missed revocation or a natural expiry can
+ * go unnoticed.</p>
+ */
+@Component
+public class ValidatedSessionCache {
+    static final int MAX_SESSIONS = 50_000;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final ConcurrentMap<String, Entry> sessions = new ConcurrentHashMap<>();
+    /** Bumped on every invalidation so a load that raced with one is not cached. */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public ValidatedSessionCache(@Value("${app.session.stomp-cache-ttl-seconds:30}") long ttlSeconds) {
+        this(Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    ValidatedSessionCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached session for the credential, or loads it. A null load
+     * means the session is missing or expired and is never cached.
+     */
+    public UserSession getOrLoad(String credential, Function<String, UserSession> loader) {
+        Entry cached = sessions.get(credential);
+        Instant now = clock.instant();
+        if (cached != null && !isExpired(cached, now)) {
+            return cached.session();
+        }
+        long loadGeneration = generation.get();
+        UserSession loaded = loader.apply(credential);
+        if (loaded == null || loaded.getUserId() == null) {
+            sessions.remove(credential);
+            return loaded;
+        }
+        if (sessions.size() >= MAX_SESSIONS) {
+            removeExpiredSessions();
+            if (sessions.size() >= MAX_SESSIONS) {
+                return loaded;
+            }
+        }
+        sessions.put(credential, new Entry(loaded, now));
+        if (generation.get() != loadGeneration) {
+            sessions.remove(credential);
+        }
+        return loaded;
+    }
+
+    public void invalidate(String credential) {
+        generation.incrementAndGet();
+        if (credential != null) {
+            sessions.remove(credential);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    void removeExpiredSessions() {
+        Instant now = clock.instant();
+        sessions.values().removeIf(entry -> isExpired(entry, now));
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    private boolean isExpired(Entry entry, Instant now) {
+        return !now.isBefore(entry.validatedAt().plus(ttl));
+    }
+
+    private record Entry(UserSession session, Instant validatedAt) {
+    }
+}
@@ -5,6 +5,7 @@ import com.talkwithneighbors.dto.ChatMessageDto;
 import com.talkwithneighbors.dto.ChatRoomDto;
 import com.talkwithneighbors.dto.CreateRoomRequest;
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.MessageHistoryPage;
 import com.talkwithneighbors.dto.UpdateChatMessageRequest;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.User;
@@ -180,15 +181,18 @@ class ChatControllerTest {
         MessageDto messageDto = new MessageDto();
         messageDto.setId("msg-1");
         messageDto.setContent("Hello");
-        when(chatService.getMessagesByRoomId(anyString(), anyString(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(messageDto)));
+        when(chatService.getMessageHistory("room-1", "1", "msg-9", 20))
+                .thenReturn(new MessageHistoryPage(List.of(messageDto), "msg-1", true));
 
         mockMvc.perform(get("/api/chat/rooms/{roomId}/messages", "room-1")
                         .cookie(new jakarta.servlet.http.Cookie("TWN_SESSION", SESSION_ID))
-                        .param("page", "0")
+                        .param("before", "msg-9")
                         .param("size", "20"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content[0].id").value("msg-1"));
+                .andExpect(jsonPath("$.content[0].id").value("msg-1"))
+                .andExpect(jsonPath("$.nextBefore").value("msg-1"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
     }
 
     @Test
@@ -81,18 +81,19 @@ class FeedControllerWebTest {
 
     @Test
     void getFeedForwardsModeAndSanitizesPageBounds() throws Exception {
-        when(feedService.getFeed(eq(1L), eq(FeedMode.NEARBY), any(Pageable.class)))
+        when(feedService.getFeed(eq(1L), eq(FeedMode.NEARBY), any(Pageable.class), eq("snapshot-1")))
                 .thenReturn(Page.empty(PageRequest.of(0, 50)));
 
         mockMvc.perform(get("/api/feed")
                         .cookie(new Cookie("TWN_SESSION", SESSION_ID))
                         .param("mode", "NEARBY")
                         .param("page", "-3")
-                        .param("size", "500"))
+                        .param("size", "500")
+                        .param("snapshot", "snapshot-1"))
                 .andExpect(status().isOk());
 
         ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
-        verify(feedService).getFeed(eq(1L), eq(FeedMode.NEARBY), pageable.capture());
+        verify(feedService).getFeed(eq(1L), eq(FeedMode.NEARBY), pageable.capture(), eq("snapshot-1"));
         assertThat(pageable.getValue().getPageNumber()).isZero();
         assertThat(pageable.getValue().getPageSize()).isEqualTo(50);
     }
@@ -1,23 +1,29 @@
 package com.talkwithneighbors.domain.event;
 
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.service.UnreadCountStore;
+import com.talkwithneighbors.websocket.UserDestinationMulticaster;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ChatMessageChangedEventListenerTest {
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private UserDestinationMulticaster multicaster;
+
+    @Mock
+    private UnreadCountStore unreadCountStore;
 
     @InjectMocks
     private ChatMessageChangedEventListener listener;
@@ -49,13 +55,30 @@ class ChatMessageChangedEventListenerTest {
                         "lastSenderName", "코아"
                 )
         );
-        verify(messagingTemplate).convertAndSendToUser(
-                "11", "/queue/chat/room/room-1", message);
-        verify(messagingTemplate).convertAndSendToUser(
-                "22", "/queue/chat/room/room-1", message);
-        verify(messagingTemplate).convertAndSendToUser(
-                "11", "/queue/chat-updates", roomUpdate);
-        verify(messagingTemplate).convertAndSendToUser(
-                "22", "/queue/chat-updates", roomUpdate);
+        verify(multicaster).convertAndSendToUsers(
+                List.of(11L, 22L), "/queue/chat/room/room-1", message);
+        verify(multicaster).convertAndSendToUsers(
+                List.of(11L, 22L), "/queue/chat-updates", roomUpdate);
+        verifyNoInteractions(unreadCountStore);
+    }
+
+    @Test
+    void deletedMessageLeavesTheUnreadCountOfMembersWhoHadNotReadIt() {
+        MessageDto message = new MessageDto();
+        message.setId("message-1");
+        message.setRoomId("room-1");
+        message.setDeleted(true);
+        message.setReadByUsers(Set.of(11L, 22L));
+
+        listener.onMessageChanged(new ChatMessageChangedEvent(
+                message,
+                "room-1",
+                "",
+                "2026-07-13T12:34:56",
+                "코아",
+                List.of(11L, 22L, 33L)
+        ));
+
+        verify(unreadCountStore).recordDeletedUnread("room-1", List.of(33L));
     }
 }
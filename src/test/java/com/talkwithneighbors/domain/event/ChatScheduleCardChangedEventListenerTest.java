@@ -1,8 +1,8 @@
 package com.talkwithneighbors.domain.event;
 
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.websocket.UserDestinationMulticaster;
 import org.junit.jupiter.api.Test;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -17,20 +17,18 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 class ChatScheduleCardChangedEventListenerTest {
     @Test
     void sendsStableCardToEveryDistinctRoomParticipantAfterCommit() throws Exception {
-        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        UserDestinationMulticaster multicaster = mock(UserDestinationMulticaster.class);
         ChatScheduleCardChangedEventListener listener =
-                new ChatScheduleCardChangedEventListener(messagingTemplate);
+                new ChatScheduleCardChangedEventListener(multicaster);
         MessageDto message = new MessageDto();
         message.setId("schedule-card-1");
 
         listener.onScheduleCardChanged(new ChatScheduleCardChangedEvent(
                 message, "room-1", List.of(1L, 2L, 1L)));
 
-        verify(messagingTemplate).convertAndSendToUser(
-                "1", "/queue/chat/room/room-1", message);
-        verify(messagingTemplate).convertAndSendToUser(
-                "2", "/queue/chat/room/room-1", message);
-        verifyNoMoreInteractions(messagingTemplate);
+        verify(multicaster).convertAndSendToUsers(
+                List.of(1L, 2L), "/queue/chat/room/room-1", message);
+        verifyNoMoreInteractions(multicaster);
 
         Method method = ChatScheduleCardChangedEventListener.class
                 .getMethod("onScheduleCardChanged", ChatScheduleCardChangedEvent.class);
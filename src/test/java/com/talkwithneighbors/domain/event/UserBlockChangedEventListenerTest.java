@@ -0,0 +1,39 @@
+package com.talkwithneighbors.domain.event;
+
+import com.talkwithneighbors.service.BlockGraph;
+import com.talkwithneighbors.service.BlockGraphRedisRelay;
+import com.talkwithneighbors.service.FeedCandidateIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class UserBlockChangedEventListenerTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    void invalidatesBlocksAndEvictsBothFeedSnapshotsAfterCommit() throws Exception {
+        BlockGraph blockGraph = mock(BlockGraph.class);
+        FeedCandidateIndex feedCandidateIndex = mock(FeedCandidateIndex.class);
+        ObjectProvider<BlockGraphRedisRelay> relay = mock(ObjectProvider.class);
+        UserBlockChangedEventListener listener =
+                new UserBlockChangedEventListener(blockGraph, relay, feedCandidateIndex);
+
+        listener.onUserBlockChanged(new UserBlockChangedEvent(1L, 2L));
+
+        verify(blockGraph).invalidate(1L, 2L);
+        verify(feedCandidateIndex).evictViewer(1L);
+        verify(feedCandidateIndex).evictViewer(2L);
+
+        Method method = UserBlockChangedEventListener.class
+                .getMethod("onUserBlockChanged", UserBlockChangedEvent.class);
+        TransactionalEventListener annotation = method.getAnnotation(TransactionalEventListener.class);
+        assertThat(annotation).isNotNull();
+        assertThat(annotation.phase()).isEqualTo(TransactionPhase.AFTER_COMMIT);
+    }
+}
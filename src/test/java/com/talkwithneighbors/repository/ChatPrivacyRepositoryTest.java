@@ -14,6 +14,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,6 +60,79 @@ class ChatPrivacyRepositoryTest {
                 .containsExactly("requester-direct");
     }
 
+    @Test
+    void roomListPagesJoinedRoomIdsByRecentActivityBeforeLoadingParticipants() {
+        User requester = persistUser("list-requester");
+        User peer = persistUser("list-peer");
+        LocalDateTime now = LocalDateTime.of(2026, 10, 16, 12, 0);
+        persistRoom("oldest", "Oldest", ChatRoomType.GROUP, requester, now.minusDays(2), requester, peer);
+        persistRoom("newest", "Newest", ChatRoomType.GROUP, requester, now, requester, peer);
+        persistRoom("middle", "Middle", ChatRoomType.GROUP, requester, now.minusDays(1), requester);
+        persistRoom("not-joined", "Not joined", ChatRoomType.GROUP, peer, now.plusDays(1), peer);
+        entityManager.flush();
+        entityManager.clear();
+
+        var firstPage = chatRoomRepository.findParticipantRoomIdsByRecentActivity(
+                requester.getId(), PageRequest.of(0, 2));
+        List<ChatRoom> rooms = chatRoomRepository.findAllWithParticipantsByIdIn(firstPage.getContent());
+        entityManager.clear();
+
+        assertThat(firstPage.getContent()).containsExactly("newest", "middle");
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(rooms).extracting(ChatRoom::getId).containsExactlyInAnyOrder("newest", "middle");
+        assertThat(rooms).filteredOn(room -> room.getId().equals("newest")).singleElement()
+                .satisfies(room -> assertThat(room.getParticipants()).hasSize(2));
+    }
+
+    @Test
+    void lastMessageOnlyMovesForward() {
+        User sender = persistUser("preview-sender");
+        LocalDateTime sentAt = LocalDateTime.of(2026, 10, 17, 9, 0);
+        persistRoom("preview-room", "Preview", ChatRoomType.GROUP, sender, sentAt, sender);
+        entityManager.flush();
+        entityManager.clear();
+
+        int older = chatRoomRepository.advanceLastMessage("preview-room", "older", sentAt.minusSeconds(1));
+        int newer = chatRoomRepository.advanceLastMessage("preview-room", "newer", sentAt.plusSeconds(1));
+        entityManager.clear();
+
+        ChatRoom room = chatRoomRepository.findById("preview-room").orElseThrow();
+        assertThat(older).isZero();
+        assertThat(newer).isEqualTo(1);
+        assertThat(room.getLastMessage()).isEqualTo("newer");
+        assertThat(room.getLastMessageTime()).isEqualTo(sentAt.plusSeconds(1));
+    }
+
+    @Test
+    void messageHistoryKeysetBreaksCreationTimeTiesById() {
+        User sender = persistUser("history-sender");
+        ChatRoom room = persistRoom("history-room", "History", ChatRoomType.GROUP, sender, sender);
+        LocalDateTime sameInstant = LocalDateTime.of(2026, 10, 17, 9, 0);
+        for (String id : List.of("message-a", "message-b", "message-c")) {
+            Message message = new Message();
+            message.setId(id);
+            message.setChatRoom(room);
+            message.setSender(sender);
+            message.setContent(id);
+            message.setType(Message.MessageType.TEXT);
+            message.setCreatedAt(sameInstant);
+            entityManager.persist(message);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Message> newest = messageRepository.findVisibleHistory(
+                "history-room", Message.MessageType.SCHEDULE, PageRequest.of(0, 2));
+        List<Message> older = messageRepository.findVisibleHistoryBefore(
+                "history-room", Message.MessageType.SCHEDULE,
+                messageRepository.findCreatedAtInRoom("message-b", "history-room").orElseThrow(),
+                "message-b", PageRequest.of(0, 2));
+
+        assertThat(newest).extracting(Message::getId).containsExactly("message-c", "message-b");
+        assertThat(older).extracting(Message::getId).containsExactly("message-a");
+        assertThat(messageRepository.findCreatedAtInRoom("message-b", "media-room")).isEmpty();
+    }
+
     @Test
     void attachmentLookupRequiresRoomParticipationAndAcceptsThumbnailUrls() {
         User participant = persistUser("participant");
@@ -119,12 +193,24 @@ class ChatPrivacyRepositoryTest {
             ChatRoomType type,
             User creator,
             User... participants
+    ) {
+        return persistRoom(id, name, type, creator, (LocalDateTime) null, participants);
+    }
+
+    private ChatRoom persistRoom(
+            String id,
+            String name,
+            ChatRoomType type,
+            User creator,
+            LocalDateTime lastMessageTime,
+            User... participants
     ) {
         ChatRoom room = new ChatRoom();
         room.setId(id);
         room.setName(name);
         room.setType(type);
         room.setCreator(creator);
+        room.setLastMessageTime(lastMessageTime);
         room.getParticipants().addAll(List.of(participants));
         return entityManager.persist(room);
     }
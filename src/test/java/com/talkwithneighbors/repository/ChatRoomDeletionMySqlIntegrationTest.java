@@ -2,6 +2,7 @@ package com.talkwithneighbors.repository;
 
 import com.talkwithneighbors.entity.ChatAttachmentType;
 import com.talkwithneighbors.entity.ChatRoom;
+import com.talkwithneighbors.entity.ChatRoomReadCursor;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.ChatSchedule;
 import com.talkwithneighbors.entity.ChatScheduleRsvp;
@@ -63,6 +64,9 @@ class ChatRoomDeletionMySqlIntegrationTest {
     @Autowired
     private MessageRepository messageRepository;
 
+    @Autowired
+    private ChatRoomReadCursorRepository readCursorRepository;
+
     @Autowired
     private MeetupWaitlistRepository meetupWaitlistRepository;
 
@@ -170,6 +174,14 @@ class ChatRoomDeletionMySqlIntegrationTest {
             message.setReadByUsers(new HashSet<>(List.of(owner.getId(), peer.getId())));
             messageRepository.saveAndFlush(message);
 
+            ChatRoomReadCursor peerCursor = new ChatRoomReadCursor();
+            peerCursor.setRoomId(room.getId());
+            peerCursor.setUserId(peer.getId());
+            peerCursor.setLastReadAt(LocalDateTime.now());
+            peerCursor.setLastReadMessageId(message.getId());
+            peerCursor.setUpdatedAt(LocalDateTime.now());
+            readCursorRepository.saveAndFlush(peerCursor);
+
             if (includeWaitlist) {
                 meetupWaitlistRepository.saveAndFlush(new MeetupWaitlistEntry(room, peer));
 
@@ -222,6 +234,7 @@ class ChatRoomDeletionMySqlIntegrationTest {
         assertCount(0, "SELECT COUNT(*) FROM chat_rooms WHERE id = ?", fixture.roomId());
         assertCount(0, "SELECT COUNT(*) FROM messages WHERE chat_room_id = ?", fixture.roomId());
         assertCount(0, "SELECT COUNT(*) FROM message_read_by WHERE message_id = ?", fixture.messageId());
+        assertCount(0, "SELECT COUNT(*) FROM chat_room_read_cursors WHERE room_id = ?", fixture.roomId());
         assertCount(0, "SELECT COUNT(*) FROM message_attachments WHERE message_id = ?", fixture.messageId());
         assertCount(0, "SELECT COUNT(*) FROM chat_room_participants WHERE chat_room_id = ?", fixture.roomId());
         assertCount(0, "SELECT COUNT(*) FROM chat_room_interest_tags WHERE chat_room_id = ?", fixture.roomId());
@@ -2,6 +2,7 @@ package com.talkwithneighbors.repository;
 
 import com.talkwithneighbors.config.TestConfig;
 import com.talkwithneighbors.entity.ChatRoom;
+import com.talkwithneighbors.entity.ChatRoomReadCursor;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.ChatSchedule;
 import com.talkwithneighbors.entity.ChatScheduleStatus;
@@ -13,7 +14,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -43,6 +43,9 @@ class MessageVisibilityMySqlIntegrationTest {
     @Autowired
     private MessageRepository messageRepository;
 
+    @Autowired
+    private ChatRoomReadCursorRepository readCursorRepository;
+
     @Test
     void scheduleCardsStayOutOfPaginationUnreadCountsAndVisiblePreviewQueries() {
         String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
@@ -58,12 +61,11 @@ class MessageVisibilityMySqlIntegrationTest {
 
         LocalDateTime base = LocalDateTime.of(2099, 8, 1, 10, 0);
         Message unreadText = message("unread-" + suffix, room, host,
-                Message.MessageType.TEXT, "unread", base.plusMinutes(1));
+                Message.MessageType.TEXT, "unread", base.plusMinutes(3));
         Message firstCard = scheduleCard("first-card-" + suffix, room, host,
                 "first-schedule-" + suffix, base.plusMinutes(2));
         Message readText = message("read-" + suffix, room, host,
-                Message.MessageType.TEXT, "read", base.plusMinutes(3));
-        readText.getReadByUsers().add(member.getId());
+                Message.MessageType.TEXT, "read", base.plusMinutes(1));
         Message deletedText = message("deleted-" + suffix, room, host,
                 Message.MessageType.SYSTEM, "", base.plusMinutes(4));
         deletedText.setDeleted(true);
@@ -74,27 +76,33 @@ class MessageVisibilityMySqlIntegrationTest {
         room.setLastMessage("Schedule: hidden card");
         room.setLastMessageTime(secondCard.getCreatedAt());
         chatRoomRepository.saveAndFlush(room);
+        ChatRoomReadCursor memberCursor = new ChatRoomReadCursor();
+        memberCursor.setRoomId(room.getId());
+        memberCursor.setUserId(member.getId());
+        memberCursor.setLastReadAt(readText.getCreatedAt());
+        memberCursor.setLastReadMessageId(readText.getId());
+        memberCursor.setUpdatedAt(LocalDateTime.now());
+        readCursorRepository.saveAndFlush(memberCursor);
 
-        Page<Message> firstPage = messageRepository
-                .findVisibleByChatRoomIdOrderByCreatedAtDesc(
-                        room.getId(), Message.MessageType.SCHEDULE, PageRequest.of(0, 2));
-        Page<Message> secondPage = messageRepository
-                .findVisibleByChatRoomIdOrderByCreatedAtDesc(
-                        room.getId(), Message.MessageType.SCHEDULE, PageRequest.of(1, 2));
-
-        assertThat(firstPage.getTotalElements()).isEqualTo(3);
-        assertThat(firstPage.getTotalPages()).isEqualTo(2);
-        assertThat(firstPage.getContent()).extracting(Message::getId)
-                .containsExactly(deletedText.getId(), readText.getId());
-        assertThat(secondPage.getContent()).extracting(Message::getId)
-                .containsExactly(unreadText.getId());
-        assertThat(firstPage.getContent()).allMatch(message ->
+        List<Message> firstPage = messageRepository.findVisibleHistory(
+                room.getId(), Message.MessageType.SCHEDULE, PageRequest.of(0, 2));
+        Message oldestOnFirstPage = firstPage.get(firstPage.size() - 1);
+        List<Message> secondPage = messageRepository.findVisibleHistoryBefore(
+                room.getId(), Message.MessageType.SCHEDULE,
+                messageRepository.findCreatedAtInRoom(oldestOnFirstPage.getId(), room.getId()).orElseThrow(),
+                oldestOnFirstPage.getId(), PageRequest.of(0, 2));
+
+        assertThat(firstPage).extracting(Message::getId)
+                .containsExactly(deletedText.getId(), unreadText.getId());
+        assertThat(secondPage).extracting(Message::getId)
+                .containsExactly(readText.getId());
+        assertThat(firstPage).allMatch(message ->
                 message.getType() != Message.MessageType.SCHEDULE);
 
         assertThat(messageRepository.findVisibleActiveByChatRoomIdOrderByCreatedAtDesc(
                 room.getId(), Message.MessageType.SCHEDULE, PageRequest.of(0, 10)))
                 .extracting(Message::getId)
-                .containsExactly(readText.getId(), unreadText.getId());
+                .containsExactly(unreadText.getId(), readText.getId());
         assertThat(messageRepository.findVisibleUnreadMessages(
                 room.getId(), member.getId(), Message.MessageType.SCHEDULE))
                 .extracting(Message::getId)
@@ -0,0 +1,104 @@
+package com.talkwithneighbors.repository;
+
+import com.talkwithneighbors.config.TestConfig;
+import com.talkwithneighbors.entity.OfflineNotification;
+import com.talkwithneighbors.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TestConfig.class)
+class OfflineNotificationRepositoryTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    OfflineNotificationRepository offlineNotificationRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void bulkInsertSkipsPendingDuplicatesAndBulkDeliveryMarksOnlyTheGivenUsers() {
+        User online = persistUser("bulk-online");
+        User offline = persistUser("bulk-offline");
+        User alreadyNotified = persistUser("bulk-duplicate");
+        OfflineNotification existing = new OfflineNotification();
+        existing.setUserId(alreadyNotified.getId());
+        existing.setType(OfflineNotification.NotificationType.NEW_MESSAGE);
+        existing.setData("{\"messageId\":\"message-1\"}");
+        entityManager.persist(existing);
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.of(2026, 10, 16, 12, 0);
+
+        int inserted = offlineNotificationRepository.insertForUsers(
+                List.of(online.getId(), offline.getId(), alreadyNotified.getId()),
+                OfflineNotification.NotificationType.NEW_MESSAGE,
+                "{\"messageId\":\"message-1\"}",
+                "bulk-online님이 메시지를 보냈습니다: hello",
+                "/chat/room-1",
+                now,
+                now.plusDays(30),
+                5);
+        int delivered = offlineNotificationRepository.markAsSentForUsers(
+                List.of(online.getId()),
+                OfflineNotification.NotificationType.NEW_MESSAGE,
+                "{\"messageId\":\"message-1\"}",
+                now);
+        entityManager.clear();
+
+        List<OfflineNotification> all = offlineNotificationRepository.findAll();
+        assertThat(inserted).isEqualTo(2);
+        assertThat(delivered).isEqualTo(1);
+        assertThat(all).hasSize(3);
+        assertThat(offlineNotificationRepository.findPendingNotificationsByUserId(offline.getId(), now))
+                .singleElement()
+                .satisfies(notification -> {
+                    assertThat(notification.getActionUrl()).isEqualTo("/chat/room-1");
+                    assertThat(notification.getPriority()).isEqualTo(5);
+                    assertThat(notification.getExpiresAt()).isEqualTo(now.plusDays(30));
+                });
+        assertThat(offlineNotificationRepository.findPendingNotificationsByUserId(online.getId(), now)).isEmpty();
+    }
+
+    @Test
+    void recipientLookupReturnsOnlyIdsThatKeepTheCheckedPreferenceOn() {
+        User chatOn = persistUser("prefs-chat-on");
+        User chatOff = persistUser("prefs-chat-off");
+        chatOff.setChatNotificationsEnabled(false);
+        User chatUnset = persistUser("prefs-chat-unset");
+        chatUnset.setChatNotificationsEnabled(null);
+        chatUnset.setMatchNotificationsEnabled(false);
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> recipients = List.of(chatOn.getId(), chatOff.getId(), chatUnset.getId(), -1L);
+
+        assertThat(userRepository.findIdsAcceptingNotifications(recipients, false, true, false))
+                .containsExactlyInAnyOrder(chatOn.getId(), chatUnset.getId());
+        assertThat(userRepository.findIdsAcceptingNotifications(recipients, true, false, false))
+                .containsExactlyInAnyOrder(chatOn.getId(), chatOff.getId());
+        assertThat(userRepository.findIdsAcceptingNotifications(recipients, false, false, false))
+                .containsExactlyInAnyOrder(chatOn.getId(), chatOff.getId(), chatUnset.getId());
+    }
+
+    private User persistUser(String username) {
+        User user = new User();
+        user.setEmail(username + "@example.test");
+        user.setUsername(username);
+        user.setPassword("encoded-password");
+        user.setLatitude(37.5);
+        user.setLongitude(127.0);
+        user.setAddress("Seoul");
+        return entityManager.persist(user);
+    }
+}
@@ -41,7 +41,7 @@ class PublicContentRepositoryTest {
     PostLikeRepository postLikeRepository;
 
     @Autowired
-    PostCommentRepository postCommentRepository;
+    FeedPostRepository memberFeedPostRepository;
 
     @Test
     void pagesOnlyExplicitPublicPreviewPostsInTheDatabase() {
@@ -145,7 +145,7 @@ class PublicContentRepositoryTest {
     }
 
     @Test
-    void batchesEngagementCountsAndCurrentUserLikesForCandidateIds() {
+    void materializedEngagementCountersAdjustAtomicallyAndReconcileFromSourceRows() {
         User author = persistUser("batch-author");
         User reader = persistUser("batch-reader");
         FeedPost first = persistPost("batch-first", author, LocalDateTime.of(2026, 7, 16, 9, 0));
@@ -158,12 +158,18 @@ class PublicContentRepositoryTest {
         entityManager.flush();
         entityManager.clear();
 
-        assertThat(postLikeRepository.countByPostIds(List.of("batch-first", "batch-second")))
-                .extracting(count -> count.postId() + ":" + count.total())
-                .containsExactlyInAnyOrder("batch-first:2", "batch-second:1");
-        assertThat(postCommentRepository.countByPostIds(List.of("batch-first", "batch-second")))
-                .extracting(count -> count.postId() + ":" + count.total())
-                .containsExactly("batch-first:2");
+        assertThat(memberFeedPostRepository.adjustCommentCount("batch-second", -1)).isEqualTo(1);
+        assertThat(memberFeedPostRepository.reconcileLikeCounts()).isEqualTo(2);
+        assertThat(memberFeedPostRepository.reconcileCommentCounts()).isEqualTo(1);
+        assertThat(memberFeedPostRepository.adjustLikeCount("batch-second", 1)).isEqualTo(1);
+        entityManager.clear();
+
+        FeedPost reloadedFirst = entityManager.find(FeedPost.class, "batch-first");
+        FeedPost reloadedSecond = entityManager.find(FeedPost.class, "batch-second");
+        assertThat(reloadedFirst.getLikeCount()).isEqualTo(2);
+        assertThat(reloadedFirst.getCommentCount()).isEqualTo(2);
+        assertThat(reloadedSecond.getLikeCount()).isEqualTo(2);
+        assertThat(reloadedSecond.getCommentCount()).isZero();
         assertThat(postLikeRepository.findLikedPostIds(
                 reader.getId(), List.of("batch-first", "batch-second")))
                 .containsExactlyInAnyOrder("batch-first", "batch-second");
@@ -0,0 +1,66 @@
+package com.talkwithneighbors.repository;
+
+import com.talkwithneighbors.config.TestConfig;
+import com.talkwithneighbors.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TestConfig.class)
+class UserNearbySearchRepositoryTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void boundingBoxPrefilterKeepsExactlyTheUsersInsideTheRadius() {
+        persistUser("city-hall", 37.5670, 126.9785);
+        persistUser("gangnam", 37.4979, 127.0276);
+        persistUser("incheon", 37.4563, 126.7052);
+        persistUser("busan", 35.1796, 129.0756);
+        // Inside the bounding box corner but outside the 10 km circle.
+        persistUser("box-corner", 37.5665 + 0.085, 126.9780 + 0.108);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<User> nearby = userRepository.findNearbyUsers(37.5665, 126.9780, 10.0);
+
+        assertThat(nearby).extracting(User::getUsername)
+                .containsExactlyInAnyOrder("city-hall", "gangnam");
+    }
+
+    @Test
+    void longitudeWindowOpensFullyWhenTheRadiusWrapsTheAntimeridian() {
+        persistUser("east", -16.50, 179.95);
+        persistUser("west", -16.50, -179.95);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<User> nearby = userRepository.findNearbyUsers(-16.50, 179.99, 20.0);
+
+        assertThat(nearby).extracting(User::getUsername).containsExactlyInAnyOrder("east", "west");
+    }
+
+    private void persistUser(String username, double latitude, double longitude) {
+        User user = new User();
+        user.setEmail(username + "@example.test");
+        user.setUsername(username);
+        user.setPassword("encoded-password");
+        user.setLatitude(latitude);
+        user.setLongitude(longitude);
+        user.setAddress("address");
+        user.setInterests(new ArrayList<>(List.of("books")));
+        entityManager.persist(user);
+    }
+}
@@ -0,0 +1,96 @@
+package com.talkwithneighbors.scheduler;
+
+import com.talkwithneighbors.repository.UserRepository;
+import com.talkwithneighbors.service.PresenceWriteBehind;
+import com.talkwithneighbors.service.RedisSessionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OfflinePresenceSweeperTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    RedisSessionService redisSessionService;
+
+    @Mock
+    PresenceWriteBehind presenceWriteBehind;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    OfflinePresenceSweeper sweeper;
+
+    @Test
+    void staleUsersAreClearedWithOneBulkUpdateWhileLiveKeysAreRequeued() {
+        leaseAvailable(true);
+        when(userRepository.findStaleOnlineUserIds(any(LocalDateTime.class), eq(0L), any()))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(redisSessionService.onlineUserIds(List.of(1L, 2L, 3L))).thenReturn(Set.of(2L));
+        when(userRepository.markOfflineIfInactive(eq(List.of(1L, 3L)), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        sweeper.sweep();
+
+        verify(userRepository).markOfflineIfInactive(eq(List.of(1L, 3L)), any(LocalDateTime.class));
+        verify(presenceWriteBehind).markOnline(2L);
+        verify(redisSessionService, never()).setUserOffline(anyString());
+    }
+
+    @Test
+    void anotherNodesLeaseSkipsTheSweep() {
+        leaseAvailable(false);
+
+        sweeper.sweep();
+
+        verifyNoInteractions(userRepository, redisSessionService, presenceWriteBehind);
+    }
+
+    @Test
+    void eachBatchUpdateCommitsOnItsOwnInsteadOfHoldingLocksForTheWholeSweep() throws Exception {
+        Method sweep = OfflinePresenceSweeper.class.getMethod("sweep");
+        Method markOffline = UserRepository.class.getMethod(
+                "markOfflineIfInactive", Collection.class, LocalDateTime.class);
+
+        assertFalse(sweep.isAnnotationPresent(Transactional.class));
+        assertTrue(markOffline.isAnnotationPresent(Transactional.class));
+    }
+
+    private void leaseAvailable(boolean available) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(
+                eq(OfflinePresenceSweeper.LEASE_KEY),
+                anyString(),
+                eq(OfflinePresenceSweeper.LEASE_SECONDS),
+                eq(TimeUnit.SECONDS)
+        )).thenReturn(available);
+    }
+}
@@ -0,0 +1,76 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.repository.UserBlockRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlockGraphTest {
+
+    @Mock
+    UserBlockRepository userBlockRepository;
+
+    @Test
+    void repeatedChecksForOneViewerLoadTheExclusionSetOnce() {
+        when(userBlockRepository.findExcludedUserIds(1L)).thenReturn(List.of(9L, 3L, 3L));
+        BlockGraph graph = graph(Duration.ofMinutes(10));
+
+        assertThat(graph.existsBetween(1L, 3L)).isTrue();
+        assertThat(graph.existsBetween(1L, 9L)).isTrue();
+        assertThat(graph.existsBetween(1L, 4L)).isFalse();
+        assertThat(graph.excludedUserIds(1L)).containsExactly(3L, 9L);
+
+        verify(userBlockRepository, times(1)).findExcludedUserIds(1L);
+    }
+
+    @Test
+    void invalidationReloadsOnlyTheAffectedUsers() {
+        when(userBlockRepository.findExcludedUserIds(1L)).thenReturn(List.of(), List.of(2L));
+        when(userBlockRepository.findExcludedUserIds(5L)).thenReturn(List.of());
+        BlockGraph graph = graph(Duration.ofMinutes(10));
+
+        assertThat(graph.existsBetween(1L, 2L)).isFalse();
+        assertThat(graph.existsBetween(5L, 2L)).isFalse();
+        graph.invalidate(1L, 2L);
+
+        assertThat(graph.existsBetween(1L, 2L)).isTrue();
+        assertThat(graph.existsBetween(5L, 2L)).isFalse();
+        verify(userBlockRepository, times(2)).findExcludedUserIds(1L);
+        verify(userBlockRepository, times(1)).findExcludedUserIds(5L);
+    }
+
+    @Test
+    void expiredEntriesAreReloadedSoALostBroadcastCannotPinStaleState() {
+        when(userBlockRepository.findExcludedUserIds(1L)).thenReturn(List.of(), List.of(2L));
+        BlockGraph graph = graph(Duration.ZERO);
+
+        assertThat(graph.existsBetween(1L, 2L)).isFalse();
+        assertThat(graph.existsBetween(1L, 2L)).isTrue();
+    }
+
+    @Test
+    void missingIdsNeverQueryTheRepository() {
+        BlockGraph graph = graph(Duration.ofMinutes(10));
+
+        assertThat(graph.existsBetween(null, 2L)).isFalse();
+        assertThat(graph.existsBetween(1L, null)).isFalse();
+        assertThat(graph.excludedUserIds(null)).isEmpty();
+        verifyNoInteractions(userBlockRepository);
+    }
+
+    private BlockGraph graph(Duration ttl) {
+        return new BlockGraph(userBlockRepository, ttl, Clock.systemUTC());
+    }
+}
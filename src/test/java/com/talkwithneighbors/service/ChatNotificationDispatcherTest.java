@@ -0,0 +1,163 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.domain.event.ChatMessageCommittedEvent;
+import com.talkwithneighbors.domain.event.ChatMessageCommittedEventListener;
+import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.entity.ChatRoom;
+import com.talkwithneighbors.entity.Message;
+import com.talkwithneighbors.repository.ChatRoomRepository;
+import com.talkwithneighbors.repository.MessageRepository;
+import com.talkwithneighbors.service.impl.ChatMessageDispatchService;
+import com.talkwithneighbors.websocket.UserDestinationMulticaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatNotificationDispatcherTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageRepository messageRepository = mock(MessageRepository.class);
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+
+    @Test
+    void lanesDrainInPriorityOrder() {
+        ChatNotificationDispatcher dispatcher = dispatcher(10, 10, 10, 1);
+        List<String> ran = new ArrayList<>();
+        dispatcher.submitReadStatus(() -> ran.add("read-status"));
+        dispatcher.submitUnread("room-1", 2L, () -> ran.add("unread"));
+        dispatcher.submitMessage(() -> ran.add("message"));
+
+        while (dispatcher.runNext()) {
+            // drain on the test thread
+        }
+
+        assertThat(ran).containsExactly("message", "unread", "read-status");
+    }
+
+    @Test
+    void unreadPushesForTheSameMemberAndRoomKeepOnlyTheLatest() {
+        ChatNotificationDispatcher dispatcher = dispatcher(10, 10, 10, 1);
+        List<Long> pushed = new ArrayList<>();
+        dispatcher.submitUnread("room-1", 2L, () -> pushed.add(5L));
+        dispatcher.submitUnread("room-1", 2L, () -> pushed.add(3L));
+        dispatcher.submitUnread("room-2", 2L, () -> pushed.add(7L));
+
+        while (dispatcher.runNext()) {
+            // drain on the test thread
+        }
+
+        assertThat(pushed).containsExactlyInAnyOrder(3L, 7L);
+        assertThat(meterRegistry.get("chat.notification.coalesced").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void aFullLaneShedsTheTaskInsteadOfRunningItOnTheCaller() {
+        ChatNotificationDispatcher dispatcher = dispatcher(1, 1, 1, 1);
+        AtomicInteger ran = new AtomicInteger();
+
+        assertThat(dispatcher.submitMessage(ran::incrementAndGet)).isTrue();
+        assertThat(dispatcher.submitMessage(ran::incrementAndGet)).isFalse();
+        assertThat(dispatcher.submitUnread("room-1", 2L, ran::incrementAndGet)).isTrue();
+        assertThat(dispatcher.submitUnread("room-2", 2L, ran::incrementAndGet)).isFalse();
+
+        assertThat(ran).hasValue(0);
+        assertThat(meterRegistry.get("chat.notification.rejected").tag("lane", "message").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.notification.rejected").tag("lane", "unread").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.notification.queue.depth").tag("lane", "message").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void failedMessageTasksAreRetriedUpToTheAttemptLimit() {
+        ChatNotificationDispatcher dispatcher = dispatcher(10, 10, 10, 2);
+        AtomicInteger attempts = new AtomicInteger();
+        dispatcher.submitMessage(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        });
+
+        while (dispatcher.runNext()) {
+            // drain on the test thread
+        }
+
+        assertThat(attempts).hasValue(2);
+        assertThat(dispatcher.queued(ChatNotificationDispatcher.Lane.MESSAGE)).isZero();
+        assertThat(meterRegistry.get("chat.notification.failed").tag("lane", "message").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("chat.notification.lag").tag("lane", "message").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void aMessageDispatchThatFailsBeforeSendingIsRetried() {
+        ChatNotificationDispatcher dispatcher = dispatcher(10, 10, 10, 2);
+        Message message = new Message();
+        ChatRoom room = new ChatRoom();
+        when(messageRepository.findById("message-1"))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"))
+                .thenReturn(Optional.of(message));
+        when(chatRoomRepository.findById("room-1")).thenReturn(Optional.of(room));
+
+        committedListener(dispatcher).onMessageCommitted(committedEvent());
+        while (dispatcher.runNext()) {
+            // drain on the test thread
+        }
+
+        verify(notificationService, times(1)).sendNewMessageNotification(message, room, 1L);
+        assertThat(meterRegistry.get("chat.notification.failed").tag("lane", "message").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void aMessageDispatchThatFailsAfterSendingStartedIsNotRunAgain() {
+        ChatNotificationDispatcher dispatcher = dispatcher(10, 10, 10, 2);
+        Message message = new Message();
+        ChatRoom room = new ChatRoom();
+        when(messageRepository.findById("message-1")).thenReturn(Optional.of(message));
+        when(chatRoomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        doThrow(new IllegalStateException("push failed after the inbox insert"))
+                .when(notificationService).sendNewMessageNotification(message, room, 1L);
+
+        committedListener(dispatcher).onMessageCommitted(committedEvent());
+        while (dispatcher.runNext()) {
+            // drain on the test thread
+        }
+
+        // A second run would insert the inbox rows and push to online members again.
+        verify(notificationService, times(1)).sendNewMessageNotification(message, room, 1L);
+        assertThat(dispatcher.queued(ChatNotificationDispatcher.Lane.MESSAGE)).isZero();
+    }
+
+    private ChatMessageCommittedEventListener committedListener(ChatNotificationDispatcher dispatcher) {
+        ChatMessageDispatchService dispatchService =
+                new ChatMessageDispatchService(chatRoomRepository, messageRepository, notificationService);
+        return new ChatMessageCommittedEventListener(
+                dispatchService, dispatcher, mock(UserDestinationMulticaster.class), mock(UnreadCountStore.class));
+    }
+
+    private static ChatMessageCommittedEvent committedEvent() {
+        MessageDto message = new MessageDto();
+        message.setId("message-1");
+        message.setType(Message.MessageType.TEXT);
+        return new ChatMessageCommittedEvent(message, "room-1", 1L, List.of(1L, 2L));
+    }
+
+    private ChatNotificationDispatcher dispatcher(int messages, int unread, int readStatus, int attempts) {
+        // No worker threads: each test drains the lanes itself.
+        return new ChatNotificationDispatcher(meterRegistry, 0, messages, unread, readStatus, attempts);
+    }
+}
@@ -20,7 +20,6 @@ import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.repository.ChatScheduleRepository;
 import com.talkwithneighbors.repository.ChatScheduleRsvpRepository;
 import com.talkwithneighbors.repository.MessageRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,7 +57,7 @@ class ChatScheduleServiceTest {
     @Mock ChatScheduleRsvpRepository rsvpRepository;
     @Mock ChatRoomRepository chatRoomRepository;
     @Mock UserRepository userRepository;
-    @Mock UserBlockRepository userBlockRepository;
+    @Mock BlockGraph blockGraph;
     @Mock MessageRepository messageRepository;
     @Mock ApplicationEventPublisher applicationEventPublisher;
 
@@ -4,6 +4,7 @@ import com.talkwithneighbors.dto.ChatMessageDto;
 import com.talkwithneighbors.dto.ChatRoomDto;
 import com.talkwithneighbors.dto.CreateRoomRequest;
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.MessageHistoryPage;
 import com.talkwithneighbors.dto.UpdateChatRoomRequest;
 import com.talkwithneighbors.entity.ChatRoom;
 import com.talkwithneighbors.entity.ChatRoomType;
@@ -13,10 +14,10 @@ import com.talkwithneighbors.entity.MessageAttachment;
 import com.talkwithneighbors.entity.ChatAttachmentType;
 import com.talkwithneighbors.entity.User;
 import com.talkwithneighbors.exception.ChatException;
+import com.talkwithneighbors.repository.ChatRoomReadCursorRepository;
 import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.repository.MessageRepository;
 import com.talkwithneighbors.repository.UserRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.domain.event.ChatMessageCommittedEvent;
 import com.talkwithneighbors.domain.event.ChatMessageChangedEvent;
 import com.talkwithneighbors.domain.event.MediaFilesDeletedEvent;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -63,7 +65,7 @@ class ChatServiceTest {
     private NotificationService notificationService;
 
     @Mock
-    private UserBlockRepository userBlockRepository;
+    private BlockGraph blockGraph;
 
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
@@ -71,6 +73,12 @@ class ChatServiceTest {
     @Mock
     private DomainEventPublisher domainEventPublisher;
 
+    @Mock
+    private ChatRoomReadCursorRepository readCursorRepository;
+
+    @Mock
+    private UnreadCountStore unreadCountStore;
+
     @InjectMocks
     private ChatServiceImpl chatService;
 
@@ -163,19 +171,24 @@ class ChatServiceTest {
     @DisplayName("사용자의 채팅방 목록 조회 성공 테스트")
     void getChatRoomsForUserSuccess() {
         // given
-        Page<ChatRoom> chatRoomPage = new org.springframework.data.domain.PageImpl<>(List.of(testChatRoom));
+        var pageable = org.springframework.data.domain.PageRequest.of(0, 10);
         when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-        when(chatRoomRepository.findByParticipantsContainingOrderByLastMessageTimeDesc(any(User.class), any()))
-            .thenReturn(chatRoomPage);
+        when(chatRoomRepository.findParticipantRoomIdsByRecentActivity(testUser.getId(), pageable))
+            .thenReturn(new org.springframework.data.domain.PageImpl<>(List.of(testChatRoom.getId()), pageable, 11));
+        when(chatRoomRepository.findAllWithParticipantsByIdIn(List.of(testChatRoom.getId())))
+            .thenReturn(List.of(testChatRoom));
+        when(unreadCountStore.countsFor(testUser.getId(), List.of(testChatRoom.getId())))
+            .thenReturn(java.util.Map.of(testChatRoom.getId(), 4L));
 
         // when
         Page<ChatRoomDto> dtoPage = chatService.getChatRoomsForUser(
-            testUser.getId().toString(), org.springframework.data.domain.PageRequest.of(0, 10));
+            testUser.getId().toString(), pageable);
 
         // then
         assertNotNull(dtoPage);
-        assertEquals(1, dtoPage.getTotalElements());
+        assertEquals(11, dtoPage.getTotalElements());
         assertEquals(testChatRoom.getName(), dtoPage.getContent().get(0).getRoomName());
+        assertEquals(4, dtoPage.getContent().get(0).getUnreadCount());
     }
 
     @Test
@@ -190,8 +203,6 @@ class ChatServiceTest {
         visibleMessage.setCreatedAt(scheduleCardTime.minusMinutes(5));
         testChatRoom.setLastMessage("Schedule: hidden card");
         testChatRoom.setLastMessageTime(scheduleCardTime);
-        Page<ChatRoom> chatRoomPage = new org.springframework.data.domain.PageImpl<>(
-                List.of(testChatRoom));
         var pageable = org.springframework.data.domain.PageRequest.of(0, 10);
 
         when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
@@ -206,8 +217,11 @@ class ChatServiceTest {
         when(messageRepository.findVisibleActiveByChatRoomIdOrderByCreatedAtDesc(
                 eq(testChatRoom.getId()), eq(Message.MessageType.SCHEDULE), any()))
                 .thenReturn(List.of(visibleMessage));
-        when(chatRoomRepository.findByParticipantsContainingOrderByLastMessageTimeDesc(
-                testUser, pageable)).thenReturn(chatRoomPage);
+        when(chatRoomRepository.findParticipantRoomIdsByRecentActivity(testUser.getId(), pageable))
+                .thenReturn(new org.springframework.data.domain.PageImpl<>(
+                        List.of(testChatRoom.getId()), pageable, 1));
+        when(chatRoomRepository.findAllWithParticipantsByIdIn(List.of(testChatRoom.getId())))
+                .thenReturn(List.of(testChatRoom));
 
         Page<ChatRoomDto> result = chatService.getChatRoomsForUser(
                 testUser.getId().toString(), pageable);
@@ -218,7 +232,7 @@ class ChatServiceTest {
         org.mockito.InOrder order = inOrder(chatRoomRepository);
         order.verify(chatRoomRepository).save(testChatRoom);
         order.verify(chatRoomRepository)
-                .findByParticipantsContainingOrderByLastMessageTimeDesc(testUser, pageable);
+                .findParticipantRoomIdsByRecentActivity(testUser.getId(), pageable);
     }
 
     @Test
@@ -230,7 +244,8 @@ class ChatServiceTest {
         messageDto.setSenderId(testUser.getId());
         messageDto.setContent("Test message");
         
-        when(chatRoomRepository.findByIdForUpdate(anyString())).thenReturn(Optional.of(testChatRoom));
+        when(chatRoomRepository.findById(testChatRoom.getId())).thenReturn(Optional.of(testChatRoom));
+        when(chatRoomRepository.findParticipantIds(testChatRoom.getId())).thenReturn(List.of(1L, 2L));
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
         when(messageRepository.save(any())).thenReturn(testMessage);
 
@@ -242,10 +257,31 @@ class ChatServiceTest {
         assertNotNull(savedDto);
         assertEquals(testMessage.getContent(), savedDto.getContent());
         assertEquals(testUser.getId().toString(), savedDto.getSenderId());
-        verify(applicationEventPublisher).publishEvent(any(ChatMessageCommittedEvent.class));
+        verify(chatRoomRepository, never()).findByIdForUpdate(anyString());
+        verify(chatRoomRepository).advanceLastMessage(
+                testChatRoom.getId(), "Test message", testMessage.getCreatedAt());
+        verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+        ArgumentCaptor<ChatMessageCommittedEvent> event = ArgumentCaptor.forClass(ChatMessageCommittedEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(1L, 2L), event.getValue().participantIds());
         verifyNoInteractions(messagingTemplate, notificationService);
     }
 
+    @Test
+    @DisplayName("참여자가 아니면 메시지를 저장하지 않는다")
+    void sendMessageFromNonParticipantIsRejectedBeforeSaving() {
+        when(chatRoomRepository.findById(testChatRoom.getId())).thenReturn(Optional.of(testChatRoom));
+        when(chatRoomRepository.findParticipantIds(testChatRoom.getId())).thenReturn(List.of(2L));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+
+        ChatException exception = assertThrows(ChatException.class, () -> chatService.sendMessage(
+                testChatRoom.getId(), testUser.getId(), "Test message"));
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+        verify(messageRepository, never()).save(any());
+        verify(chatRoomRepository, never()).advanceLastMessage(anyString(), any(), any());
+    }
+
     @Test
     @DisplayName("첨부 파일만 있는 메시지도 저장하고 커밋 이벤트에 메타데이터를 포함한다")
     void sendAttachmentOnlyMessageSuccess() {
@@ -260,7 +296,8 @@ class ChatServiceTest {
                 360,
                 1.0
         );
-        when(chatRoomRepository.findByIdForUpdate(anyString())).thenReturn(Optional.of(testChatRoom));
+        when(chatRoomRepository.findById(testChatRoom.getId())).thenReturn(Optional.of(testChatRoom));
+        when(chatRoomRepository.findParticipantIds(testChatRoom.getId())).thenReturn(List.of(1L, 2L));
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
         when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -270,7 +307,7 @@ class ChatServiceTest {
         assertEquals(Message.MessageType.VIDEO, saved.getType());
         assertEquals(1, saved.getAttachments().size());
         assertEquals("video/mp4", saved.getAttachments().get(0).contentType());
-        assertEquals("동영상", testChatRoom.getLastMessage());
+        verify(chatRoomRepository).advanceLastMessage(eq(testChatRoom.getId()), eq("동영상"), any());
         verify(applicationEventPublisher).publishEvent(any(ChatMessageCommittedEvent.class));
     }
 
@@ -283,7 +320,7 @@ class ChatServiceTest {
         messageDto.setSenderId(testUser.getId());
         messageDto.setContent("Test message");
         
-        when(chatRoomRepository.findByIdForUpdate(anyString())).thenReturn(Optional.empty());
+        when(chatRoomRepository.findById(anyString())).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(RuntimeException.class, () -> chatService.sendMessage(
@@ -377,21 +414,22 @@ class ChatServiceTest {
     @DisplayName("채팅방 메시지 목록 조회 성공 테스트")
     void getMessagesSuccess() {
         // given
-        Page<Message> messagePage = new org.springframework.data.domain.PageImpl<>(List.of(testMessage));
         when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(chatRoomRepository.findById(testChatRoom.getId())).thenReturn(Optional.of(testChatRoom));
-        when(messageRepository.findVisibleByChatRoomIdOrderByCreatedAtDesc(
+        when(chatRoomRepository.findParticipantIds(testChatRoom.getId())).thenReturn(List.of(testUser.getId()));
+        when(messageRepository.findVisibleHistory(
                 anyString(), eq(Message.MessageType.SCHEDULE), any()))
-            .thenReturn(messagePage);
+            .thenReturn(List.of(testMessage));
 
         // when
-        Page<MessageDto> dtoPage = chatService.getMessagesByRoomId(
-            testChatRoom.getId(), testUser.getId().toString(), org.springframework.data.domain.PageRequest.of(0, 10));
+        MessageHistoryPage historyPage = chatService.getMessageHistory(
+            testChatRoom.getId(), testUser.getId().toString(), null, 10);
 
         // then
-        assertNotNull(dtoPage);
-        assertEquals(1, dtoPage.getContent().size());
-        assertEquals(testMessage.getContent(), dtoPage.getContent().get(0).getContent());
+        assertNotNull(historyPage);
+        assertEquals(1, historyPage.content().size());
+        assertEquals(testMessage.getContent(), historyPage.content().get(0).getContent());
+        assertFalse(historyPage.hasNext());
     }
 
     @Test
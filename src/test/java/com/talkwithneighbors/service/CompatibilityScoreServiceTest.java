@@ -0,0 +1,56 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompatibilityScoreServiceTest {
+
+    private final CompatibilityScoreService compatibilityScoreService = new CompatibilityScoreService();
+
+    @Test
+    void interestOverlapIgnoresCaseAndWhitespaceAndFollowsProfileChanges() {
+        User viewer = user(1L, "Reading", " hiking ", "reading");
+        User candidate = user(2L, "reading", "Cooking", "HIKING");
+
+        assertThat(compatibilityScoreService.calculateScore(viewer, candidate, null)).isEqualTo(56);
+        assertThat(compatibilityScoreService.sharedInterests(viewer, candidate))
+                .containsExactly("reading", "HIKING");
+
+        candidate.setInterests(new ArrayList<>(List.of("Cooking")));
+
+        assertThat(compatibilityScoreService.calculateScore(viewer, candidate, null)).isEqualTo(13);
+        assertThat(compatibilityScoreService.sharedInterests(viewer, candidate)).isEmpty();
+    }
+
+    @Test
+    void storedProfilesReuseTheirInternedIdsUntilTheListChanges() {
+        InterestDictionary dictionary = new InterestDictionary();
+        InterestDictionary.Numbering numbering = dictionary.current();
+        List<String> interests = new ArrayList<>(List.of("Hiking", "reading", " READING "));
+
+        int[] first = numbering.idsOf(7L, interests);
+
+        assertThat(first).hasSize(2).isSorted();
+        assertThat(numbering.idsOf(7L, new ArrayList<>(interests))).isSameAs(first);
+        assertThat(InterestDictionary.intersectionSize(first, numbering.idsOf(List.of("hiking", "cooking"))))
+                .isEqualTo(1);
+
+        interests.add("Cooking");
+
+        assertThat(numbering.idsOf(7L, interests)).hasSize(3).isNotSameAs(first);
+        assertThat(dictionary.size()).isEqualTo(3);
+        assertThat(dictionary.cachedUsers()).isEqualTo(1);
+    }
+
+    private User user(Long id, String... interests) {
+        User user = new User();
+        user.setId(id);
+        user.setInterests(new ArrayList<>(List.of(interests)));
+        return user;
+    }
+}
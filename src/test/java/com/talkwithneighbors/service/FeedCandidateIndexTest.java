@@ -0,0 +1,41 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.dto.feed.FeedMode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedCandidateIndexTest {
+
+    @Test
+    void storedSnapshotIsSortedOnceAndLaterPagesAreSlices() {
+        FeedCandidateIndex index = new FeedCandidateIndex(Duration.ofMinutes(5), Clock.systemUTC());
+        LocalDateTime now = LocalDateTime.now();
+        List<FeedCandidateIndex.Entry> candidateOrder = List.of(
+                entry("low", 0.1, now),
+                entry("tie-older", 0.5, now.minusMinutes(1)),
+                entry("high", 0.9, now.minusDays(1)),
+                entry("tie-newer-b", 0.5, now),
+                entry("tie-newer-a", 0.5, now));
+
+        FeedCandidateIndex.Snapshot snapshot = index.store(1L, FeedMode.RECOMMENDED, candidateOrder);
+
+        assertThat(snapshot.entries()).extracting(FeedCandidateIndex.Entry::postId)
+                .containsExactly("high", "tie-newer-b", "tie-newer-a", "tie-older", "low");
+        assertThat(snapshot.window(2, 2)).extracting(FeedCandidateIndex.Entry::postId)
+                .containsExactly("tie-newer-a", "tie-older");
+        assertThat(snapshot.window(4, 20)).extracting(FeedCandidateIndex.Entry::postId)
+                .containsExactly("low");
+        assertThat(snapshot.window(5, 20)).isEmpty();
+        assertThat(snapshot.window(Long.MAX_VALUE / 2, 20)).isEmpty();
+    }
+
+    private FeedCandidateIndex.Entry entry(String postId, double score, LocalDateTime createdAt) {
+        return new FeedCandidateIndex.Entry(postId, createdAt, score, 0, 0, false, null);
+    }
+}
@@ -136,6 +136,23 @@ class FeedRankingTest {
                 .isZero();
     }
 
+    @Test
+    void publicRegionKeyCanonicalizesRequestsWithoutChangingTheirSignal() {
+        LocalDateTime now = LocalDateTime.of(2026, 7, 16, 12, 0);
+        FeedPost post = post("region-key", user(2L, List.of("books"), 37.5665, 126.9780,
+                "서울특별시 중구 세종대로 110"), List.of("books"), now);
+
+        for (String request : List.of("  서울특별시   중구  ", "서울특별시", " ", "중구", "서울특별시 중구 세종대로")) {
+            String key = FeedRanking.publicRegionKey(request);
+            assertThat(FeedRanking.publicSignals(post, 0, 0, key, now).region())
+                    .isEqualTo(FeedRanking.publicSignals(post, 0, 0, request, now).region());
+        }
+        assertThat(FeedRanking.publicRegionKey("  서울특별시   중구  ")).isEqualTo("서울특별시 중구");
+        assertThat(FeedRanking.publicRegionKey(null)).isEmpty();
+        assertThat(FeedRanking.publicRegionKey("세종대로"))
+                .isEqualTo(FeedRanking.publicRegionKey("서울특별시 중구 세종대로"));
+    }
+
     @Test
     void publicSignalsDoNotReadMemberInterestOrViewerLocation() {
         LocalDateTime now = LocalDateTime.of(2026, 7, 16, 12, 0);
@@ -164,6 +181,21 @@ class FeedRankingTest {
                 .doesNotContain("SHARED_INTERESTS");
     }
 
+    @Test
+    void precomputedViewerScoresExactlyLikeThePerPostPath() {
+        LocalDateTime now = LocalDateTime.now();
+        User viewer = user(1L, List.of(" Books ", "walk"), 37.5665, 126.9780, "서울특별시 중구");
+        User author = user(2L, List.of("books"), 37.5670, 126.9785, "서울특별시 중구");
+        author.setShowNeighborhood(true);
+        FeedPost post = post("post", author, List.of("BOOKS"), now.minusHours(3));
+        FeedRanking.MemberViewer precomputed = FeedRanking.memberViewer(viewer);
+
+        assertThat(FeedRanking.memberSignals(precomputed, post, 3, 1, now))
+                .isEqualTo(FeedRanking.memberSignals(viewer, post, 3, 1, now));
+        assertThat(FeedRanking.memberSignals(precomputed, post, 3, 1, now).interest())
+                .isEqualTo(0.5);
+    }
+
     private User user(Long id, List<String> interests, double latitude, double longitude, String address) {
         User user = new User();
         user.setId(id);
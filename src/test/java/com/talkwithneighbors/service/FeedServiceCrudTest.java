@@ -4,6 +4,7 @@ import com.talkwithneighbors.dto.feed.CreateFeedPostRequest;
 import com.talkwithneighbors.dto.feed.UpdateCommentRequest;
 import com.talkwithneighbors.dto.feed.UpdateFeedPostRequest;
 import com.talkwithneighbors.domain.event.MediaFilesDeletedEvent;
+import com.talkwithneighbors.domain.event.PublicFeedChangedEvent;
 import com.talkwithneighbors.entity.FeedMediaType;
 import com.talkwithneighbors.entity.FeedPost;
 import com.talkwithneighbors.entity.FeedPostMedia;
@@ -14,7 +15,6 @@ import com.talkwithneighbors.repository.FeedPostRepository;
 import com.talkwithneighbors.repository.HiddenContentRepository;
 import com.talkwithneighbors.repository.PostCommentRepository;
 import com.talkwithneighbors.repository.PostLikeRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.UserRepository;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
@@ -43,9 +44,11 @@ class FeedServiceCrudTest {
     @Mock PostCommentRepository postCommentRepository;
     @Mock UserRepository userRepository;
     @Mock CompatibilityScoreService compatibilityScoreService;
-    @Mock UserBlockRepository userBlockRepository;
+    @Mock BlockGraph blockGraph;
     @Mock HiddenContentRepository hiddenContentRepository;
     @Mock DomainEventPublisher domainEventPublisher;
+    @Mock FeedCandidateIndex feedCandidateIndex;
+    @Mock ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks FeedService feedService;
 
@@ -82,6 +85,7 @@ class FeedServiceCrudTest {
         assertThat(result.getInterestTags()).containsExactly("cafe", "walk");
         assertThat(result.isPublicPreview()).isTrue();
         assertThat(result.getNeighborhoodName()).isEqualTo("서울특별시 중구");
+        verify(applicationEventPublisher).publishEvent(new PublicFeedChangedEvent(post.getId()));
         assertThat(result.getRecommendationReasons()).isEmpty();
         assertThat(result.getMedia()).singleElement()
                 .extracting(media -> media.url())
@@ -130,6 +134,35 @@ class FeedServiceCrudTest {
         verify(postCommentRepository, never()).save(comment);
     }
 
+    @Test
+    void likeAndUnlikeAdjustTheMaterializedCounterOnlyWhenARowChanges() {
+        post.setLikeCount(4L);
+        when(userRepository.findById(otherUser.getId())).thenReturn(Optional.of(otherUser));
+        when(feedPostRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(postLikeRepository.existsByPost_IdAndUser_Id(post.getId(), otherUser.getId()))
+                .thenReturn(false, true, false);
+        when(postLikeRepository.deleteByPost_IdAndUser_Id(post.getId(), otherUser.getId())).thenReturn(1L, 0L);
+
+        assertThat(feedService.likePost(otherUser.getId(), post.getId()).getLikeCount()).isEqualTo(5);
+        assertThat(feedService.unlikePost(otherUser.getId(), post.getId()).getLikeCount()).isEqualTo(4);
+        assertThat(feedService.unlikePost(otherUser.getId(), post.getId()).getLikeCount()).isEqualTo(4);
+
+        verify(feedPostRepository).adjustLikeCount(post.getId(), 1);
+        verify(feedPostRepository).adjustLikeCount(post.getId(), -1);
+        verify(postLikeRepository, never()).countByPost_Id(post.getId());
+    }
+
+    @Test
+    void deletingACommentDecrementsThePostCommentCounter() {
+        PostComment comment = comment(author);
+        when(postCommentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
+
+        feedService.deleteComment(author.getId(), comment.getId());
+
+        verify(postCommentRepository).delete(comment);
+        verify(feedPostRepository).adjustCommentCount(post.getId(), -1);
+    }
+
     @Test
     void jsonPostRejectsInternalMediaUrl() {
         when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
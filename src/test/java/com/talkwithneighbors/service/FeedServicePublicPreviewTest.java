@@ -2,6 +2,7 @@ package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.dto.feed.CreateFeedPostRequest;
 import com.talkwithneighbors.dto.feed.FeedPostDto;
+import com.talkwithneighbors.domain.event.PublicFeedChangedEvent;
 import com.talkwithneighbors.entity.FeedMediaType;
 import com.talkwithneighbors.entity.FeedPost;
 import com.talkwithneighbors.entity.FeedPostMedia;
@@ -10,7 +11,6 @@ import com.talkwithneighbors.repository.FeedPostRepository;
 import com.talkwithneighbors.repository.HiddenContentRepository;
 import com.talkwithneighbors.repository.PostCommentRepository;
 import com.talkwithneighbors.repository.PostLikeRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.UserRepository;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
 import org.junit.jupiter.api.Test;
@@ -18,7 +18,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,11 +45,13 @@ class FeedServicePublicPreviewTest {
     @Mock
     CompatibilityScoreService compatibilityScoreService;
     @Mock
-    UserBlockRepository userBlockRepository;
+    BlockGraph blockGraph;
     @Mock
     HiddenContentRepository hiddenContentRepository;
     @Mock
     DomainEventPublisher domainEventPublisher;
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
 
     @Test
     void creationIsPrivateByDefaultAndPersistsOnlyExplicitOptIn() {
@@ -78,6 +83,7 @@ class FeedServicePublicPreviewTest {
                 .containsExactly(false, true);
         assertThat(privateResult.isPublicPreview()).isFalse();
         assertThat(publicResult.isPublicPreview()).isTrue();
+        verify(applicationEventPublisher, times(1)).publishEvent(any(PublicFeedChangedEvent.class));
     }
 
     private FeedService service() {
@@ -87,9 +93,11 @@ class FeedServicePublicPreviewTest {
                 postCommentRepository,
                 userRepository,
                 compatibilityScoreService,
-                userBlockRepository,
+                blockGraph,
                 hiddenContentRepository,
-                domainEventPublisher
+                domainEventPublisher,
+                new FeedCandidateIndex(Duration.ofMinutes(5), Clock.systemUTC()),
+                applicationEventPublisher
         );
     }
 }
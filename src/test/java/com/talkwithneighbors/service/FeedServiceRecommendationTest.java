@@ -1,6 +1,7 @@
 package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.dto.feed.FeedMode;
+import com.talkwithneighbors.dto.feed.FeedSnapshotPage;
 import com.talkwithneighbors.entity.FeedPost;
 import com.talkwithneighbors.entity.SafetyTargetType;
 import com.talkwithneighbors.entity.User;
@@ -9,7 +10,6 @@ import com.talkwithneighbors.repository.FeedPostRepository;
 import com.talkwithneighbors.repository.HiddenContentRepository;
 import com.talkwithneighbors.repository.PostCommentRepository;
 import com.talkwithneighbors.repository.PostLikeRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,11 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.PageImpl;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,9 +43,10 @@ class FeedServiceRecommendationTest {
     @Mock PostCommentRepository postCommentRepository;
     @Mock UserRepository userRepository;
     @Mock CompatibilityScoreService compatibilityScoreService;
-    @Mock UserBlockRepository userBlockRepository;
+    @Mock BlockGraph blockGraph;
     @Mock HiddenContentRepository hiddenContentRepository;
     @Mock DomainEventPublisher domainEventPublisher;
+    @Mock ApplicationEventPublisher applicationEventPublisher;
 
     private User viewer;
     private FeedService feedService;
@@ -56,9 +60,11 @@ class FeedServiceRecommendationTest {
                 postCommentRepository,
                 userRepository,
                 compatibilityScoreService,
-                userBlockRepository,
+                blockGraph,
                 hiddenContentRepository,
-                domainEventPublisher
+                domainEventPublisher,
+                new FeedCandidateIndex(Duration.ofMinutes(5), Clock.systemUTC()),
+                applicationEventPublisher
         );
         when(userRepository.findById(viewer.getId())).thenReturn(Optional.of(viewer));
     }
@@ -119,30 +125,107 @@ class FeedServiceRecommendationTest {
     }
 
     @Test
-    void engagementQueriesStayConstantAsRecommendationCandidatesGrow() {
+    void rankingReadsMaterializedCountersAndOnlyLooksUpTheViewersLikes() {
         LocalDateTime now = LocalDateTime.now();
         User author = user(2L, List.of("books"), 37.56, 126.98, "서울특별시 중구");
         List<FeedPost> candidates = java.util.stream.IntStream.range(0, 25)
                 .mapToObj(index -> post("post-" + index, author, List.of("books"), now.minusMinutes(index)))
                 .toList();
+        candidates.get(24).setLikeCount(60L);
+        candidates.get(24).setCommentCount(20L);
         when(feedPostRepository.findVisibleFeed(
                 viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 500)))
                 .thenReturn(new PageImpl<>(candidates, PageRequest.of(0, 500), candidates.size()));
 
-        feedService.getFeed(viewer.getId(), FeedMode.RECOMMENDED, PageRequest.of(0, 20));
+        var result = feedService.getFeed(viewer.getId(), FeedMode.RECOMMENDED, PageRequest.of(0, 20));
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<String>> postIds = ArgumentCaptor.forClass(List.class);
-        verify(postLikeRepository, times(1)).countByPostIds(postIds.capture());
-        verify(postCommentRepository, times(1)).countByPostIds(org.mockito.ArgumentMatchers.anyList());
         verify(postLikeRepository, times(1))
-                .findLikedPostIds(org.mockito.ArgumentMatchers.eq(viewer.getId()),
-                        org.mockito.ArgumentMatchers.anyList());
+                .findLikedPostIds(org.mockito.ArgumentMatchers.eq(viewer.getId()), postIds.capture());
         assertThat(postIds.getValue()).hasSize(25);
+        assertThat(result.getContent().get(0).getId()).isEqualTo("post-24");
+        assertThat(result.getContent().get(0).getLikeCount()).isEqualTo(60);
+        assertThat(result.getContent().get(0).getCommentCount()).isEqualTo(20);
         verify(postLikeRepository, never()).countByPost_Id(anyString());
         verify(postCommentRepository, never()).countByPost_Id(anyString());
     }
 
+    @Test
+    void laterPagesAreCutFromTheRankedSnapshotWithoutRescanningCandidates() {
+        LocalDateTime now = LocalDateTime.now();
+        User author = user(2L, List.of("books"), 37.56, 126.98, "서울특별시 중구");
+        List<FeedPost> candidates = java.util.stream.IntStream.range(0, 5)
+                .mapToObj(index -> post("snap-" + index, author, List.of("books"), now.minusMinutes(index)))
+                .toList();
+        when(feedPostRepository.findVisibleFeed(
+                viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 500)))
+                .thenReturn(new PageImpl<>(candidates, PageRequest.of(0, 500), candidates.size()));
+        when(feedPostRepository.findWithAuthorByIdIn(List.of("snap-2", "snap-3")))
+                .thenReturn(List.of(candidates.get(3), candidates.get(2)));
+
+        var firstPage = feedService.getFeed(viewer.getId(), FeedMode.RECOMMENDED, PageRequest.of(0, 2));
+        var secondPage = feedService.getFeed(viewer.getId(), FeedMode.RECOMMENDED, PageRequest.of(1, 2),
+                ((FeedSnapshotPage<?>) firstPage).getSnapshotId());
+
+        assertThat(firstPage.getContent()).extracting("id").containsExactly("snap-0", "snap-1");
+        assertThat(secondPage.getContent()).extracting("id").containsExactly("snap-2", "snap-3");
+        assertThat(secondPage.getTotalElements()).isEqualTo(5);
+        verify(feedPostRepository, times(1)).findVisibleFeed(
+                viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 500));
+        verify(postLikeRepository, times(1))
+                .findLikedPostIds(org.mockito.ArgumentMatchers.eq(viewer.getId()),
+                        org.mockito.ArgumentMatchers.anyList());
+    }
+
+    @Test
+    void laterSnapshotPagesDropPostsBlockedOrHiddenAfterRanking() {
+        LocalDateTime now = LocalDateTime.now();
+        User author = user(2L, List.of("books"), 37.56, 126.98, "서울특별시 중구");
+        User blockedAuthor = user(3L, List.of("books"), 37.56, 126.98, "서울특별시 중구");
+        List<FeedPost> candidates = List.of(
+                post("keep-0", author, List.of("books"), now.minusMinutes(0)),
+                post("keep-1", author, List.of("books"), now.minusMinutes(1)),
+                post("keep-2", author, List.of("books"), now.minusMinutes(2)),
+                post("blocked", blockedAuthor, List.of("books"), now.minusMinutes(3)),
+                post("hidden", author, List.of("books"), now.minusMinutes(4)),
+                post("keep-5", author, List.of("books"), now.minusMinutes(5)));
+        when(feedPostRepository.findVisibleFeed(
+                viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 500)))
+                .thenReturn(new PageImpl<>(candidates, PageRequest.of(0, 500), candidates.size()));
+        var firstPage = feedService.getFeed(viewer.getId(), FeedMode.RECOMMENDED, PageRequest.of(0, 3));
+
+        // The block and the hide commit after the snapshot was ranked.
+        List<String> windowIds = List.of("blocked", "hidden", "keep-5");
+        when(hiddenContentRepository.findTargetIdsIn(viewer.getId(), SafetyTargetType.FEED_POST, windowIds))
+                .thenReturn(List.of("hidden"));
+        when(feedPostRepository.findWithAuthorByIdIn(windowIds))
+                .thenReturn(List.of(candidates.get(3), candidates.get(4), candidates.get(5)));
+        when(blockGraph.existsBetween(viewer.getId(), blockedAuthor.getId())).thenReturn(true);
+        when(blockGraph.existsBetween(viewer.getId(), author.getId())).thenReturn(false);
+
+        var secondPage = feedService.getFeed(viewer.getId(), FeedMode.RECOMMENDED, PageRequest.of(1, 3),
+                ((FeedSnapshotPage<?>) firstPage).getSnapshotId());
+
+        assertThat(firstPage.getContent()).extracting("id").containsExactly("keep-0", "keep-1", "keep-2");
+        assertThat(secondPage.getContent()).extracting("id").containsExactly("keep-5");
+        verify(feedPostRepository, times(1)).findVisibleFeed(
+                viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 500));
+    }
+
+    @Test
+    void staleSnapshotCursorRanksAgain() {
+        when(feedPostRepository.findVisibleFeed(
+                viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 500)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 500), 0));
+
+        feedService.getFeed(viewer.getId(), FeedMode.NEARBY, PageRequest.of(0, 20));
+        feedService.getFeed(viewer.getId(), FeedMode.NEARBY, PageRequest.of(1, 20), "expired-snapshot");
+
+        verify(feedPostRepository, times(2)).findVisibleFeed(
+                viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 500));
+    }
+
     @Test
     void recommendationTotalIsTheBoundedCandidateUniverseAndExtremeOffsetIsEmpty() {
         LocalDateTime now = LocalDateTime.now();
@@ -161,6 +244,33 @@ class FeedServiceRecommendationTest {
         assertThat(result.getTotalElements()).isEqualTo(500);
     }
 
+    @Test
+    void latestCursorFeedUsesKeysetSlicesWithoutACountQuery() {
+        LocalDateTime now = LocalDateTime.now();
+        User author = user(2L, List.of("books"), 37.56, 126.98, "서울특별시 중구");
+        FeedPost newest = post("newest", author, List.of("books"), now);
+        FeedPost older = post("older", author, List.of("books"), now.minusHours(1));
+        when(feedPostRepository.findVisibleFeedSlice(
+                viewer.getId(), SafetyTargetType.FEED_POST, PageRequest.of(0, 2)))
+                .thenReturn(List.of(newest, older));
+        when(feedPostRepository.findVisibleFeedSliceBefore(
+                viewer.getId(), SafetyTargetType.FEED_POST, newest.getCreatedAt(), "newest", PageRequest.of(0, 2)))
+                .thenReturn(List.of(older));
+
+        var first = feedService.getLatestFeed(viewer.getId(), null, 1);
+        var second = feedService.getLatestFeed(viewer.getId(), first.nextCursor(), 1);
+
+        assertThat(first.content()).extracting("id").containsExactly("newest");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.content().get(0).getRecommendationReasons()).containsExactly("RECENT");
+        assertThat(second.content()).extracting("id").containsExactly("older");
+        assertThat(second.hasNext()).isFalse();
+        verify(feedPostRepository, never()).findVisibleFeed(
+                org.mockito.ArgumentMatchers.anyLong(),
+                org.mockito.ArgumentMatchers.any(),
+                org.mockito.ArgumentMatchers.any(PageRequest.class));
+    }
+
     @Test
     void latestFeedRejectsAnUnsupportedDatabaseOffsetBeforeCallingTheRepository() {
         var result = feedService.getFeed(
@@ -11,7 +11,6 @@ import com.talkwithneighbors.entity.User;
 import com.talkwithneighbors.exception.ChatException;
 import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.repository.UserRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.MeetupWaitlistRepository;
 import com.talkwithneighbors.repository.ChatScheduleRepository;
 import com.talkwithneighbors.repository.ChatScheduleRsvpRepository;
@@ -55,7 +54,7 @@ class HobbyMeetupServiceTest {
     private DomainEventPublisher domainEventPublisher;
 
     @Mock
-    private UserBlockRepository userBlockRepository;
+    private BlockGraph blockGraph;
 
     @Mock
     private MeetupWaitlistRepository meetupWaitlistRepository;
@@ -12,7 +12,6 @@ import com.talkwithneighbors.exception.MatchingException;
 import com.talkwithneighbors.repository.MatchRepository;
 import com.talkwithneighbors.repository.MatchingPreferencesRepository;
 import com.talkwithneighbors.repository.UserRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
 import com.talkwithneighbors.repository.RecommendationFeedbackRepository;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,7 +71,7 @@ class MatchingServiceTest {
     private DomainEventPublisher domainEventPublisher;
 
     @Mock
-    private UserBlockRepository userBlockRepository;
+    private BlockGraph blockGraph;
 
     @Mock
     private RecommendationFeedbackRepository recommendationFeedbackRepository;
@@ -250,6 +249,53 @@ class MatchingServiceTest {
         verify(domainEventPublisher).publish(any(MatchCompletedEvent.class));
     }
 
+    @Test
+    void requesterWithoutALocationDrawsBoundedCandidatesFromInterestBucketsInsteadOfEveryUser() {
+        User requester = user(testUserId, true);
+        requester.setLatitude(0.0);
+        requester.setLongitude(0.0);
+        requester.setInterests(List.of(" Reading", "reading "));
+        User candidate = user(2L, true);
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(requester));
+        when(matchingPreferencesRepository.findByUserId(testUserId)).thenReturn(Optional.empty());
+        when(userRepository.findMatchCandidatesByInterests(any(), eq(testUserId), any()))
+                .thenReturn(List.of(candidate));
+
+        List<MatchProfileDto> recommendations = matchingService.getRecommendations(testUserId);
+
+        assertEquals(1, recommendations.size());
+        assertEquals("2", recommendations.get(0).getId());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<java.util.Collection<String>> interests = ArgumentCaptor.forClass(java.util.Collection.class);
+        ArgumentCaptor<org.springframework.data.domain.Pageable> limit =
+                ArgumentCaptor.forClass(org.springframework.data.domain.Pageable.class);
+        verify(userRepository).findMatchCandidatesByInterests(interests.capture(), eq(testUserId), limit.capture());
+        assertEquals(List.of("reading"), List.copyOf(interests.getValue()));
+        assertEquals(500, limit.getValue().getPageSize());
+        verify(userRepository, times(0)).findAll();
+        verify(userRepository, times(0)).findNearbyUsers(anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void activeMatchesAreExcludedWithOneCounterpartLookupInsteadOfAPairCheckPerCandidate() {
+        User requester = user(testUserId, true);
+        requester.setLatitude(0.0);
+        requester.setLongitude(0.0);
+        User matched = user(2L, true);
+        User fresh = user(3L, true);
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(requester));
+        when(matchingPreferencesRepository.findByUserId(testUserId)).thenReturn(Optional.empty());
+        when(userRepository.findMatchCandidatesByInterests(any(), eq(testUserId), any()))
+                .thenReturn(List.of(matched, fresh));
+        when(matchRepository.findCounterpartIds(eq(testUserId), any())).thenReturn(List.of(2L));
+
+        List<MatchProfileDto> recommendations = matchingService.getRecommendations(testUserId);
+
+        assertEquals(List.of("3"), recommendations.stream().map(MatchProfileDto::getId).toList());
+        verify(matchRepository, times(1)).findCounterpartIds(eq(testUserId), any());
+        verify(matchRepository, times(0)).existsActiveMatchBetween(any(), any(), any());
+    }
+
     private User user(Long id, boolean completeProfile) {
         User user = new User();
         user.setId(id);
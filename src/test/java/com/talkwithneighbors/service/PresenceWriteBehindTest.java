@@ -0,0 +1,50 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceWriteBehindTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    @InjectMocks
+    PresenceWriteBehind presenceWriteBehind;
+
+    @Test
+    void flushWritesOnlyEachUsersLatestStateInBulk() {
+        presenceWriteBehind.markOnline(1L);
+        presenceWriteBehind.markOnline(2L);
+        presenceWriteBehind.markOnline(1L);
+        presenceWriteBehind.markOffline(2L);
+        presenceWriteBehind.markOffline(3L);
+
+        presenceWriteBehind.flush();
+
+        verify(userRepository).markOnline(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(userRepository).markOffline(org.mockito.ArgumentMatchers.argThat(
+                (java.util.Collection<Long> ids) -> ids.size() == 2 && ids.containsAll(List.of(2L, 3L))));
+        assertThat(presenceWriteBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    void emptyFlushDoesNotTouchTheDatabase() {
+        presenceWriteBehind.flush();
+
+        verifyNoInteractions(userRepository);
+    }
+}
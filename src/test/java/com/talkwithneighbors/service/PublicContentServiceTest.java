@@ -2,6 +2,7 @@ package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.dto.publiccontent.PublicFeedPostDto;
 import com.talkwithneighbors.dto.publiccontent.PublicMeetupDto;
+import com.talkwithneighbors.dto.feed.FeedCursor;
 import com.talkwithneighbors.dto.feed.FeedMode;
 import com.talkwithneighbors.entity.ChatRoom;
 import com.talkwithneighbors.entity.ChatRoomStatus;
@@ -9,11 +10,8 @@ import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.FeedPost;
 import com.talkwithneighbors.entity.User;
 import com.talkwithneighbors.entity.UserAccountType;
-import com.talkwithneighbors.repository.PostCommentRepository;
-import com.talkwithneighbors.repository.PostLikeRepository;
 import com.talkwithneighbors.repository.publiccontent.PublicFeedPostRepository;
 import com.talkwithneighbors.repository.publiccontent.PublicMeetupRepository;
-import com.talkwithneighbors.repository.projection.PostEngagementCount;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -22,6 +20,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,8 +33,6 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.anyList;
 
 @ExtendWith(MockitoExtension.class)
 class PublicContentServiceTest {
@@ -42,25 +40,19 @@ class PublicContentServiceTest {
     @Mock
     PublicFeedPostRepository feedPostRepository;
 
-    @Mock
-    PostCommentRepository postCommentRepository;
-
     @Mock
     PublicMeetupRepository meetupRepository;
 
-    @Mock
-    PostLikeRepository postLikeRepository;
+    PublicFeedRankingCache rankingCache = new PublicFeedRankingCache(Duration.ofSeconds(30), Clock.systemUTC());
 
     @Test
-    void anonymizesMemberFeedPostsAndUsesRealEngagementCounts() {
+    void anonymizesMemberFeedPostsAndUsesMaterializedEngagementCounts() {
         PageRequest pageable = PageRequest.of(0, 20);
         FeedPost post = post("post-1", member(), true);
+        post.setLikeCount(3L);
+        post.setCommentCount(2L);
         when(feedPostRepository.findPublicFeed(PageRequest.of(0, 500)))
                 .thenReturn(new PageImpl<>(List.of(post), PageRequest.of(0, 500), 1));
-        when(postLikeRepository.countByPostIds(List.of("post-1")))
-                .thenReturn(List.of(new PostEngagementCount("post-1", 3L)));
-        when(postCommentRepository.countByPostIds(List.of("post-1")))
-                .thenReturn(List.of(new PostEngagementCount("post-1", 2L)));
 
         PublicFeedPostDto result = service().getFeed(pageable).getContent().get(0);
 
@@ -102,7 +94,7 @@ class PublicContentServiceTest {
                 .thenReturn(Page.empty(PageRequest.of(0, 500)));
 
         assertThat(service().getFeed(pageable).getContent()).isEmpty();
-        verifyNoInteractions(postLikeRepository, postCommentRepository);
+        verifyNoInteractions(meetupRepository);
     }
 
     @Test
@@ -119,6 +111,42 @@ class PublicContentServiceTest {
         verify(feedPostRepository).findPublicFeed(pageable);
     }
 
+    @Test
+    void latestCursorFeedReadsOneExtraRowInsteadOfCountingAndResumesAfterTheLastPost() {
+        FeedPost newest = post("newest", member(), true);
+        FeedPost middle = post("middle", member(), true);
+        FeedPost oldest = post("oldest", member(), true);
+        when(feedPostRepository.findPublicFeedSlice(PageRequest.of(0, 3)))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        var first = service().getLatestFeed(null, 2);
+
+        assertThat(first.content()).extracting("id").containsExactly("newest", "middle");
+        assertThat(first.hasNext()).isTrue();
+        FeedCursor cursor = FeedCursor.decode(first.nextCursor());
+        assertThat(cursor.postId()).isEqualTo("middle");
+        assertThat(cursor.createdAt()).isEqualTo(middle.getCreatedAt());
+
+        when(feedPostRepository.findPublicFeedSliceBefore(
+                middle.getCreatedAt(), "middle", PageRequest.of(0, 3)))
+                .thenReturn(List.of(oldest));
+
+        var second = service().getLatestFeed(first.nextCursor(), 2);
+
+        assertThat(second.content()).extracting("id").containsExactly("oldest");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        verify(feedPostRepository, never()).findPublicFeed(org.mockito.ArgumentMatchers.any());
+    }
+
+    @Test
+    void malformedCursorIsABadRequestBeforeRepositoryAccess() {
+        assertThatThrownBy(() -> service().getLatestFeed("not a cursor!", 20))
+                .isInstanceOf(com.talkwithneighbors.exception.MatchingException.class);
+
+        verifyNoInteractions(feedPostRepository);
+    }
+
     @Test
     void nearbyPublicModeUsesOnlyRequestScopedCoarseRegion() {
         PageRequest pageable = PageRequest.of(0, 20);
@@ -141,20 +169,43 @@ class PublicContentServiceTest {
     }
 
     @Test
-    void publicCandidateEngagementUsesTwoBatchQueriesInsteadOfPerPostCounts() {
+    void publicCandidateRankingReadsCountersFromTheCandidateRowsOnly() {
         PageRequest pageable = PageRequest.of(0, 20);
         List<FeedPost> candidates = java.util.stream.IntStream.range(0, 25)
                 .mapToObj(index -> post("public-" + index, member(), true))
                 .toList();
+        candidates.get(24).setLikeCount(40L);
+        candidates.get(24).setCommentCount(12L);
         when(feedPostRepository.findPublicFeed(PageRequest.of(0, 500)))
                 .thenReturn(new PageImpl<>(candidates, PageRequest.of(0, 500), candidates.size()));
 
-        service().getFeed(FeedMode.RECOMMENDED, null, pageable);
+        var result = service().getFeed(FeedMode.RECOMMENDED, null, pageable);
 
-        verify(postLikeRepository, times(1)).countByPostIds(anyList());
-        verify(postCommentRepository, times(1)).countByPostIds(anyList());
-        verify(postLikeRepository, never()).countByPost_Id(anyString());
-        verify(postCommentRepository, never()).countByPost_Id(anyString());
+        assertThat(result.getContent().get(0).id()).isEqualTo("public-24");
+        assertThat(result.getContent().get(0).likeCount()).isEqualTo(40);
+        verify(feedPostRepository, times(1)).findPublicFeed(PageRequest.of(0, 500));
+        verifyNoInteractions(meetupRepository);
+    }
+
+    @Test
+    void anonymousVisitorsShareOneRankingPerModeAndCanonicalRegion() {
+        FeedPost post = post("shared", member(), true);
+        when(feedPostRepository.findPublicFeed(PageRequest.of(0, 500)))
+                .thenReturn(new PageImpl<>(List.of(post), PageRequest.of(0, 500), 1));
+        PublicContentService service = service();
+
+        service.getFeed(FeedMode.NEARBY, "서울특별시 중구", PageRequest.of(0, 20));
+        var secondVisitor = service.getFeed(FeedMode.NEARBY, "  서울특별시   중구 ", PageRequest.of(0, 20));
+        service.getFeed(FeedMode.RECOMMENDED, null, PageRequest.of(0, 20));
+        service.getFeed(FeedMode.RECOMMENDED, "  ", PageRequest.of(0, 20));
+
+        assertThat(secondVisitor.getContent()).extracting("id").containsExactly("shared");
+        verify(feedPostRepository, times(2)).findPublicFeed(PageRequest.of(0, 500));
+
+        rankingCache.invalidateAll();
+        service.getFeed(FeedMode.RECOMMENDED, null, PageRequest.of(0, 20));
+
+        verify(feedPostRepository, times(3)).findPublicFeed(PageRequest.of(0, 500));
     }
 
     @Test
@@ -183,7 +234,7 @@ class PublicContentServiceTest {
 
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isZero();
-        verifyNoInteractions(feedPostRepository, postLikeRepository, postCommentRepository);
+        verifyNoInteractions(feedPostRepository);
     }
 
     @Test
@@ -224,12 +275,7 @@ class PublicContentServiceTest {
     }
 
     private PublicContentService service() {
-        return new PublicContentService(
-                feedPostRepository,
-                postCommentRepository,
-                meetupRepository,
-                postLikeRepository
-        );
+        return new PublicContentService(feedPostRepository, meetupRepository, rankingCache);
     }
 
     private FeedPost post(String id, User author, boolean publicPreview) {
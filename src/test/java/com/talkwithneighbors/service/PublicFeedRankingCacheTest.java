@@ -0,0 +1,99 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.dto.feed.FeedMode;
+import com.talkwithneighbors.dto.publiccontent.PublicFeedPostDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicFeedRankingCacheTest {
+    private final PublicFeedRankingCache cache =
+            new PublicFeedRankingCache(Duration.ofSeconds(30), Clock.systemUTC());
+
+    @Test
+    void concurrentMissesShareOneBuild() throws Exception {
+        CountDownLatch buildStarted = new CountDownLatch(1);
+        CountDownLatch releaseBuild = new CountDownLatch(1);
+        AtomicInteger builds = new AtomicInteger();
+        List<PublicFeedPostDto> ranking = List.of(post("post-1"));
+
+        CompletableFuture<List<PublicFeedPostDto>> first = CompletableFuture.supplyAsync(() ->
+                cache.get(FeedMode.RECOMMENDED, "", () -> {
+                    builds.incrementAndGet();
+                    buildStarted.countDown();
+                    await(releaseBuild);
+                    return ranking;
+                }));
+        assertThat(buildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<PublicFeedPostDto>> second = CompletableFuture.supplyAsync(() ->
+                cache.get(FeedMode.RECOMMENDED, "", () -> {
+                    builds.incrementAndGet();
+                    return List.of();
+                }));
+
+        releaseBuild.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(ranking);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(ranking);
+        assertThat(builds).hasValue(1);
+    }
+
+    @Test
+    void runningBuildBlocksNeitherOtherKeysNorInvalidationAndIsNotCachedAfterIt() throws Exception {
+        CountDownLatch buildStarted = new CountDownLatch(1);
+        CountDownLatch releaseBuild = new CountDownLatch(1);
+        List<PublicFeedPostDto> staleRanking = List.of(post("removed"));
+
+        CompletableFuture<List<PublicFeedPostDto>> slow = CompletableFuture.supplyAsync(() ->
+                cache.get(FeedMode.RECOMMENDED, "", () -> {
+                    buildStarted.countDown();
+                    await(releaseBuild);
+                    return staleRanking;
+                }));
+        assertThat(buildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cache.get(FeedMode.LATEST, "", () -> List.of(post("latest")))).hasSize(1);
+        cache.invalidateAll();
+        releaseBuild.countDown();
+
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(staleRanking);
+        // The slow build read its rows before the invalidation, so the next reader ranks again.
+        assertThat(cache.get(FeedMode.RECOMMENDED, "", List::of)).isEmpty();
+    }
+
+    @Test
+    void freshRankingIsServedWithoutCallingTheLoaderAgain() {
+        AtomicInteger builds = new AtomicInteger();
+
+        cache.get(FeedMode.NEARBY, "서울특별시", () -> {
+            builds.incrementAndGet();
+            return List.of(post("post-1"));
+        });
+        List<PublicFeedPostDto> cached = cache.get(FeedMode.NEARBY, "서울특별시", () -> {
+            builds.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(cached).hasSize(1);
+        assertThat(builds).hasValue(1);
+    }
+
+    private static PublicFeedPostDto post(String id) {
+        return new PublicFeedPostDto(id, "이웃", null, List.of(), "", List.of(), null, null, 0, 0, false);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
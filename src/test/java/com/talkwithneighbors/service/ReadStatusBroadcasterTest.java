@@ -0,0 +1,90 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.dto.notification.ReadCursorUpdate;
+import com.talkwithneighbors.repository.ChatRoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadStatusBroadcasterTest {
+
+    @Mock
+    ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    NotificationService notificationService;
+
+    @Mock
+    ChatNotificationDispatcher notificationDispatcher;
+
+    @InjectMocks
+    ReadStatusBroadcaster broadcaster;
+
+    @Test
+    void flushSendsEachReadersNewestMarkOncePerRoom() {
+        LocalDateTime noon = LocalDateTime.of(2026, 10, 16, 12, 0);
+        broadcaster.record("room-1", 2L, "message-3", noon.plusSeconds(3));
+        broadcaster.record("room-1", 2L, "message-1", noon.plusSeconds(1));
+        broadcaster.record("room-1", 2L, "message-5", noon.plusSeconds(5));
+        broadcaster.record("room-1", 3L, "message-4", noon.plusSeconds(4));
+        when(chatRoomRepository.findParticipantIds("room-1")).thenReturn(List.of(1L, 2L, 3L));
+        runReadStatusLaneInline();
+
+        broadcaster.flush();
+
+        verify(notificationDispatcher, times(1)).submitReadStatus(any());
+        verify(chatRoomRepository, times(1)).findParticipantIds("room-1");
+        verify(notificationService).sendReadCursorUpdates(
+                eq("room-1"),
+                eq(List.of(1L, 2L, 3L)),
+                org.mockito.ArgumentMatchers.argThat((List<ReadCursorUpdate> reads) -> reads.size() == 2
+                        && reads.containsAll(List.of(
+                                new ReadCursorUpdate(2L, "message-5", noon.plusSeconds(5)),
+                                new ReadCursorUpdate(3L, "message-4", noon.plusSeconds(4))))));
+        assertThat(broadcaster.pendingCount()).isZero();
+    }
+
+    @Test
+    void emptyFlushDoesNotLoadRooms() {
+        broadcaster.flush();
+
+        verifyNoInteractions(chatRoomRepository, notificationService, notificationDispatcher);
+    }
+
+    @Test
+    void aFailedRoomDoesNotBlockOtherRooms() {
+        LocalDateTime noon = LocalDateTime.of(2026, 10, 16, 12, 0);
+        broadcaster.record("room-1", 2L, "message-1", noon);
+        broadcaster.record("room-2", 2L, "message-2", noon);
+        when(chatRoomRepository.findParticipantIds(any()))
+                .thenThrow(new IllegalStateException("gone"))
+                .thenReturn(List.of(2L));
+        runReadStatusLaneInline();
+
+        broadcaster.flush();
+
+        verify(notificationService, times(1)).sendReadCursorUpdates(any(), eq(List.of(2L)), any());
+    }
+
+    private void runReadStatusLaneInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        }).when(notificationDispatcher).submitReadStatus(any());
+    }
+}
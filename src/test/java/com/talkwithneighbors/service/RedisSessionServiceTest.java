@@ -1,6 +1,7 @@
 package com.talkwithneighbors.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talkwithneighbors.domain.event.SessionRevokedEvent;
 import com.talkwithneighbors.repository.UserRepository;
 import com.talkwithneighbors.repository.UserSessionRepository;
 import com.talkwithneighbors.entity.Session;
@@ -8,15 +9,22 @@ import com.talkwithneighbors.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.core.RedisTemplate;
-import com.talkwithneighbors.websocket.AuthenticatedWebSocketSessionRegistry;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -25,21 +33,28 @@ class RedisSessionServiceTest {
 
     private RedisTemplate<String, String> redisTemplate;
     private UserSessionRepository userSessionRepository;
-    private AuthenticatedWebSocketSessionRegistry webSocketSessions;
+    private UserRepository userRepository;
+    private PresenceWriteBehind presenceWriteBehind;
+    private UserOnlineStatusListener userOnlineStatusListener;
+    private ApplicationEventPublisher eventPublisher;
     private RedisSessionService service;
 
     @BeforeEach
     void setUp() {
         redisTemplate = mock(RedisTemplate.class);
         userSessionRepository = mock(UserSessionRepository.class);
-        webSocketSessions = mock(AuthenticatedWebSocketSessionRegistry.class);
+        userRepository = mock(UserRepository.class);
+        presenceWriteBehind = mock(PresenceWriteBehind.class);
+        userOnlineStatusListener = mock(UserOnlineStatusListener.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
         service = new RedisSessionService(
                 redisTemplate,
                 new ObjectMapper(),
                 userSessionRepository,
-                mock(UserRepository.class),
-                mock(UserOnlineStatusListener.class),
-                webSocketSessions
+                userRepository,
+                userOnlineStatusListener,
+                eventPublisher,
+                presenceWriteBehind
         );
     }
 
@@ -54,7 +69,7 @@ class RedisSessionServiceTest {
     }
 
     @Test
-    void expiredDatabaseSessionRevokesItsOpenWebSocketTransports() {
+    void expiredDatabaseSessionRevokesItsOpenWebSocketTransportsAfterCommit() {
         Session expired = new Session();
         expired.setSessionId("expired-session");
         expired.setExpiresAt(LocalDateTime.now().minusMinutes(1));
@@ -64,7 +79,7 @@ class RedisSessionServiceTest {
         assertNull(service.getSession("expired-session"));
 
         verify(userSessionRepository).deleteById("expired-session");
-        verify(webSocketSessions).closeSessionsForCredential("expired-session");
+        verify(eventPublisher).publishEvent(new SessionRevokedEvent("expired-session"));
     }
 
     @Test
@@ -83,6 +98,84 @@ class RedisSessionServiceTest {
         assertEquals(7L, service.getSessionWithoutTouch("read-only-session").getUserId());
 
         verify(userSessionRepository, never()).save(org.mockito.ArgumentMatchers.any(Session.class));
-        verifyNoInteractions(redisTemplate, webSocketSessions);
+        verifyNoInteractions(redisTemplate, eventPublisher);
+    }
+
+    @Test
+    void recentlyTouchedSessionIsServedWithoutWritingTheSessionOrUserRows() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = onlineUser(now.minusSeconds(10));
+        Session session = session("fresh-session", user, now.minusMinutes(1));
+        when(userSessionRepository.findById("fresh-session")).thenReturn(Optional.of(session));
+
+        assertEquals(7L, service.getSession("fresh-session").getUserId());
+
+        verify(userSessionRepository, never()).save(org.mockito.ArgumentMatchers.any(Session.class));
+        verify(userRepository, never()).save(org.mockito.ArgumentMatchers.any(User.class));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void sessionAndPresenceAreRefreshedOnceTheirTouchIntervalsElapse() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = onlineUser(now.minusMinutes(2));
+        Session session = session("stale-touch-session", user, now.minusHours(2));
+        when(userSessionRepository.findById("stale-touch-session")).thenReturn(Optional.of(session));
+
+        assertEquals(7L, service.getSession("stale-touch-session").getUserId());
+
+        verify(userSessionRepository).save(session);
+        verify(presenceWriteBehind).markOnline(7L);
+        verify(userRepository, never()).save(org.mockito.ArgumentMatchers.any(User.class));
+        assertTrue(session.getLastAccessedAt().isAfter(now.minusSeconds(1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onlinePresenceForAWholeRoomIsOneMultiGetWithoutReadingUsers() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.multiGet(List.of("online:1", "online:2", "online:3")))
+                .thenReturn(Arrays.asList("online", null, "online"));
+
+        assertEquals(Set.of(1L, 3L), service.onlineUserIds(List.of(1L, 2L, 3L, 1L)));
+
+        verify(values).multiGet(org.mockito.ArgumentMatchers.anyCollection());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void comingOnlineIsDetectedFromTheRedisKeyAndPersistedThroughTheWriteBehind() {
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent("online:7", "online", 300L, TimeUnit.SECONDS)).thenReturn(true, false);
+
+        service.setUserOnline("7");
+        service.setUserOnline("7");
+
+        verify(userOnlineStatusListener, times(1)).onUserOnline(7L);
+        verify(redisTemplate, times(1)).expire("online:7", 300L, TimeUnit.SECONDS);
+        verify(presenceWriteBehind, times(2)).markOnline(7L);
+        verifyNoInteractions(userRepository);
+    }
+
+    private User onlineUser(LocalDateTime lastOnlineAt) {
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("neighbor");
+        user.setEmail("hidden@example.test");
+        user.setIsOnline(true);
+        user.setLastOnlineAt(lastOnlineAt);
+        return user;
+    }
+
+    private Session session(String sessionId, User user, LocalDateTime lastAccessedAt) {
+        Session session = new Session();
+        session.setSessionId(sessionId);
+        session.setUser(user);
+        session.setLastAccessedAt(lastAccessedAt);
+        session.setExpiresAt(lastAccessedAt.plusHours(24));
+        return session;
     }
 }
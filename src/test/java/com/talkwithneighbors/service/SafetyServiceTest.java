@@ -1,7 +1,10 @@
 package com.talkwithneighbors.service;
 
 import com.talkwithneighbors.domain.event.ContentReportedEvent;
+import com.talkwithneighbors.domain.event.HiddenContentChangedEvent;
+import com.talkwithneighbors.domain.event.UserBlockChangedEvent;
 import com.talkwithneighbors.domain.event.UserBlockedEvent;
+import com.talkwithneighbors.dto.safety.ContentVisibilityRequest;
 import com.talkwithneighbors.dto.safety.CreateReportRequest;
 import com.talkwithneighbors.entity.*;
 import com.talkwithneighbors.exception.MatchingException;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import java.util.Optional;
@@ -20,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +38,7 @@ class SafetyServiceTest {
     @Mock MessageRepository messageRepository;
     @Mock MatchRepository matchRepository;
     @Mock DomainEventPublisher domainEventPublisher;
+    @Mock ApplicationEventPublisher applicationEventPublisher;
     @InjectMocks SafetyService safetyService;
 
     private User currentUser;
@@ -57,6 +63,39 @@ class SafetyServiceTest {
         assertEquals(2L, result.userId());
         verify(matchRepository).expireMatchesBetween(eq(1L), eq(2L), any(), eq(MatchStatus.EXPIRED), any());
         verify(domainEventPublisher).publish(any(UserBlockedEvent.class));
+        verify(applicationEventPublisher).publishEvent(new UserBlockChangedEvent(1L, 2L));
+    }
+
+    @Test
+    void unblockingPublishesBlockGraphInvalidationOnlyWhenABlockIsRemoved() {
+        UserBlock block = new UserBlock(currentUser, targetUser);
+        when(userBlockRepository.findByBlocker_IdAndBlocked_Id(1L, 2L))
+                .thenReturn(Optional.of(block), Optional.empty());
+
+        safetyService.unblockUser(1L, 2L);
+        safetyService.unblockUser(1L, 2L);
+
+        verify(userBlockRepository).delete(block);
+        verify(applicationEventPublisher, times(1)).publishEvent(new UserBlockChangedEvent(1L, 2L));
+    }
+
+    @Test
+    void hidingAndUnhidingPublishSnapshotEvictionOnlyWhenVisibilityChanges() {
+        HiddenContent hidden = new HiddenContent(currentUser, SafetyTargetType.FEED_POST, "post-1");
+        when(feedPostRepository.existsById("post-1")).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(currentUser));
+        when(hiddenContentRepository.findByUser_IdAndTargetTypeAndTargetId(
+                1L, SafetyTargetType.FEED_POST, "post-1"))
+                .thenReturn(Optional.empty(), Optional.of(hidden), Optional.of(hidden), Optional.empty());
+
+        safetyService.hide(1L, new ContentVisibilityRequest(SafetyTargetType.FEED_POST, "post-1"));
+        safetyService.hide(1L, new ContentVisibilityRequest(SafetyTargetType.FEED_POST, "post-1"));
+        safetyService.unhide(1L, SafetyTargetType.FEED_POST, "post-1");
+        safetyService.unhide(1L, SafetyTargetType.FEED_POST, "post-1");
+
+        verify(hiddenContentRepository).save(any(HiddenContent.class));
+        verify(hiddenContentRepository).delete(hidden);
+        verify(applicationEventPublisher, times(2)).publishEvent(new HiddenContentChangedEvent(1L));
     }
 
     @Test
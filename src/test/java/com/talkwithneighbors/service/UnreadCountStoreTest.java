@@ -0,0 +1,119 @@
+package com.talkwithneighbors.service;
+
+import com.talkwithneighbors.entity.Message;
+import com.talkwithneighbors.repository.MessageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountStoreTest {
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    MessageRepository messageRepository;
+
+    @InjectMocks
+    UnreadCountStore store;
+
+    @Test
+    void countsAreReadWithOneHashLookupAndOnlyMissingRoomsAreCounted() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("unread:1", List.of("room-a", "room-b")))
+                .thenReturn(Arrays.asList("4", null));
+        when(messageRepository.countVisibleUnreadMessages("room-b", 1L, Message.MessageType.SCHEDULE))
+                .thenReturn(2L);
+        when(redisTemplate.execute(
+                ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("unread:1")),
+                eq("room-b"), eq("2"), eq(Long.toString(UnreadCountStore.TTL_SECONDS))))
+                .thenReturn(2L);
+
+        Map<String, Long> counts = store.countsFor(1L, List.of("room-a", "room-b"));
+
+        assertEquals(Map.of("room-a", 4L, "room-b", 2L), counts);
+        verify(messageRepository, never()).countVisibleUnreadMessages(
+                eq("room-a"), any(), any());
+    }
+
+    @Test
+    void roomCountsForManyMembersShareOnePipelineAndSeedOnlyMissingMembers() {
+        when(redisTemplate.executePipelined(ArgumentMatchers.<SessionCallback<Object>>any()))
+                .thenReturn(Arrays.asList("4", null));
+        when(messageRepository.countVisibleUnreadMessages("room-a", 2L, Message.MessageType.SCHEDULE))
+                .thenReturn(2L);
+        when(redisTemplate.execute(
+                ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("unread:2")),
+                eq("room-a"), eq("2"), eq(Long.toString(UnreadCountStore.TTL_SECONDS))))
+                .thenReturn(2L);
+
+        Map<Long, Long> counts = store.countsForMembers("room-a", List.of(1L, 2L));
+
+        assertEquals(Map.of(1L, 4L, 2L, 2L), counts);
+        verify(messageRepository, never()).countVisibleUnreadMessages(eq("room-a"), eq(1L), any());
+    }
+
+    @Test
+    void countsFallBackToTheDatabaseWithoutRedis() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(anyString(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(messageRepository.countVisibleUnreadMessages("room-a", 1L, Message.MessageType.SCHEDULE))
+                .thenReturn(3L);
+
+        assertEquals(3L, store.countFor(1L, "room-a"));
+    }
+
+    @Test
+    void readsSubtractFromAnExistingCounter() {
+        when(redisTemplate.execute(
+                ArgumentMatchers.<RedisScript<List>>any(), eq(List.of("unread:1")), eq("room-a"), eq("-3")))
+                .thenReturn(List.of(1L));
+
+        assertEquals(1L, store.recordRead(1L, "room-a", 3, false));
+        verify(messageRepository, never()).countVisibleUnreadMessages(anyString(), any(), any());
+    }
+
+    @Test
+    void aReadThatCatchesUpDropsTheCounterSoALateIncrementCannotLeaveItStale() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(messageRepository.countVisibleUnreadMessages("room-a", 1L, Message.MessageType.SCHEDULE))
+                .thenReturn(0L);
+
+        assertEquals(0L, store.recordRead(1L, "room-a", 3, true));
+        verify(hashOperations).delete("unread:1", "room-a");
+        verify(redisTemplate, never()).execute(
+                ArgumentMatchers.<RedisScript<List>>any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    void newMessagesOnlyAdjustCountersThatAlreadyExist() {
+        store.recordMessage("room-a", List.of(2L, 3L));
+
+        verify(redisTemplate).execute(
+                ArgumentMatchers.<RedisScript<List>>any(), eq(List.of("unread:2", "unread:3")), eq("room-a"), eq("1"));
+    }
+}
@@ -1,25 +1,30 @@
 package com.talkwithneighbors.service.impl;
 
 import com.talkwithneighbors.dto.MessageDto;
+import com.talkwithneighbors.dto.MessageHistoryPage;
 import com.talkwithneighbors.entity.ChatRoom;
 import com.talkwithneighbors.entity.Message;
 import com.talkwithneighbors.entity.User;
 import com.talkwithneighbors.entity.ChatRoomType;
 import com.talkwithneighbors.entity.MeetupTimeBasis;
+import com.talkwithneighbors.domain.event.ChatMessagesReadEvent;
 import com.talkwithneighbors.domain.event.ChatRoomDeletedEvent;
 import com.talkwithneighbors.domain.event.MediaFilesDeletedEvent;
 import com.talkwithneighbors.exception.ChatException;
 import com.talkwithneighbors.outbox.DomainEventPublisher;
+import com.talkwithneighbors.entity.ChatRoomReadCursor;
 import com.talkwithneighbors.repository.ChatRoomDeletionRepository;
+import com.talkwithneighbors.repository.ChatRoomReadCursorRepository;
 import com.talkwithneighbors.repository.ChatRoomRepository;
 import com.talkwithneighbors.repository.MessageRepository;
 import com.talkwithneighbors.repository.MeetupWaitlistRepository;
-import com.talkwithneighbors.repository.UserBlockRepository;
+import com.talkwithneighbors.service.BlockGraph;
 import com.talkwithneighbors.repository.UserRepository;
 import com.talkwithneighbors.repository.ChatScheduleRepository;
 import com.talkwithneighbors.repository.ChatScheduleRsvpRepository;
 import com.talkwithneighbors.entity.ChatScheduleStatus;
 import com.talkwithneighbors.service.NotificationService;
+import com.talkwithneighbors.service.UnreadCountStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -27,6 +32,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.context.ApplicationEventPublisher;
@@ -39,9 +45,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,11 +94,17 @@ class ChatServiceImplTest {
     private ChatScheduleRsvpRepository chatScheduleRsvpRepository;
 
     @Mock
-    private UserBlockRepository userBlockRepository;
+    private BlockGraph blockGraph;
 
     @Mock
     private MeetupWaitlistRepository meetupWaitlistRepository;
 
+    @Mock
+    private ChatRoomReadCursorRepository readCursorRepository;
+
+    @Mock
+    private UnreadCountStore unreadCountStore;
+
     @InjectMocks
     private ChatServiceImpl chatService;
 
@@ -127,6 +148,10 @@ class ChatServiceImplTest {
         return user;
     }
 
+    private List<Long> participantIdsOf(ChatRoom room) {
+        return room.getParticipants().stream().map(User::getId).toList();
+    }
+
     private ChatRoom createChatRoom(String id, User creator, Set<User> participants) {
         ChatRoom room = new ChatRoom();
         room.setId(id);
@@ -144,101 +169,141 @@ class ChatServiceImplTest {
         message.setSender(sender);
         message.setContent("Hello!");
         message.setCreatedAt(LocalDateTime.now());
-        message.setReadByUsers(new HashSet<>());
-        message.getReadByUsers().add(sender.getId());
         return message;
     }
 
 
     @Test
-    void testGetMessagesByRoomId_whenUserNotParticipant_shouldThrowChatException() {
+    void testGetMessageHistory_whenUserNotParticipant_shouldThrowChatException() {
         User requestingUser = createUser(testUserIdLong, "requestingUser");
         User otherUser = createUser(3L, "otherUser");
         ChatRoom testRoom = createChatRoom(testRoomId, otherUser, new HashSet<>(List.of(otherUser)));
 
         when(userRepository.findById(testUserIdLong)).thenReturn(Optional.of(requestingUser));
         when(chatRoomRepository.findById(testRoomId)).thenReturn(Optional.of(testRoom));
+        when(chatRoomRepository.findParticipantIds(testRoomId)).thenReturn(participantIdsOf(testRoom));
 
         ChatException exception = assertThrows(ChatException.class, () -> {
-            chatService.getMessagesByRoomId(testRoomId, testUserIdString, pageable);
+            chatService.getMessageHistory(testRoomId, testUserIdString, null, 20);
         });
 
         assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
         assertTrue(exception.getMessage().startsWith("Access denied to chat room"));
         verify(userRepository).findById(testUserIdLong);
         verify(chatRoomRepository).findById(testRoomId);
+        verify(chatRoomRepository).findParticipantIds(testRoomId);
         verifyNoInteractions(messageRepository);
     }
 
     @Test
-    void testGetMessagesByRoomId_whenUserIsParticipant_shouldReturnMessages() {
+    void testGetMessageHistory_whenUserIsParticipant_shouldReturnNewestMessages() {
         User participantUser = createUser(testUserIdLong, "participantUser");
         ChatRoom testRoom = createChatRoom(testRoomId, participantUser, new HashSet<>(List.of(participantUser)));
 
         Message message1 = createMessage(UUID.randomUUID().toString(), testRoom, participantUser);
-        List<Message> messages = List.of(message1);
-        Page<Message> messagePage = new PageImpl<>(messages, pageable, messages.size());
 
         when(userRepository.findById(testUserIdLong)).thenReturn(Optional.of(participantUser));
         when(chatRoomRepository.findById(testRoomId)).thenReturn(Optional.of(testRoom));
-        when(messageRepository.findVisibleByChatRoomIdOrderByCreatedAtDesc(
-                testRoomId, Message.MessageType.SCHEDULE, pageable)).thenReturn(messagePage);
-        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(chatRoomRepository.findParticipantIds(testRoomId)).thenReturn(participantIdsOf(testRoom));
+        when(messageRepository.findVisibleHistory(
+                testRoomId, Message.MessageType.SCHEDULE, PageRequest.of(0, 21))).thenReturn(List.of(message1));
 
-
-        Page<MessageDto> result = chatService.getMessagesByRoomId(testRoomId, testUserIdString, pageable);
+        MessageHistoryPage result = chatService.getMessageHistory(testRoomId, testUserIdString, null, 20);
 
         assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        assertEquals(message1.getId(), result.getContent().get(0).getId());
-        assertTrue(result.getContent().get(0).isReadByCurrentUser(), "Message should be marked as read by current user");
+        assertEquals(1, result.content().size());
+        assertEquals(message1.getId(), result.content().get(0).getId());
+        assertTrue(result.content().get(0).isReadByCurrentUser(), "The sender has read their own message");
+        assertFalse(result.hasNext());
+        assertNull(result.nextBefore());
 
         verify(userRepository).findById(testUserIdLong);
         verify(chatRoomRepository).findById(testRoomId);
-        verify(messageRepository).findVisibleByChatRoomIdOrderByCreatedAtDesc(
-                testRoomId, Message.MessageType.SCHEDULE, pageable);
+        verify(messageRepository, never()).findCreatedAtInRoom(anyString(), anyString());
     }
-    
+
     @Test
-    void testGetMessagesByRoomId_whenUserIsParticipant_MessageFromAnotherUser_MarkedAsRead() {
+    void testGetMessageHistory_beforeCursorReadsTheOlderKeysetSlice() {
         User currentUser = createUser(testUserIdLong, "currentUser");
         User otherUser = createUser(2L, "otherUser");
         ChatRoom testRoom = createChatRoom(testRoomId, otherUser, new HashSet<>(List.of(currentUser, otherUser)));
+        LocalDateTime beforeCreatedAt = LocalDateTime.of(2026, 10, 17, 9, 0);
+        Message newer = createMessage("older-1", testRoom, otherUser);
+        Message older = createMessage("older-2", testRoom, otherUser);
+        Message oldest = createMessage("older-3", testRoom, otherUser);
 
-        Message messageFromOtherUser = createMessage(UUID.randomUUID().toString(), testRoom, otherUser);
-        messageFromOtherUser.getReadByUsers().remove(currentUser.getId()); 
+        when(userRepository.findById(testUserIdLong)).thenReturn(Optional.of(currentUser));
+        when(chatRoomRepository.findById(testRoomId)).thenReturn(Optional.of(testRoom));
+        when(chatRoomRepository.findParticipantIds(testRoomId)).thenReturn(participantIdsOf(testRoom));
+        when(messageRepository.findCreatedAtInRoom("cursor-message", testRoomId))
+                .thenReturn(Optional.of(beforeCreatedAt));
+        when(messageRepository.findVisibleHistoryBefore(
+                testRoomId, Message.MessageType.SCHEDULE, beforeCreatedAt, "cursor-message", PageRequest.of(0, 3)))
+                .thenReturn(List.of(newer, older, oldest));
+
+        MessageHistoryPage result = chatService.getMessageHistory(testRoomId, testUserIdString, "cursor-message", 2);
+
+        assertEquals(List.of("older-1", "older-2"), result.content().stream().map(MessageDto::getId).toList());
+        assertTrue(result.hasNext());
+        assertEquals("older-2", result.nextBefore());
+        verify(messageRepository, never()).findVisibleHistory(anyString(), any(), any());
+    }
 
-        List<Message> messages = List.of(messageFromOtherUser);
-        Page<Message> messagePage = new PageImpl<>(messages, pageable, messages.size());
+    @Test
+    void testGetMessageHistory_rejectsACursorFromAnotherRoom() {
+        User currentUser = createUser(testUserIdLong, "currentUser");
+        ChatRoom testRoom = createChatRoom(testRoomId, currentUser, new HashSet<>(List.of(currentUser)));
 
         when(userRepository.findById(testUserIdLong)).thenReturn(Optional.of(currentUser));
         when(chatRoomRepository.findById(testRoomId)).thenReturn(Optional.of(testRoom));
-        when(messageRepository.findVisibleByChatRoomIdOrderByCreatedAtDesc(
-                testRoomId, Message.MessageType.SCHEDULE, pageable)).thenReturn(messagePage);
-        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(chatRoomRepository.findParticipantIds(testRoomId)).thenReturn(participantIdsOf(testRoom));
+        when(messageRepository.findCreatedAtInRoom("foreign-message", testRoomId)).thenReturn(Optional.empty());
 
-        Page<MessageDto> result = chatService.getMessagesByRoomId(testRoomId, testUserIdString, pageable);
+        ChatException exception = assertThrows(ChatException.class, () ->
+                chatService.getMessageHistory(testRoomId, testUserIdString, "foreign-message", 20));
 
-        assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        assertTrue(result.getContent().get(0).isReadByCurrentUser());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(messageRepository, never()).findVisibleHistoryBefore(anyString(), any(), any(), anyString(), any());
+    }
+
+    @Test
+    void testGetMessageHistory_doesNotMoveTheReadCursor() {
+        User currentUser = createUser(testUserIdLong, "currentUser");
+        User otherUser = createUser(2L, "otherUser");
+        ChatRoom testRoom = createChatRoom(testRoomId, otherUser, new HashSet<>(List.of(currentUser, otherUser)));
+
+        Message messageFromOtherUser = createMessage(UUID.randomUUID().toString(), testRoom, otherUser);
+        LocalDateTime createdAt = messageFromOtherUser.getCreatedAt();
 
-        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
-        verify(messageRepository).saveAll(captor.capture());
-        List<Message> capturedMessages = captor.getValue();
-        assertFalse(capturedMessages.isEmpty());
-        assertTrue(capturedMessages.get(0).getReadByUsers().contains(currentUser.getId()));
+        when(userRepository.findById(testUserIdLong)).thenReturn(Optional.of(currentUser));
+        when(chatRoomRepository.findById(testRoomId)).thenReturn(Optional.of(testRoom));
+        when(chatRoomRepository.findParticipantIds(testRoomId)).thenReturn(participantIdsOf(testRoom));
+        when(messageRepository.findVisibleHistory(
+                testRoomId, Message.MessageType.SCHEDULE, PageRequest.of(0, 21)))
+                .thenReturn(List.of(messageFromOtherUser));
+        when(readCursorRepository.findByRoomId(testRoomId))
+                .thenReturn(List.of(cursor(testRoomId, testUserIdLong, createdAt.minusMinutes(1))));
+
+        MessageHistoryPage result = chatService.getMessageHistory(testRoomId, testUserIdString, null, 20);
+
+        assertEquals(1, result.content().size());
+        assertFalse(result.content().get(0).isReadByCurrentUser());
+        assertEquals(Set.of(otherUser.getId()), result.content().get(0).getReadByUsers());
+
+        verify(readCursorRepository, never()).findForUpdate(any(), any());
+        verify(messageRepository, never()).countVisibleReadBetween(any(), any(), any(), any(), any());
+        verifyNoInteractions(applicationEventPublisher);
     }
 
 
     @Test
-    void testGetMessagesByRoomId_whenRoomNotFound_shouldThrowChatException() {
+    void testGetMessageHistory_whenRoomNotFound_shouldThrowChatException() {
         User requestingUser = createUser(testUserIdLong, "requestingUser");
         when(userRepository.findById(testUserIdLong)).thenReturn(Optional.of(requestingUser));
         when(chatRoomRepository.findById(testRoomId)).thenReturn(Optional.empty());
 
         ChatException exception = assertThrows(ChatException.class, () -> {
-            chatService.getMessagesByRoomId(testRoomId, testUserIdString, pageable);
+            chatService.getMessageHistory(testRoomId, testUserIdString, null, 20);
         });
 
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
@@ -249,11 +314,11 @@ class ChatServiceImplTest {
     }
 
     @Test
-    void testGetMessagesByRoomId_whenUserNotFound_shouldThrowChatException() {
+    void testGetMessageHistory_whenUserNotFound_shouldThrowChatException() {
         when(userRepository.findById(testUserIdLong)).thenReturn(Optional.empty());
 
         ChatException exception = assertThrows(ChatException.class, () -> {
-            chatService.getMessagesByRoomId(testRoomId, testUserIdString, pageable);
+            chatService.getMessageHistory(testRoomId, testUserIdString, null, 20);
         });
 
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
@@ -264,23 +329,133 @@ class ChatServiceImplTest {
     }
 
     @Test
-    void markMessageAsRead_ShouldUpdateReadByUsers() {
+    void markMessageAsReadAdvancesTheReadCursorInsteadOfSavingTheMessage() {
         User testUser = createUser(1L, "testUser");
-        Message messageToMark = createMessage("msg-id", room, testUser);
-        messageToMark.getReadByUsers().remove(testUser.getId());
+        Message messageToMark = createMessage("msg-id", room, participant);
+        LocalDateTime previousCursor = messageToMark.getCreatedAt().minusMinutes(5);
 
         when(messageRepository.findById("msg-id")).thenReturn(Optional.of(messageToMark));
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(chatRoomRepository.findByIdAndParticipantsContaining(room.getId(), testUser))
                 .thenReturn(Optional.of(room));
-        when(messageRepository.save(any(Message.class))).thenReturn(messageToMark);
+        ChatRoomReadCursor readCursor = cursor(room.getId(), 1L, previousCursor);
+        when(readCursorRepository.findForUpdate(room.getId(), 1L)).thenReturn(Optional.of(readCursor));
+        when(messageRepository.countVisibleReadBetween(
+                room.getId(), 1L, previousCursor, messageToMark.getCreatedAt(), Message.MessageType.SCHEDULE))
+                .thenReturn(2L);
 
         chatService.markMessageAsRead(room.getId(), "msg-id", "1");
 
-        ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
-        verify(messageRepository).save(messageCaptor.capture());
-        Message savedMessage = messageCaptor.getValue();
-        assertTrue(savedMessage.getReadByUsers().contains(testUser.getId()));
+        verify(readCursorRepository).createIfAbsent(
+                eq(room.getId()), eq(1L), eq(ChatRoomReadCursor.NEVER_READ), any());
+        assertEquals(messageToMark.getCreatedAt(), readCursor.getLastReadAt());
+        assertEquals("msg-id", readCursor.getLastReadMessageId());
+        // One read-up-to event replaces a broadcast per newly read message.
+        verify(applicationEventPublisher).publishEvent(new ChatMessagesReadEvent(
+                room.getId(), 1L, "msg-id", messageToMark.getCreatedAt(), 2L, false));
+        verify(messageRepository, never()).save(any());
+    }
+
+    @Test
+    void readingTheNewestMessageMarksTheReadEventAsCaughtUp() {
+        User testUser = createUser(1L, "testUser");
+        Message messageToMark = createMessage("msg-id", room, participant);
+        LocalDateTime previousCursor = messageToMark.getCreatedAt().minusMinutes(5);
+
+        when(messageRepository.findById("msg-id")).thenReturn(Optional.of(messageToMark));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(chatRoomRepository.findByIdAndParticipantsContaining(room.getId(), testUser))
+                .thenReturn(Optional.of(room));
+        when(readCursorRepository.findForUpdate(room.getId(), 1L))
+                .thenReturn(Optional.of(cursor(room.getId(), 1L, previousCursor)));
+        when(messageRepository.countVisibleReadBetween(
+                room.getId(), 1L, previousCursor, messageToMark.getCreatedAt(), Message.MessageType.SCHEDULE))
+                .thenReturn(2L);
+        when(messageRepository.findFirstByChatRoom_IdOrderByCreatedAtDesc(room.getId()))
+                .thenReturn(Optional.of(messageToMark));
+
+        chatService.markMessageAsRead(room.getId(), "msg-id", "1");
+
+        verify(applicationEventPublisher).publishEvent(new ChatMessagesReadEvent(
+                room.getId(), 1L, "msg-id", messageToMark.getCreatedAt(), 2L, true));
+    }
+
+    @Test
+    void concurrentReadsBySameMemberPublishTheReadDeltaOnce() throws Exception {
+        User reader = createUser(1L, "reader");
+        Message messageToMark = createMessage("msg-id", room, participant);
+        LocalDateTime previousCursor = messageToMark.getCreatedAt().minusMinutes(5);
+        // Stands in for the cursor row: findForUpdate holds its lock until the reading thread "commits".
+        AtomicReference<LocalDateTime> committedCursor = new AtomicReference<>(previousCursor);
+        ReentrantLock rowLock = new ReentrantLock();
+        Map<Thread, ChatRoomReadCursor> lockedCursors = new ConcurrentHashMap<>();
+
+        when(messageRepository.findById("msg-id")).thenReturn(Optional.of(messageToMark));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(reader));
+        when(chatRoomRepository.findByIdAndParticipantsContaining(room.getId(), reader))
+                .thenReturn(Optional.of(room));
+        when(readCursorRepository.findForUpdate(room.getId(), 1L)).thenAnswer(invocation -> {
+            rowLock.lock();
+            ChatRoomReadCursor locked = cursor(room.getId(), 1L, committedCursor.get());
+            lockedCursors.put(Thread.currentThread(), locked);
+            return Optional.of(locked);
+        });
+        when(messageRepository.countVisibleReadBetween(
+                room.getId(), 1L, previousCursor, messageToMark.getCreatedAt(), Message.MessageType.SCHEDULE))
+                .thenReturn(2L);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> reads = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                reads.add(readers.submit(() -> {
+                    start.await();
+                    try {
+                        chatService.markMessageAsRead(room.getId(), "msg-id", "1");
+                    } finally {
+                        ChatRoomReadCursor committed = lockedCursors.remove(Thread.currentThread());
+                        if (committed != null) {
+                            committedCursor.set(committed.getLastReadAt());
+                            rowLock.unlock();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> read : reads) {
+                read.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+
+        assertEquals(messageToMark.getCreatedAt(), committedCursor.get());
+        verify(messageRepository).countVisibleReadBetween(
+                room.getId(), 1L, previousCursor, messageToMark.getCreatedAt(), Message.MessageType.SCHEDULE);
+        verify(applicationEventPublisher, times(1)).publishEvent(any(ChatMessagesReadEvent.class));
+    }
+
+    @Test
+    void markAllMessagesAsReadLeavesACursorThatIsAlreadyCaughtUp() {
+        when(userRepository.findById(creator.getId())).thenReturn(Optional.of(creator));
+        when(chatRoomRepository.findByIdAndParticipantsContaining(room.getId(), creator))
+                .thenReturn(Optional.of(room));
+        when(messageRepository.findFirstByChatRoom_IdOrderByCreatedAtDesc(room.getId()))
+                .thenReturn(Optional.of(message));
+        ChatRoomReadCursor readCursor = cursor(room.getId(), creator.getId(), message.getCreatedAt());
+        readCursor.setLastReadMessageId(message.getId());
+        when(readCursorRepository.findForUpdate(room.getId(), creator.getId()))
+                .thenReturn(Optional.of(readCursor));
+
+        chatService.markAllMessagesInRoomAsRead(room.getId(), creator.getId().toString());
+
+        assertEquals(message.getCreatedAt(), readCursor.getLastReadAt());
+        assertEquals(message.getId(), readCursor.getLastReadMessageId());
+        verify(messageRepository, never()).countVisibleReadBetween(any(), any(), any(), any(), any());
+        verify(applicationEventPublisher, never()).publishEvent(any(ChatMessagesReadEvent.class));
+        verifyNoInteractions(notificationService);
     }
 
     @Test
@@ -328,7 +503,7 @@ class ChatServiceImplTest {
                 () -> chatService.getUnreadCount(room.getId(), "9"));
 
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
-        verify(messageRepository, never()).countVisibleUnreadMessages(anyString(), any(), any());
+        verifyNoInteractions(unreadCountStore);
     }
 
     @Test
@@ -336,10 +511,31 @@ class ChatServiceImplTest {
         when(userRepository.findById(creator.getId())).thenReturn(Optional.of(creator));
         when(chatRoomRepository.findByIdAndParticipantsContaining(room.getId(), creator))
                 .thenReturn(Optional.of(room));
-        when(messageRepository.countVisibleUnreadMessages(
-                room.getId(), creator.getId(), Message.MessageType.SCHEDULE)).thenReturn(3L);
+        when(unreadCountStore.countFor(creator.getId(), room.getId())).thenReturn(3L);
 
         assertEquals(3L, chatService.getUnreadCount(room.getId(), creator.getId().toString()));
+        verify(messageRepository, never()).countVisibleUnreadMessages(anyString(), any(), any());
+    }
+
+    @Test
+    void allUnreadCountsAreReadForEveryJoinedRoomAtOnce() {
+        when(chatRoomRepository.findParticipantRoomIds(creator.getId()))
+                .thenReturn(List.of(room.getId(), "other-room"));
+        when(unreadCountStore.countsFor(creator.getId(), List.of(room.getId(), "other-room")))
+                .thenReturn(Map.of(room.getId(), 2L, "other-room", 0L));
+
+        assertEquals(
+                Map.of(room.getId(), 2L, "other-room", 0L),
+                chatService.getAllUnreadCounts(creator.getId().toString()));
+        verify(chatRoomRepository, never()).findParticipantRoomIdsByRecentActivity(any(), any());
+    }
+
+    private ChatRoomReadCursor cursor(String roomId, Long userId, LocalDateTime lastReadAt) {
+        ChatRoomReadCursor cursor = new ChatRoomReadCursor();
+        cursor.setRoomId(roomId);
+        cursor.setUserId(userId);
+        cursor.setLastReadAt(lastReadAt);
+        return cursor;
     }
 
     @Test
@@ -349,7 +545,7 @@ class ChatServiceImplTest {
         room.setParticipants(new HashSet<>(List.of(creator)));
         when(userRepository.findById(outsider.getId())).thenReturn(Optional.of(outsider));
         when(chatRoomRepository.findByIdForUpdate(room.getId())).thenReturn(Optional.of(room));
-        when(userBlockRepository.existsBetween(outsider.getId(), creator.getId())).thenReturn(true);
+        when(blockGraph.existsBetween(outsider.getId(), creator.getId())).thenReturn(true);
 
         ChatException exception = assertThrows(ChatException.class,
                 () -> chatService.joinRoom(room.getId(), outsider.getId().toString()));
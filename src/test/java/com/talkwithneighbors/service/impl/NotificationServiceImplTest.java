@@ -1,57 +1,110 @@
 package com.talkwithneighbors.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talkwithneighbors.dto.notification.ReadCursorUpdate;
+import com.talkwithneighbors.dto.notification.WebSocketNotification;
 import com.talkwithneighbors.entity.ChatRoom;
+import com.talkwithneighbors.entity.Message;
+import com.talkwithneighbors.entity.OfflineNotification;
 import com.talkwithneighbors.entity.User;
-import com.talkwithneighbors.repository.ChatRoomRepository;
-import com.talkwithneighbors.repository.MessageRepository;
 import com.talkwithneighbors.service.OfflineNotificationService;
 import com.talkwithneighbors.service.RedisSessionService;
+import com.talkwithneighbors.service.UnreadCountStore;
+import com.talkwithneighbors.websocket.UserDestinationMulticaster;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
-import java.util.LinkedHashSet;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class NotificationServiceImplTest {
 
     @Test
-    void readStatusIsDeliveredOnlyToParticipantUserQueues() {
+    void readCursorsAreDeliveredAsOneFramePerParticipantUserQueue() {
         SimpMessagingTemplate messaging = mock(SimpMessagingTemplate.class);
-        ChatRoomRepository rooms = mock(ChatRoomRepository.class);
-        ChatRoom room = new ChatRoom();
-        room.setId("room-1");
-        User first = user(1L);
-        User second = user(2L);
-        room.setParticipants(new LinkedHashSet<>(java.util.List.of(first, second)));
-        when(rooms.findById("room-1")).thenReturn(Optional.of(room));
-
+        UserDestinationMulticaster multicaster = mock(UserDestinationMulticaster.class);
         NotificationServiceImpl service = new NotificationServiceImpl(
                 messaging,
-                mock(MessageRepository.class),
-                rooms,
+                mock(UnreadCountStore.class),
                 mock(RedisSessionService.class),
                 mock(OfflineNotificationService.class),
-                new ObjectMapper()
+                new ObjectMapper(),
+                multicaster
         );
+        List<ReadCursorUpdate> reads = List.of(
+                new ReadCursorUpdate(2L, "message-9", LocalDateTime.of(2026, 10, 16, 12, 0)),
+                new ReadCursorUpdate(3L, "message-7", LocalDateTime.of(2026, 10, 16, 11, 58)));
 
-        service.sendMessageReadStatusUpdate("message-1", "room-1", 2L);
+        service.sendReadCursorUpdates("room-1", List.of(1L, 2L, 3L), reads);
 
-        verify(messaging).convertAndSendToUser(eq("1"), eq("/queue/chat/read-status"), any());
-        verify(messaging).convertAndSendToUser(eq("2"), eq("/queue/chat/read-status"), any());
+        ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+        verify(multicaster).convertAndSendToUsers(
+                eq(List.of(1L, 2L, 3L)), eq("/queue/chat/read-status"), frame.capture());
         verify(messaging, never()).convertAndSend(eq("/topic/chat/room/room-1/read-status"), any(Object.class));
+        WebSocketNotification<?> notification = (WebSocketNotification<?>) frame.getValue();
+        assertEquals("MESSAGES_READ_UP_TO", notification.getType());
+        assertEquals(Map.of("chatRoomId", "room-1", "reads", reads), notification.getData());
+    }
+
+    @Test
+    void newMessageFanOutBatchesInboxWritesPushesAndUnreadCounts() {
+        SimpMessagingTemplate messaging = mock(SimpMessagingTemplate.class);
+        UnreadCountStore unreadCountStore = mock(UnreadCountStore.class);
+        RedisSessionService redisSessionService = mock(RedisSessionService.class);
+        OfflineNotificationService offlineNotificationService = mock(OfflineNotificationService.class);
+        UserDestinationMulticaster multicaster = mock(UserDestinationMulticaster.class);
+        NotificationServiceImpl service = new NotificationServiceImpl(
+                messaging, unreadCountStore, redisSessionService, offlineNotificationService,
+                new ObjectMapper(), multicaster);
+        // 1: sender, 2: online outside the room, 3: offline, 4: reading the room
+        User sender = user(1L);
+        ChatRoom room = new ChatRoom();
+        room.setId("room-1");
+        room.setName("Meetup");
+        room.getParticipants().addAll(List.of(sender, user(2L), user(3L), user(4L)));
+        Message message = new Message();
+        message.setId("message-1");
+        message.setSender(sender);
+        message.setContent("hello");
+        message.setCreatedAt(LocalDateTime.of(2026, 10, 16, 12, 0));
+        when(redisSessionService.onlineUserIds(any())).thenReturn(Set.of(1L, 2L, 4L));
+        when(redisSessionService.usersInRoom(any(), eq("room-1"))).thenReturn(Set.of(4L));
+        when(unreadCountStore.countsForMembers("room-1", List.of(2L))).thenReturn(Map.of(2L, 3L));
+
+        service.sendNewMessageNotification(message, room, 1L);
+
+        verify(offlineNotificationService).saveOfflineNotifications(
+                argThat(ids -> Set.copyOf(ids).equals(Set.of(2L, 3L))),
+                eq(OfflineNotification.NotificationType.NEW_MESSAGE),
+                anyString(), anyString(), eq("/chat/room-1"), eq(5));
+        verify(multicaster).convertAndSendToUsers(eq(List.of(2L)), eq("/queue/chat-notifications"), any());
+        verify(offlineNotificationService).markAsDelivered(
+                eq(List.of(2L)), eq(OfflineNotification.NotificationType.NEW_MESSAGE), anyString());
+        ArgumentCaptor<Object> unread = ArgumentCaptor.forClass(Object.class);
+        verify(multicaster).convertAndSendToUsers(eq(List.of(2L)), eq("/queue/chat-updates"), unread.capture());
+        assertEquals(Map.of("chatRoomId", "room-1", "unreadCount", 3L),
+                ((WebSocketNotification<?>) unread.getValue()).getData());
+        verifyNoInteractions(messaging);
     }
 
-    private User user(Long id) {
+    private static User user(Long id) {
         User user = new User();
         user.setId(id);
+        user.setUsername("user-" + id);
         return user;
     }
 }
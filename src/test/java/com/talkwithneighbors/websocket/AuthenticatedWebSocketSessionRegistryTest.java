@@ -1,14 +1,22 @@
 package com.talkwithneighbors.websocket;
 
 import com.talkwithneighbors.handler.CustomHandshakeHandler;
+import com.talkwithneighbors.security.UserSession;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -17,8 +25,7 @@ import static org.mockito.Mockito.when;
 class AuthenticatedWebSocketSessionRegistryTest {
     @Test
     void closesEveryLiveTransportWhenTheApplicationSessionIsRevoked() throws Exception {
-        AuthenticatedWebSocketSessionRegistry registry =
-                new AuthenticatedWebSocketSessionRegistry();
+        AuthenticatedWebSocketSessionRegistry registry = registry();
         WebSocketHandler delegate = mock(WebSocketHandler.class);
         WebSocketHandler decorated = registry.decoratorFactory().decorate(delegate);
         WebSocketSession session = session("transport-1", "cookie-session");
@@ -31,8 +38,7 @@ class AuthenticatedWebSocketSessionRegistryTest {
 
     @Test
     void removesNormallyClosedTransportsFromTheRevocationIndex() throws Exception {
-        AuthenticatedWebSocketSessionRegistry registry =
-                new AuthenticatedWebSocketSessionRegistry();
+        AuthenticatedWebSocketSessionRegistry registry = registry();
         WebSocketHandler delegate = mock(WebSocketHandler.class);
         WebSocketHandler decorated = registry.decoratorFactory().decorate(delegate);
         WebSocketSession session = session("transport-2", "cookie-session");
@@ -44,6 +50,37 @@ class AuthenticatedWebSocketSessionRegistryTest {
         verify(session, never()).close(CloseStatus.POLICY_VIOLATION);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void revocationDropsTheValidatedSessionAndBroadcastsOnlyLocalOrigins() {
+        ValidatedSessionCache cache = new ValidatedSessionCache(Duration.ofMinutes(1), Clock.systemUTC());
+        SessionRevocationRedisRelay relay = mock(SessionRevocationRedisRelay.class);
+        ObjectProvider<SessionRevocationRedisRelay> relayProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<SessionRevocationRedisRelay>>getArgument(0).accept(relay);
+            return null;
+        }).when(relayProvider).ifAvailable(any());
+        AuthenticatedWebSocketSessionRegistry registry =
+                new AuthenticatedWebSocketSessionRegistry(cache, relayProvider);
+        cache.getOrLoad("cookie-session", ignored -> UserSession.of(7L, "neighbor", "n@example.test", "neighbor"));
+        cache.getOrLoad("remote-session", ignored -> UserSession.of(8L, "other", "o@example.test", "other"));
+
+        registry.closeSessionsForCredential("cookie-session");
+        registry.closeLocalSessionsForCredential("remote-session");
+
+        assertEquals(0, cache.size());
+        verify(relay).broadcast("cookie-session");
+        verify(relay, never()).broadcast("remote-session");
+    }
+
+    @SuppressWarnings("unchecked")
+    private AuthenticatedWebSocketSessionRegistry registry() {
+        return new AuthenticatedWebSocketSessionRegistry(
+                new ValidatedSessionCache(Duration.ofMinutes(1), Clock.systemUTC()),
+                mock(ObjectProvider.class)
+        );
+    }
+
     private WebSocketSession session(String id, String credential) {
         WebSocketSession session = mock(WebSocketSession.class);
         Map<String, Object> attributes = new HashMap<>();
@@ -0,0 +1,166 @@
+package com.talkwithneighbors.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StompUserDestinationRelayTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void userDestinationSentOnOneNodeIsReplayedOnTheNodeHoldingTheSession() {
+        StringRedisTemplate redisA = mock(StringRedisTemplate.class);
+        UserNodeRegistry registryA = registry("node-a", Set.of("node-b"));
+        StompUserDestinationRelay nodeA = new StompUserDestinationRelay(
+                redisA, registryA, objectMapper, mock(ObjectProvider.class));
+        SimpMessagingTemplate templateB = mock(SimpMessagingTemplate.class);
+        ObjectProvider<SimpMessagingTemplate> templateProviderB = mock(ObjectProvider.class);
+        when(templateProviderB.getObject()).thenReturn(templateB);
+        StompUserDestinationRelay nodeB = new StompUserDestinationRelay(
+                mock(StringRedisTemplate.class), registry("node-b", Set.of()), objectMapper, templateProviderB);
+        Message<byte[]> sent = userMessage("/user/7/queue/notifications", "{\"type\":\"MATCH\"}");
+
+        Message<?> passedOn = nodeA.preSend(sent, mock(MessageChannel.class));
+
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(redisA).convertAndSend(eq("ws:node:node-b"), envelope.capture());
+        assertSame(sent, passedOn);
+
+        nodeB.onMessage(new DefaultMessage(
+                "ws:node:node-b".getBytes(StandardCharsets.UTF_8),
+                envelope.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        ArgumentCaptor<Message<?>> replayed = ArgumentCaptor.forClass(Message.class);
+        verify(templateB).send(eq("/user/7/queue/notifications"), replayed.capture());
+        assertArrayEquals(sent.getPayload(), (byte[]) replayed.getValue().getPayload());
+        assertEquals(MimeTypeUtils.APPLICATION_JSON,
+                SimpMessageHeaderAccessor.getContentType(replayed.getValue().getHeaders()));
+        assertEquals("node-a", replayed.getValue().getHeaders().get(StompUserDestinationRelay.RELAYED_HEADER));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replayedAndResolvedMessagesAreNotPublishedAgain() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        UserNodeRegistry registry = registry("node-b", Set.of("node-a"));
+        StompUserDestinationRelay relay = new StompUserDestinationRelay(
+                redis, registry, objectMapper, mock(ObjectProvider.class));
+        SimpMessageHeaderAccessor replayedHeaders = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        replayedHeaders.setDestination("/user/7/queue/notifications");
+        replayedHeaders.setHeader(StompUserDestinationRelay.RELAYED_HEADER, "node-a");
+
+        relay.preSend(MessageBuilder.createMessage(new byte[0], replayedHeaders.getMessageHeaders()),
+                mock(MessageChannel.class));
+        relay.preSend(userMessage("/queue/notifications-user1a2b", "{}"), mock(MessageChannel.class));
+
+        verify(registry, never()).remoteUsersByNode(anyCollection());
+        verify(redis, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void usersWithoutRemoteSessionsCostNoPublish() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        StompUserDestinationRelay relay = new StompUserDestinationRelay(
+                redis, registry("node-a", Set.of()), objectMapper, mock(ObjectProvider.class));
+
+        relay.preSend(userMessage("/user/7/queue/chat/room/room-1", "{}"), mock(MessageChannel.class));
+
+        verifyNoInteractions(redis);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void multicastPublishesOneEnvelopePerRemoteNodeAndKeepsLocalCopiesLocal() {
+        StringRedisTemplate redisA = mock(StringRedisTemplate.class);
+        UserNodeRegistry registryA = mock(UserNodeRegistry.class);
+        when(registryA.nodeId()).thenReturn("node-a");
+        when(registryA.remoteUsersByNode(List.of("1", "2", "3")))
+                .thenReturn(Map.of("node-b", List.of("1", "2"), "node-c", List.of("3")));
+        StompUserDestinationRelay nodeA = new StompUserDestinationRelay(
+                redisA, registryA, objectMapper, mock(ObjectProvider.class));
+        SimpMessagingTemplate templateB = mock(SimpMessagingTemplate.class);
+        ObjectProvider<SimpMessagingTemplate> templateProviderB = mock(ObjectProvider.class);
+        when(templateProviderB.getObject()).thenReturn(templateB);
+        StompUserDestinationRelay nodeB = new StompUserDestinationRelay(
+                mock(StringRedisTemplate.class), registry("node-b", Set.of()), objectMapper, templateProviderB);
+        Message<byte[]> encoded = MessageBuilder.withPayload("{}".getBytes(StandardCharsets.UTF_8))
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+
+        Message<?> local = nodeA.relayToUsers(List.of(1L, 2L, 3L), "/queue/chat/room/room-1", encoded);
+
+        verify(registryA, times(1)).remoteUsersByNode(anyCollection());
+        verify(redisA).convertAndSend(eq("ws:node:node-c"), anyString());
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(redisA).convertAndSend(eq("ws:node:node-b"), envelope.capture());
+        assertEquals("node-a", local.getHeaders().get(StompUserDestinationRelay.RELAYED_HEADER));
+        assertSame(encoded.getPayload(), local.getPayload());
+
+        SimpMessageHeaderAccessor localCopy = SimpMessageHeaderAccessor.wrap(local);
+        localCopy.setDestination("/user/1/queue/chat/room/room-1");
+        nodeA.preSend(MessageBuilder.createMessage(local.getPayload(), localCopy.getMessageHeaders()),
+                mock(MessageChannel.class));
+        verify(registryA, times(1)).remoteUsersByNode(anyCollection());
+
+        nodeB.onMessage(new DefaultMessage(
+                "ws:node:node-b".getBytes(StandardCharsets.UTF_8),
+                envelope.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(templateB).send(eq("/user/1/queue/chat/room/room-1"), any(Message.class));
+        verify(templateB).send(eq("/user/2/queue/chat/room/room-1"), any(Message.class));
+        verify(templateB, times(2)).send(anyString(), any(Message.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UserNodeRegistry registry(String nodeId, Set<String> remoteNodes) {
+        UserNodeRegistry registry = mock(UserNodeRegistry.class);
+        when(registry.nodeId()).thenReturn(nodeId);
+        when(registry.remoteUsersByNode(anyCollection())).thenAnswer(invocation -> {
+            List<String> userIds = List.copyOf((Collection<String>) invocation.getArgument(0));
+            return remoteNodes.stream().collect(Collectors.toMap(Function.identity(), node -> userIds));
+        });
+        return registry;
+    }
+
+    private static Message<byte[]> userMessage(String destination, String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
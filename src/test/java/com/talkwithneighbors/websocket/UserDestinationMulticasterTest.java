@@ -0,0 +1,91 @@
+package com.talkwithneighbors.websocket;
+
+import com.talkwithneighbors.dto.MessageDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDestinationMulticasterTest {
+
+    @Test
+    void serializesThePayloadOnceForEveryRecipient() {
+        List<Message<?>> sent = new ArrayList<>();
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+        AtomicInteger conversions = new AtomicInteger();
+        template.setMessageConverter(new MappingJackson2MessageConverter() {
+            @Override
+            public Message<?> toMessage(Object payload, MessageHeaders headers) {
+                conversions.incrementAndGet();
+                return super.toMessage(payload, headers);
+            }
+        });
+        MessageDto message = new MessageDto();
+        message.setId("message-1");
+
+        new UserDestinationMulticaster(template, withoutRelay())
+                .convertAndSendToUsers(List.of(1L, 2L, 3L), "/queue/chat/room/room-1", message);
+
+        assertThat(conversions).hasValue(1);
+        assertThat(sent).extracting(sentMessage -> SimpMessageHeaderAccessor.getDestination(sentMessage.getHeaders()))
+                .containsExactly(
+                        "/user/1/queue/chat/room/room-1",
+                        "/user/2/queue/chat/room/room-1",
+                        "/user/3/queue/chat/room/room-1");
+        assertThat(sent).extracting(Message::getPayload).allSatisfy(
+                payload -> assertThat(payload).isSameAs(sent.get(0).getPayload()));
+        assertThat(new String((byte[]) sent.get(0).getPayload())).contains("\"id\":\"message-1\"");
+    }
+
+    @Test
+    void noRecipientsSkipsSerialization() {
+        List<Message<?>> sent = new ArrayList<>();
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+
+        new UserDestinationMulticaster(template, withoutRelay()).convertAndSendToUsers(List.of(), "/queue/chat-updates", "ignored");
+
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relaysTheRecipientListOnceAndSendsTheMarkedCopyLocally() {
+        List<Message<?>> sent = new ArrayList<>();
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        StompUserDestinationRelay relay = mock(StompUserDestinationRelay.class);
+        when(relay.relayToUsers(eq(List.of(1L, 2L)), eq("/queue/chat-updates"), any(Message.class)))
+                .thenAnswer(invocation -> MessageBuilder.fromMessage(invocation.<Message<?>>getArgument(2))
+                        .setHeader(StompUserDestinationRelay.RELAYED_HEADER, "node-a")
+                        .build());
+        ObjectProvider<StompUserDestinationRelay> relayProvider = mock(ObjectProvider.class);
+        when(relayProvider.getIfAvailable()).thenReturn(relay);
+
+        new UserDestinationMulticaster(template, relayProvider)
+                .convertAndSendToUsers(List.of(1L, 2L), "queue/chat-updates", "update");
+
+        verify(relay).relayToUsers(eq(List.of(1L, 2L)), eq("/queue/chat-updates"), any(Message.class));
+        assertThat(sent).hasSize(2).allSatisfy(sentMessage ->
+                assertThat(sentMessage.getHeaders().get(StompUserDestinationRelay.RELAYED_HEADER)).isEqualTo("node-a"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<StompUserDestinationRelay> withoutRelay() {
+        return mock(ObjectProvider.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.talkwithneighbors.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserNodeRegistryTest {
+    private final Principal user = () -> "7";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void leaseIsTakenOnTheFirstSessionAndReleasedAfterTheLast() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        when(redis.opsForZSet()).thenReturn(zSet);
+        UserNodeRegistry registry = new UserNodeRegistry(redis);
+
+        registry.onSessionConnected(connected("session-1"));
+        registry.onSessionConnected(connected("session-2"));
+        registry.onSessionDisconnected(disconnected("session-1"));
+
+        verify(redis, times(1)).executePipelined(any(SessionCallback.class));
+        verify(zSet, never()).remove(any(), any());
+        assertEquals(1, registry.localUserCount());
+
+        registry.onSessionDisconnected(disconnected("session-2"));
+
+        verify(zSet).remove("ws:user-nodes:7", registry.nodeId());
+        assertEquals(0, registry.localUserCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aNodeThatKnowsNoOtherLiveNodeSkipsTheLeaseLookup() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        UserNodeRegistry registry = new UserNodeRegistry(redis);
+
+        assertEquals(Map.of(), registry.remoteUsersByNode(List.of("7", "8")));
+        verifyNoInteractions(redis);
+
+        when(redis.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(true, 0L, Set.of(registry.nodeId())));
+        registry.heartbeat();
+
+        assertEquals(Map.of(), registry.remoteUsersByNode(List.of("7", "8")));
+        verify(redis, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void remoteLookupGroupsUsersByOtherNodesInOneRoundTrip() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        UserNodeRegistry registry = new UserNodeRegistry(redis);
+        when(redis.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(true, 0L, Set.of(registry.nodeId(), "node-b", "node-c")))
+                .thenReturn(Arrays.asList(
+                        new LinkedHashSet<>(List.of(registry.nodeId(), "node-b")),
+                        Set.of(registry.nodeId()),
+                        new LinkedHashSet<>(List.of("node-b", "node-c")),
+                        Set.of()));
+        registry.heartbeat();
+
+        Map<String, List<String>> usersByNode = registry.remoteUsersByNode(List.of("7", "8", "9", "10"));
+
+        assertEquals(Map.of("node-b", List.of("7", "9"), "node-c", List.of("9")), usersByNode);
+        verify(redis, times(2)).executePipelined(any(SessionCallback.class));
+    }
+
+    private SessionConnectedEvent connected(String sessionId) {
+        return new SessionConnectedEvent(this, message(sessionId), user);
+    }
+
+    private SessionDisconnectEvent disconnected(String sessionId) {
+        return new SessionDisconnectEvent(this, message(sessionId), sessionId, CloseStatus.NORMAL, user);
+    }
+
+    private static Message<byte[]> message(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,52 @@
+package com.talkwithneighbors.websocket;
+
+import com.talkwithneighbors.security.UserSession;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidatedSessionCacheTest {
+
+    private static final UserSession NEIGHBOR = UserSession.of(7L, "neighbor", "n@example.test", "neighbor");
+
+    @Test
+    void heartbeatsWithinTheTtlReuseOneValidationAndRevocationForcesAReload() {
+        ValidatedSessionCache cache = new ValidatedSessionCache(Duration.ofMinutes(1), Clock.systemUTC());
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, UserSession> loader = ignored -> {
+            loads.incrementAndGet();
+            return NEIGHBOR;
+        };
+
+        cache.getOrLoad("cookie-session", loader);
+        cache.getOrLoad("cookie-session", loader);
+        cache.getOrLoad("cookie-session", loader);
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate("cookie-session");
+        cache.getOrLoad("cookie-session", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void missingSessionsAreNotCachedAndALoadRacingARevocationIsDiscarded() {
+        ValidatedSessionCache cache = new ValidatedSessionCache(Duration.ofMinutes(1), Clock.systemUTC());
+
+        assertThat(cache.getOrLoad("expired-session", ignored -> null)).isNull();
+        assertThat(cache.size()).isZero();
+
+        UserSession loaded = cache.getOrLoad("cookie-session", credential -> {
+            cache.invalidate(credential);
+            return NEIGHBOR;
+        });
+
+        assertThat(loaded).isSameAs(NEIGHBOR);
+        assertThat(cache.size()).isZero();
+    }
+}